@@ -0,0 +1,64 @@
+package com.jammit_be.auth.util;
+
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtFilter 한 번의 인증에서 발생하는 토큰 검증 비용 비교 (초당 처리 토큰 수)
+ * legacy: 호출마다 파서를 새로 만들고 isExpired, getLoginId, validateToken(getLoginId + isExpired) 로 4회 파싱
+ * verify: 재사용 파서로 1회 파싱
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtVerifyBenchmark {
+
+    private static final String SECRET = "jammit-benchmark-secret-key-must-be-at-least-256-bits";
+
+    private JwtUtil jwtUtil;
+    private SecretKey secretKey;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(SECRET, 3_600_000L, 3_600_000L);
+        secretKey = new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm());
+        token = jwtUtil.createAccessToken("user@example.com");
+    }
+
+    @Benchmark
+    public void legacy(Blackhole bh) {
+        bh.consume(legacyIsExpired());
+        String loginId = legacyLoginId();
+        bh.consume(loginId.equals(legacyLoginId()) && !legacyIsExpired());
+    }
+
+    @Benchmark
+    public void verify(Blackhole bh) {
+        VerifiedClaims claims = jwtUtil.verify(token);
+        bh.consume(claims.getLoginId().equals("user@example.com") && !claims.isExpired());
+    }
+
+    private boolean legacyIsExpired() {
+        return Jwts.parser().verifyWith(secretKey).build()
+                .parseSignedClaims(token).getPayload().getExpiration().before(new Date());
+    }
+
+    private String legacyLoginId() {
+        return Jwts.parser().verifyWith(secretKey).build()
+                .parseSignedClaims(token).getPayload().get("loginId", String.class);
+    }
+}
@@ -0,0 +1,108 @@
+package com.jammit_be.common.monitor;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쿼리 수 모니터 오버헤드 비교 (호출당 평균 시간, -prof gc 로 할당량 확인)
+ * statement: SQL 한 건 판별 + 누적 (legacy: trim/toUpperCase + HashMap<QueryType,Integer>, current: 접두어 비교 + int[])
+ * request: 요청 하나(SELECT 8건, UPDATE 2건) 종료 시 meter 기록 (legacy: 매번 builder 로 등록 조회, current: 캐시된 meter)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class QueryCountMonitorBenchmark {
+
+    private static final String SQL = """
+            /* com.jammit_be.gathering.repository.GatheringRepository.findById */ \
+            select g1_0.id, g1_0.name, g1_0.thumbnail, g1_0.place, g1_0.description, g1_0.gathering_date_time, \
+            g1_0.recruit_deadline, g1_0.status, g1_0.created_by_id, g1_0.created_at, g1_0.updated_at \
+            from gathering g1_0 where g1_0.id=?""";
+
+    private MeterRegistry meterRegistry;
+    private QueryCountInterceptor interceptor;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor = new QueryCountInterceptor(meterRegistry,
+                new NPlusOneDetector(false, 10, 50, meterRegistry), new StatementBudget());
+        request = new MockHttpServletRequest("GET", "/jammit/gatherings/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/jammit/gatherings/{id}");
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public void legacyStatement(Blackhole bh) {
+        Map<QueryType, Integer> counts = new HashMap<>();
+        counts.merge(legacyFrom(SQL), 1, Integer::sum);
+        bh.consume(counts);
+    }
+
+    @Benchmark
+    public void statement(Blackhole bh) {
+        RequestContext context = new RequestContext("GET", "/jammit/gatherings/{id}");
+        context.incrementQueryCount(SQL);
+        bh.consume(context);
+    }
+
+    @Benchmark
+    public void legacyRequest() {
+        Map<QueryType, Integer> counts = new HashMap<>();
+        for (int i = 0; i < 8; i++) {
+            counts.merge(legacyFrom(SQL), 1, Integer::sum);
+        }
+        counts.merge(legacyFrom("update gathering set status=? where id=?"), 1, Integer::sum);
+        counts.merge(legacyFrom("update gathering set status=? where id=?"), 1, Integer::sum);
+        counts.forEach((type, count) -> DistributionSummary.builder("app.query.per_request")
+                .description("Number of SQL queries per request")
+                .tag("path", "/jammit/gatherings/{id}")
+                .tag("http_method", "GET")
+                .tag("query_type", type.name())
+                .publishPercentiles(0.5, 0.95)
+                .register(meterRegistry)
+                .record(count));
+    }
+
+    @Benchmark
+    public void request() {
+        interceptor.preHandle(request, response, null);
+        RequestContext context = RequestContextHolder.getContext();
+        for (int i = 0; i < 8; i++) {
+            context.incrementQueryCount(SQL);
+        }
+        context.incrementQueryCount("update gathering set status=? where id=?");
+        context.incrementQueryCount("update gathering set status=? where id=?");
+        interceptor.afterCompletion(request, response, null, null);
+    }
+
+    private static QueryType legacyFrom(String sql) {
+        if (sql == null || sql.isBlank()) {
+            return QueryType.UNKNOWN;
+        }
+        String upperCaseSql = sql.trim().toUpperCase();
+        if (upperCaseSql.startsWith(QueryType.SELECT.name())) return QueryType.SELECT;
+        if (upperCaseSql.startsWith(QueryType.INSERT.name())) return QueryType.INSERT;
+        if (upperCaseSql.startsWith(QueryType.UPDATE.name())) return QueryType.UPDATE;
+        if (upperCaseSql.startsWith(QueryType.DELETE.name())) return QueryType.DELETE;
+        return QueryType.UNKNOWN;
+    }
+}
@@ -0,0 +1,162 @@
+package com.jammit_be.storage;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 저장소 파일 응답 처리량 비교 (초당 응답 수)
+ * spring: Spring 기본 정적 리소스 핸들러 (ResourceHttpRequestHandler, 스트림 복사)
+ * sender: LocalFileSender (FileChannel.transferTo)
+ * sendfile: LocalFileSender 가 Tomcat sendfile 에 위임하는 경우의 요청 처리 비용 (실제 전송은 커넥터가 수행)
+ * 응답 본문은 버려지는 출력 스트림으로 보내 파일 읽기/전송 경로만 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LocalFileServingBenchmark {
+
+    private static final String KEY = "images/ab/abcd_1080.jpg";
+
+    @Param({"16384", "1048576"})
+    public int fileSize;
+
+    private Path baseDir;
+    private Path file;
+    private LocalFileSender sender;
+    private ResourceHttpRequestHandler resourceHandler;
+
+    @Setup
+    public void setUp() throws Exception {
+        baseDir = Files.createTempDirectory("jammit-serving-bench");
+        file = baseDir.resolve(KEY);
+        Files.createDirectories(file.getParent());
+        byte[] content = new byte[fileSize];
+        new Random(42).nextBytes(content);
+        Files.write(file, content);
+
+        sender = new LocalFileSender(49152);
+
+        resourceHandler = new ResourceHttpRequestHandler();
+        resourceHandler.setLocations(List.of(new FileSystemResource(baseDir.toString() + "/")));
+        resourceHandler.setServletContext(new MockServletContext());
+        resourceHandler.afterPropertiesSet();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(baseDir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public void spring(Blackhole bh) throws Exception {
+        MockHttpServletRequest request = request();
+        request.setAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE, KEY);
+        DiscardingResponse response = new DiscardingResponse();
+        resourceHandler.handleRequest(request, response);
+        bh.consume(response.written);
+    }
+
+    @Benchmark
+    public void sender(Blackhole bh) throws IOException {
+        DiscardingResponse response = new DiscardingResponse();
+        sender.send(KEY, file, request(), response);
+        bh.consume(response.written);
+    }
+
+    @Benchmark
+    public void sendfile(Blackhole bh) throws IOException {
+        MockHttpServletRequest request = request();
+        request.setAttribute(LocalFileSender.SENDFILE_SUPPORTED_ATTR, Boolean.TRUE);
+        DiscardingResponse response = new DiscardingResponse();
+        sender.send(KEY, file, request, response);
+        bh.consume(request.getAttribute(LocalFileSender.SENDFILE_END_ATTR));
+    }
+
+    @Benchmark
+    public void springNotModified(Blackhole bh) throws Exception {
+        MockHttpServletRequest request = request();
+        request.setAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE, KEY);
+        request.addHeader(HttpHeaders.IF_MODIFIED_SINCE, Files.getLastModifiedTime(file).toMillis());
+        DiscardingResponse response = new DiscardingResponse();
+        resourceHandler.handleRequest(request, response);
+        bh.consume(response.getStatus());
+    }
+
+    @Benchmark
+    public void senderNotModified(Blackhole bh) throws IOException {
+        MockHttpServletRequest request = request();
+        request.addHeader(HttpHeaders.IF_MODIFIED_SINCE, Files.getLastModifiedTime(file).toMillis());
+        DiscardingResponse response = new DiscardingResponse();
+        sender.send(KEY, file, request, response);
+        bh.consume(response.getStatus());
+    }
+
+    private static MockHttpServletRequest request() {
+        return new MockHttpServletRequest("GET", LocalFileStorage.FILE_PATH + "/" + KEY);
+    }
+
+    /**
+     * 본문을 버리고 크기만 세는 응답 (ByteArrayOutputStream 확장 비용 제외)
+     */
+    static class DiscardingResponse extends MockHttpServletResponse {
+
+        long written;
+
+        private final ServletOutputStream outputStream = new ServletOutputStream() {
+            @Override
+            public void write(int b) {
+                written++;
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                written += len;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+        };
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return outputStream;
+        }
+    }
+}
@@ -71,6 +71,7 @@ public class AuthController {
                   @ApiResponse(responseCode = "200", description = "인증 성공"),
                   @ApiResponse(responseCode = "401", description = "인증번호가 일치하지 않음"),
                   @ApiResponse(responseCode = "404", description = "해당 이메일 인증 요청이 없음"),
+                  @ApiResponse(responseCode = "429", description = "인증 시도 횟수 초과"),
                   @ApiResponse(responseCode = "440", description = "인증번호 만료")
           }
   )
@@ -86,6 +87,10 @@ public class AuthController {
         // 440: 인증번호 만료
         return ResponseEntity.status(440)
                 .body(CommonResponse.fail(440, result.getMessage(), response));
+      case TOO_MANY_ATTEMPTS:
+        // 429: 인증 시도 횟수 초과
+        return ResponseEntity.status(429)
+                .body(CommonResponse.fail(429, result.getMessage(), response));
       case INVALID:
         // 401: 인증번호 불일치
         return ResponseEntity.status(401)
@@ -0,0 +1,31 @@
+package com.jammit_be.auth.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 이메일 인증번호 테이블 (여러 서버가 인증번호를 공유하기 위해 사용)
+ * 스키마 관리(ddl-auto)를 위한 매핑이며, 읽기/쓰기는 JdbcAuthCodeStore 에서 JDBC 로 직접 수행합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "auth_code", indexes = @Index(name = "idx_auth_code_expire_at", columnList = "expire_at"))
+public class AuthCode {
+
+    @Id
+    @Column(length = 100)
+    private String email;
+    @Column(nullable = false, length = 10)
+    private String code;
+    @Column(name = "expire_at", nullable = false)
+    private long expireAt; // 만료 시각 (epoch millis)
+    @Column(nullable = false)
+    private int attempts; // 검증 실패 횟수
+}
@@ -12,14 +12,18 @@ import java.util.List;
 @Getter
 public class CustomUserDetail implements UserDetails {
 
-    private final User user;
+    private final UserPrincipal principal;
 
     public CustomUserDetail(User user) {
-        this.user = user;
+        this(UserPrincipal.from(user));
+    }
+
+    public CustomUserDetail(UserPrincipal principal) {
+        this.principal = principal;
     }
 
     public Long getId() {
-        return user.getId();
+        return principal.getId();
     }
 
     @Override
@@ -27,14 +31,15 @@ public class CustomUserDetail implements UserDetails {
         return List.of();
     }
 
+    // JWT 인증만 사용하므로 비밀번호는 보관하지 않는다 (로그인 시 AuthService 에서 직접 검증)
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return null;
     }
 
     @Override
     public String getUsername() {
-        return user.getEmail();
+        return principal.getEmail();
     }
 
 }
@@ -0,0 +1,57 @@
+package com.jammit_be.auth.entity;
+
+import com.jammit_be.common.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발송할 이메일 보관함 (서버가 재시작되어도 발송 대기 메일이 유실되지 않도록)
+ * 발송에 성공한 메일은 삭제되고, 재시도 횟수를 넘긴 메일만 FAILED 로 남는다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "email_outbox", indexes = @Index(name = "idx_email_outbox_status_next_attempt", columnList = "status, next_attempt_at"))
+public class EmailOutbox extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(nullable = false, length = 100)
+    private String recipient;
+    @Column(nullable = false)
+    private String subject;
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String content;
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EmailOutboxStatus status;
+    @Column(nullable = false)
+    private int attempts; // 발송 실패 횟수
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt; // 다음 발송 가능 시각 (SENDING 이면 점유 만료 시각)
+    @Column(length = 500)
+    private String lastError;
+
+    public static EmailOutbox pending(String recipient, String subject, String content) {
+        EmailOutbox outbox = new EmailOutbox();
+        outbox.recipient = recipient;
+        outbox.subject = subject;
+        outbox.content = content;
+        outbox.status = EmailOutboxStatus.PENDING;
+        outbox.nextAttemptAt = LocalDateTime.now();
+        return outbox;
+    }
+}
@@ -0,0 +1,7 @@
+package com.jammit_be.auth.entity;
+
+public enum EmailOutboxStatus {
+    PENDING, // 발송 대기 (재시도 대기 포함)
+    SENDING, // 워커가 발송 중 (next_attempt_at 까지 점유)
+    FAILED   // 재시도 횟수 초과
+}
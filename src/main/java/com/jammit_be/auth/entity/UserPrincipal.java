@@ -0,0 +1,26 @@
+package com.jammit_be.auth.entity;
+
+import com.jammit_be.user.entity.User;
+import lombok.Getter;
+
+/**
+ * 인증된 사용자의 최소 정보 (불변 객체)
+ * 영속성 컨텍스트와 무관하므로 요청 간에 캐시해도 안전합니다.
+ */
+@Getter
+public final class UserPrincipal {
+
+    private final Long id;
+    private final String email;
+    private final String nickname;
+
+    public UserPrincipal(Long id, String email, String nickname) {
+        this.id = id;
+        this.email = email;
+        this.nickname = nickname;
+    }
+
+    public static UserPrincipal from(User user) {
+        return new UserPrincipal(user.getId(), user.getEmail(), user.getNickname());
+    }
+}
@@ -2,6 +2,7 @@ package com.jammit_be.auth.filter;
 
 import com.jammit_be.auth.entity.CustomUserDetail;
 import com.jammit_be.auth.util.JwtUtil;
+import com.jammit_be.auth.util.VerifiedClaims;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -39,16 +40,19 @@ public class JwtFilter extends OncePerRequestFilter {
 
         String token = authorization.substring(7);
 
-        if (jwtUtil.isExpired(token)) {
+        // 서명 검증과 파싱은 요청당 한 번만 수행
+        VerifiedClaims claims;
+        try {
+            claims = jwtUtil.verify(token);
+        } catch (ExpiredJwtException e) {
             handlerExceptionResolver.resolveException(request, response, null, new ExpiredJwtException(null, null, "토큰이 만료되었습니다."));
             return;
         }
 
-        String loginId = jwtUtil.getLoginId(token);
-        CustomUserDetail userDetails = (CustomUserDetail) userDetailsService.loadUserByUsername(loginId);
+        CustomUserDetail userDetails = (CustomUserDetail) userDetailsService.loadUserByUsername(claims.getLoginId());
 
         try {
-            if (jwtUtil.validateToken(token, userDetails)) {
+            if (jwtUtil.validateClaims(claims, userDetails)) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails, null, userDetails.getAuthorities());
                 SecurityContextHolder.getContext().setAuthentication(authToken);
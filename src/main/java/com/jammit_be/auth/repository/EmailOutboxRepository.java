@@ -0,0 +1,51 @@
+package com.jammit_be.auth.repository;
+
+import com.jammit_be.auth.entity.EmailOutbox;
+import com.jammit_be.auth.entity.EmailOutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    // 발송 시각이 된 메일 (점유 시간이 지난 SENDING 포함)
+    @Query("SELECT o.id FROM EmailOutbox o WHERE o.status IN :statuses AND o.nextAttemptAt <= :now ORDER BY o.nextAttemptAt")
+    List<Long> findDueIds(@Param("statuses") Collection<EmailOutboxStatus> statuses,
+                          @Param("now") LocalDateTime now,
+                          Pageable pageable);
+
+    // 발송 점유 - 1 이 반환된 워커(서버)만 발송한다
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmailOutbox o SET o.status = :sending, o.nextAttemptAt = :leaseUntil " +
+            "WHERE o.id = :id AND o.status IN :statuses AND o.nextAttemptAt <= :now")
+    int claim(@Param("id") Long id,
+              @Param("sending") EmailOutboxStatus sending,
+              @Param("statuses") Collection<EmailOutboxStatus> statuses,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmailOutbox o SET o.status = :status, o.attempts = :attempts, o.nextAttemptAt = :nextAttemptAt, o.lastError = :lastError " +
+            "WHERE o.id = :id")
+    int markFailure(@Param("id") Long id,
+                    @Param("status") EmailOutboxStatus status,
+                    @Param("attempts") int attempts,
+                    @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                    @Param("lastError") String lastError);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM EmailOutbox o WHERE o.id = :id")
+    int deleteSent(@Param("id") Long id);
+}
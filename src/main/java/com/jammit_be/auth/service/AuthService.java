@@ -12,20 +12,25 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.ZoneId;
 
 @Service
 @RequiredArgsConstructor
-@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+@Transactional(readOnly = true)
 public class AuthService {
 
     private final JwtUtil jwtUtil;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
 
+    /**
+     * 로그인은 primary 에서 처리한다
+     * - 로그인 전에는 사용자를 알 수 없어 read-your-writes 가 적용되지 않음 (가입 직후 로그인이 replica 지연에 걸림)
+     * - 해시 cost 가 바뀐 경우 같은 트랜잭션에서 재해싱 결과를 저장
+     */
+    @Transactional
     public LoginResponse login(LoginRequest loginRequest) {
         var email = loginRequest.getEmail();
         var password = loginRequest.getPassword();
@@ -34,6 +39,10 @@ public class AuthService {
         if (!passwordEncoder.matches(password, user.getPassword())) {
             throw new AlertException("비밀번호가 일치하지 않습니다.");
         }
+        // 저장된 해시의 cost 가 현재 설정과 다르면 로그인 시점에 재해싱
+        if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+            userRepository.updatePassword(user.getId(), passwordEncoder.encode(password));
+        }
         var userDto = UserResponse.of(user);
         return LoginResponse.builder()
                 .user(userDto)
@@ -1,27 +1,34 @@
 package com.jammit_be.auth.service;
 
 import com.jammit_be.auth.entity.CustomUserDetail;
-import com.jammit_be.user.entity.User;
+import com.jammit_be.auth.entity.UserPrincipal;
+import com.jammit_be.auth.util.UserPrincipalCache;
 import com.jammit_be.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-@Transactional
 @Service
 @RequiredArgsConstructor
 public class JpaUserDetailService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
+    /**
+     * 캐시에 있으면 DB 를 조회하지 않는다. (트랜잭션도 열지 않음)
+     * 캐시에 없을 때만 id, email, nickname 만 조회해 캐시에 적재한다.
+     */
     @Override
-    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User userByUsername = userRepository.findUserByEmail(username)
-                .orElseThrow(() -> new UsernameNotFoundException("유저를 찾지 못했습니다. : " + username));
-        return new CustomUserDetail(userByUsername);
+        UserPrincipal principal = userPrincipalCache.get(username);
+        if (principal == null) {
+            principal = userRepository.findPrincipalByEmail(username)
+                    .orElseThrow(() -> new UsernameNotFoundException("유저를 찾지 못했습니다. : " + username));
+            userPrincipalCache.put(username, principal);
+        }
+        return new CustomUserDetail(principal);
     }
 }
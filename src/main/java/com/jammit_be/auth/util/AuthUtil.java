@@ -1,9 +1,9 @@
 package com.jammit_be.auth.util;
 
 import com.jammit_be.auth.entity.CustomUserDetail;
+import com.jammit_be.auth.entity.UserPrincipal;
 import com.jammit_be.common.entity.BaseUserEntity;
 import com.jammit_be.common.exception.AlertException;
-import com.jammit_be.user.entity.User;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -14,10 +14,9 @@ public class AuthUtil {
         return SecurityContextHolder.getContext().getAuthentication();
     }
 
-    public static User getUserInfo() {
+    public static UserPrincipal getPrincipal() {
         try {
-            CustomUserDetail userDetails = (CustomUserDetail) getAuthentication().getPrincipal();
-            return userDetails.getUser();
+            return ((CustomUserDetail) getAuthentication().getPrincipal()).getPrincipal();
         } catch (Exception e) {
             throw new AlertException("로그인이 필요합니다.");
         }
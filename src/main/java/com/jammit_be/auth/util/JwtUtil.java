@@ -1,6 +1,7 @@
 package com.jammit_be.auth.util;
 
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -19,6 +20,8 @@ public class JwtUtil {
     private final Long expiredAccessTokenMs;
     private final Long expiredRefreshTokenMs;
     private final SecretKey secretKey;
+    // JwtParser 는 불변이며 thread-safe 하므로 한 번만 생성해 재사용
+    private final JwtParser jwtParser;
 
     public JwtUtil(@Value("${jwt.secretKey}") String secretKey,
                    @Value("${jwt.expiredAccessTokenMs}") Long expiredAccessTokenMs,
@@ -26,15 +29,25 @@ public class JwtUtil {
         this.secretKey = new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm());
         this.expiredAccessTokenMs = expiredAccessTokenMs;
         this.expiredRefreshTokenMs = expiredRefreshTokenMs;
+        this.jwtParser = Jwts.parser().verifyWith(this.secretKey).build();
+    }
+
+    /**
+     * 토큰의 서명을 검증하고 클레임을 한 번만 파싱합니다.
+     * @throws ExpiredJwtException 만료된 토큰인 경우
+     * @throws io.jsonwebtoken.JwtException 서명이 올바르지 않거나 형식이 잘못된 경우
+     */
+    public VerifiedClaims verify(String token) {
+        return VerifiedClaims.from(jwtParser.parseSignedClaims(token).getPayload());
     }
 
     public String getLoginId(String token) {
-        return getClaim(token, "loginId");
+        return verify(token).getLoginId();
     }
 
     public Boolean isExpired(String token) {
         try {
-            return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().getExpiration().before(new Date());
+            return verify(token).isExpired();
         } catch (ExpiredJwtException e) {
             return true;
         }
@@ -65,31 +78,29 @@ public class JwtUtil {
     }
 
     public String refreshAccessToken(String refreshToken) {
-        if (isExpired(refreshToken)) {
+        VerifiedClaims claims;
+        try {
+            claims = verify(refreshToken);
+        } catch (ExpiredJwtException e) {
             throw new ExpiredJwtException(null, null, "만료된 토큰 값입니다.");
         }
 
-        String tokenType = getClaim(refreshToken, "type");
-
-        if (!"refresh".equals(tokenType)) {
+        if (!claims.isRefreshToken()) {
             throw new IllegalArgumentException("토큰값이 다릅니다.");
         }
 
-        String loginId = getLoginId(refreshToken);
-
-        return createAccessToken(loginId);
+        return createAccessToken(claims.getLoginId());
     }
 
-    private String getClaim(String token, String name) {
-        return Jwts.parser().verifyWith(secretKey).build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get(name, String.class);
+    public Boolean validateToken(String token, UserDetails userDetails) {
+        return validateClaims(verify(token), userDetails);
     }
 
-    public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = getLoginId(token);
-        return (username.equals(userDetails.getUsername()) && !isExpired(token));
+    /**
+     * 이미 검증된 클레임이 해당 사용자의 것이고 만료되지 않았는지 확인합니다. (재파싱 없음)
+     */
+    public boolean validateClaims(VerifiedClaims claims, UserDetails userDetails) {
+        return claims.getLoginId().equals(userDetails.getUsername()) && !claims.isExpired();
     }
 
     public LocalDateTime getExpiredAt() {
@@ -0,0 +1,92 @@
+package com.jammit_be.auth.util;
+
+import com.jammit_be.auth.entity.UserPrincipal;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로그인 아이디(이메일) 기준 인증 사용자 캐시
+ * 인증 요청마다 사용자를 조회하지 않도록 TTL 동안 UserPrincipal 을 보관하고,
+ * 사용자 정보가 바뀌면 UserService 에서 명시적으로 무효화합니다.
+ * 트랜잭션 안에서 무효화하면 커밋 후에 한 번 더 무효화합니다. (커밋 전에 다른 요청이 이전 값을 다시 캐시하는 경우 대비)
+ * 캐시는 서버(인스턴스)마다 따로 있고 무효화도 해당 서버에만 적용되므로,
+ * 여러 서버로 배포하면 다른 서버는 최대 TTL(auth.principal-cache.ttl-ms) 동안 이전 정보를 볼 수 있습니다.
+ */
+@Component
+public class UserPrincipalCache {
+
+    private final Map<String, CachedPrincipal> store = new ConcurrentHashMap<>();
+    private final long ttlMs;
+    private final int maxSize;
+
+    private record CachedPrincipal(UserPrincipal principal, long expireAt) {
+    }
+
+    public UserPrincipalCache(@Value("${auth.principal-cache.ttl-ms:60000}") long ttlMs,
+                              @Value("${auth.principal-cache.max-size:10000}") int maxSize) {
+        this.ttlMs = ttlMs;
+        this.maxSize = maxSize;
+    }
+
+    public UserPrincipal get(String loginId) {
+        CachedPrincipal cached = store.get(loginId);
+        if (cached == null) {
+            return null;
+        }
+        if (System.currentTimeMillis() > cached.expireAt()) {
+            store.remove(loginId, cached);
+            return null;
+        }
+        return cached.principal();
+    }
+
+    public void put(String loginId, UserPrincipal principal) {
+        if (store.size() >= maxSize) {
+            evictExpired();
+            if (store.size() >= maxSize) {
+                // 만료 항목을 비워도 가득 찬 경우 전체를 비우고 다시 채운다
+                store.clear();
+            }
+        }
+        store.put(loginId, new CachedPrincipal(principal, System.currentTimeMillis() + ttlMs));
+    }
+
+    public void evict(String loginId) {
+        if (loginId == null) {
+            return;
+        }
+        store.remove(loginId);
+        afterCommit(() -> store.remove(loginId));
+    }
+
+    public void evictByUserId(Long userId) {
+        removeByUserId(userId);
+        afterCommit(() -> removeByUserId(userId));
+    }
+
+    private void removeByUserId(Long userId) {
+        store.values().removeIf(cached -> cached.principal().getId().equals(userId));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void evictExpired() {
+        long now = System.currentTimeMillis();
+        store.values().removeIf(cached -> now > cached.expireAt());
+    }
+}
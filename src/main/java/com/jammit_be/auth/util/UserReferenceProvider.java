@@ -0,0 +1,28 @@
+package com.jammit_be.auth.util;
+
+import com.jammit_be.user.entity.User;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인증 사용자 id 로 User 프록시를 얻는다.
+ * getReference 는 쿼리를 실행하지 않으며, id 외의 필드에 접근할 때만 현재 트랜잭션에서 로딩됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserReferenceProvider {
+
+    private final EntityManager entityManager;
+
+    public User getReference(Long userId) {
+        return entityManager.getReference(User.class, userId);
+    }
+
+    /**
+     * 현재 인증된 사용자의 프록시 (로그인하지 않았으면 AlertException)
+     */
+    public User currentUser() {
+        return getReference(AuthUtil.getPrincipal().getId());
+    }
+}
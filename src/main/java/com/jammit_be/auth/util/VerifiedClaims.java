@@ -0,0 +1,44 @@
+package com.jammit_be.auth.util;
+
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+
+import java.util.Date;
+
+/**
+ * 서명 검증이 끝난 JWT 의 클레임 (불변 객체)
+ * 한 요청 안에서 토큰을 다시 파싱하지 않도록 필터 전체에서 이 객체를 공유합니다.
+ */
+@Getter
+public final class VerifiedClaims {
+
+    private final String loginId;
+    private final String type;
+    private final Date expiration;
+
+    private VerifiedClaims(String loginId, String type, Date expiration) {
+        this.loginId = loginId;
+        this.type = type;
+        this.expiration = expiration;
+    }
+
+    static VerifiedClaims from(Claims claims) {
+        return new VerifiedClaims(
+                claims.get("loginId", String.class),
+                claims.get("type", String.class),
+                claims.getExpiration()
+        );
+    }
+
+    public Date getExpiration() {
+        return expiration == null ? null : new Date(expiration.getTime());
+    }
+
+    public boolean isExpired() {
+        return expiration != null && expiration.before(new Date());
+    }
+
+    public boolean isRefreshToken() {
+        return "refresh".equals(type);
+    }
+}
@@ -5,7 +5,8 @@ public enum AuthCodeVerifyResult {
     SUCCESS("인증이 성공했습니다."),
     EXPIRED("인증번호가 만료되었습니다."),
     INVALID("인증번호가 일치하지 않습니다."),
-    NOT_FOUND("해당 이메일에 인증 요청이 없습니다.");
+    NOT_FOUND("해당 이메일에 인증 요청이 없습니다."),
+    TOO_MANY_ATTEMPTS("인증 시도 횟수를 초과했습니다. 인증번호를 다시 요청해주세요.");
 
     private final String message;
 
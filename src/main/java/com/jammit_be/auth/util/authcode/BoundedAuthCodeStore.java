@@ -0,0 +1,183 @@
+package com.jammit_be.auth.util.authcode;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 용량 제한과 만료 순서 기반 정리를 지원하는 인증번호 저장소
+ * - 만료 시각 순으로 정렬된 큐를 두어, 정리 시 만료된 앞부분만 꺼낸다 (전체 스캔 없음)
+ * - 재발송/검증으로 맵에서 빠진 항목은 큐에서 바로 찾지 않고(O(n)) 남겨 두었다가 꺼낼 때 건너뛴다
+ * - 용량이 가득 차면 가장 먼저 만료될 인증번호부터 제거한다
+ * - 인증번호마다 검증 실패 횟수를 제한한다
+ * 저장/검증은 요청 빈도가 낮으므로 하나의 락으로 맵과 큐를 함께 보호한다.
+ */
+@Component
+@ConditionalOnProperty(name = "auth.code-store.type", havingValue = "bounded", matchIfMissing = true)
+public class BoundedAuthCodeStore implements AuthCodeStore {
+
+    private final int capacity;
+    private final int maxAttempts;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, AuthCodeEntry> store = new HashMap<>();
+    private final PriorityQueue<AuthCodeEntry> expiryQueue =
+            new PriorityQueue<>(Comparator.comparingLong(AuthCodeEntry::expireAt));
+
+    private final Counter evictionCounter;
+    private final Counter expirationCounter;
+
+    private static final class AuthCodeEntry {
+        final String email;
+        final String code;
+        final long expireAt;
+        int attempts;
+
+        AuthCodeEntry(String email, String code, long expireAt) {
+            this.email = email;
+            this.code = code;
+            this.expireAt = expireAt;
+        }
+
+        long expireAt() {
+            return expireAt;
+        }
+    }
+
+    public BoundedAuthCodeStore(@Value("${auth.code-store.capacity:10000}") int capacity,
+                                @Value("${auth.code-store.max-attempts:5}") int maxAttempts,
+                                MeterRegistry meterRegistry) {
+        this.capacity = capacity;
+        this.maxAttempts = maxAttempts;
+
+        Gauge.builder("app.auth_code.live", store, Map::size)
+                .description("Auth codes currently stored")
+                .register(meterRegistry);
+        this.evictionCounter = Counter.builder("app.auth_code.evicted")
+                .description("Auth codes evicted because the store was full")
+                .register(meterRegistry);
+        this.expirationCounter = Counter.builder("app.auth_code.expired")
+                .description("Auth codes removed after expiry")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void saveCode(String email, String code, int expireSeconds) {
+        AuthCodeEntry entry = new AuthCodeEntry(email, code, System.currentTimeMillis() + expireSeconds * 1000L);
+        lock.lock();
+        try {
+            store.remove(email); // 이전 인증번호의 큐 항목은 꺼낼 때 건너뜀
+            // 용량 초과 시 가장 먼저 만료될 인증번호부터 제거
+            while (store.size() >= capacity && !expiryQueue.isEmpty()) {
+                AuthCodeEntry oldest = expiryQueue.poll();
+                if (isLive(oldest)) {
+                    store.remove(oldest.email);
+                    evictionCounter.increment();
+                }
+            }
+            store.put(email, entry);
+            expiryQueue.add(entry);
+            compactIfNeeded();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public AuthCodeVerifyResult verifyCode(String email, String code) {
+        lock.lock();
+        try {
+            AuthCodeEntry entry = store.get(email);
+            if (entry == null) {
+                return AuthCodeVerifyResult.NOT_FOUND;
+            }
+            if (System.currentTimeMillis() > entry.expireAt) {
+                remove(entry);
+                expirationCounter.increment();
+                return AuthCodeVerifyResult.EXPIRED;
+            }
+            if (entry.code.equals(code)) {
+                remove(entry); // 인증 성공 시 삭제
+                return AuthCodeVerifyResult.SUCCESS;
+            }
+            if (++entry.attempts >= maxAttempts) {
+                remove(entry); // 시도 횟수 초과 시 인증번호 폐기
+                return AuthCodeVerifyResult.TOO_MANY_ATTEMPTS;
+            }
+            return AuthCodeVerifyResult.INVALID;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean hasCode(String email) {
+        lock.lock();
+        try {
+            AuthCodeEntry entry = store.get(email);
+            return entry != null && System.currentTimeMillis() <= entry.expireAt;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 만료된 인증번호 정리 - 큐의 앞부분(만료된 항목)만 꺼내므로 비용은 만료 건수에 비례한다.
+     */
+    @Scheduled(fixedDelayString = "${auth.code-store.sweep-interval-ms:1000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        lock.lock();
+        try {
+            AuthCodeEntry head;
+            while ((head = expiryQueue.peek()) != null && head.expireAt < now) {
+                expiryQueue.poll();
+                if (isLive(head)) {
+                    store.remove(head.email);
+                    expirationCounter.increment();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void remove(AuthCodeEntry entry) {
+        store.remove(entry.email); // 큐 항목은 꺼낼 때 건너뜀
+    }
+
+    // 맵에서 빠졌거나 새 인증번호로 바뀐 항목이 아닌지
+    private boolean isLive(AuthCodeEntry entry) {
+        return store.get(entry.email) == entry;
+    }
+
+    /**
+     * 만료 전에 빠진 항목이 쌓여 큐가 살아 있는 항목의 두 배를 넘으면 다시 만든다. (재발송이 몰릴 때 메모리 상한)
+     * 큐가 그만큼 커질 때만 O(n) 이므로 저장당 비용은 상수로 분산된다.
+     */
+    private void compactIfNeeded() {
+        if (expiryQueue.size() > Math.max(2 * store.size(), 64)) {
+            expiryQueue.clear();
+            expiryQueue.addAll(store.values());
+        }
+    }
+
+    int queueSize() {
+        lock.lock();
+        try {
+            return expiryQueue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.jammit_be.auth.util.authcode;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
@@ -7,6 +8,7 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 @Component
+@ConditionalOnProperty(name = "auth.code-store.type", havingValue = "memory")
 public class InMemoryAuthCodeStore implements AuthCodeStore {
 
     private final Map<String, AuthCodeInfo> store = new ConcurrentHashMap<>();
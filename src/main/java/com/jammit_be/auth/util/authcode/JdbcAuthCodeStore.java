@@ -0,0 +1,164 @@
+package com.jammit_be.auth.util.authcode;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * MySQL auth_code 테이블 기반 인증번호 저장소 (여러 서버 간 공유)
+ * - 검증 성공은 "일치하면 삭제" 하나의 DELETE 로 처리해 두 서버가 동시에 성공할 수 없다
+ * - 만료된 행은 expire_at 인덱스를 타는 배치 DELETE 로 정리한다
+ * - hasCode 는 짧은 TTL 의 로컬 near-cache 를 먼저 확인해 DB 조회를 줄인다
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "auth.code-store.type", havingValue = "jdbc")
+public class JdbcAuthCodeStore implements AuthCodeStore {
+
+    private static final String UPDATE_SQL =
+            "UPDATE auth_code SET code = ?, expire_at = ?, attempts = 0 WHERE email = ?";
+    private static final String INSERT_SQL =
+            "INSERT INTO auth_code (email, code, expire_at, attempts) VALUES (?, ?, ?, 0)";
+    private static final String COMPARE_AND_DELETE_SQL =
+            "DELETE FROM auth_code WHERE email = ? AND code = ? AND expire_at >= ? AND attempts < ?";
+    private static final String SELECT_SQL =
+            "SELECT code, expire_at, attempts FROM auth_code WHERE email = ?";
+    private static final String INCREMENT_ATTEMPTS_SQL =
+            "UPDATE auth_code SET attempts = attempts + 1 WHERE email = ? AND code = ?";
+    private static final String DELETE_SQL =
+            "DELETE FROM auth_code WHERE email = ? AND code = ?";
+    private static final String PURGE_SQL =
+            "DELETE FROM auth_code WHERE expire_at < ? LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxAttempts;
+    private final long nearCacheTtlMs;
+    private final int nearCacheMaxSize;
+    private final int purgeBatchSize;
+
+    // email -> near-cache 유효 시각 (인증번호 만료 시각과 near-cache TTL 중 빠른 쪽)
+    private final Map<String, Long> nearCache = new ConcurrentHashMap<>();
+
+    private record StoredCode(String code, long expireAt, int attempts) {
+    }
+
+    public JdbcAuthCodeStore(JdbcTemplate jdbcTemplate,
+                             @Value("${auth.code-store.max-attempts:5}") int maxAttempts,
+                             @Value("${auth.code-store.jdbc.near-cache-ttl-ms:5000}") long nearCacheTtlMs,
+                             @Value("${auth.code-store.jdbc.near-cache-max-size:1000}") int nearCacheMaxSize,
+                             @Value("${auth.code-store.jdbc.purge-batch-size:1000}") int purgeBatchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxAttempts = maxAttempts;
+        this.nearCacheTtlMs = nearCacheTtlMs;
+        this.nearCacheMaxSize = nearCacheMaxSize;
+        this.purgeBatchSize = purgeBatchSize;
+    }
+
+    @Override
+    public void saveCode(String email, String code, int expireSeconds) {
+        long expireAt = System.currentTimeMillis() + expireSeconds * 1000L;
+        if (jdbcTemplate.update(UPDATE_SQL, code, expireAt, email) == 0) {
+            try {
+                jdbcTemplate.update(INSERT_SQL, email, code, expireAt);
+            } catch (DuplicateKeyException e) {
+                // 다른 서버가 동시에 먼저 저장한 경우 덮어쓴다
+                jdbcTemplate.update(UPDATE_SQL, code, expireAt, email);
+            }
+        }
+        cacheLocally(email, expireAt);
+    }
+
+    @Override
+    public AuthCodeVerifyResult verifyCode(String email, String code) {
+        long now = System.currentTimeMillis();
+
+        // 1. 일치하고 유효하면 삭제 - 삭제에 성공한 서버만 인증 성공
+        if (jdbcTemplate.update(COMPARE_AND_DELETE_SQL, email, code, now, maxAttempts) == 1) {
+            nearCache.remove(email);
+            return AuthCodeVerifyResult.SUCCESS;
+        }
+
+        // 2. 실패 원인 판별
+        List<StoredCode> rows = jdbcTemplate.query(SELECT_SQL,
+                (rs, rowNum) -> new StoredCode(rs.getString("code"), rs.getLong("expire_at"), rs.getInt("attempts")),
+                email);
+        if (rows.isEmpty()) {
+            nearCache.remove(email);
+            return AuthCodeVerifyResult.NOT_FOUND;
+        }
+
+        StoredCode stored = rows.get(0);
+        if (stored.expireAt() < now) {
+            delete(email, stored.code());
+            return AuthCodeVerifyResult.EXPIRED;
+        }
+        if (stored.attempts() >= maxAttempts) {
+            delete(email, stored.code());
+            return AuthCodeVerifyResult.TOO_MANY_ATTEMPTS;
+        }
+
+        jdbcTemplate.update(INCREMENT_ATTEMPTS_SQL, email, stored.code());
+        if (stored.attempts() + 1 >= maxAttempts) {
+            delete(email, stored.code()); // 시도 횟수 초과 시 인증번호 폐기
+            return AuthCodeVerifyResult.TOO_MANY_ATTEMPTS;
+        }
+        return AuthCodeVerifyResult.INVALID;
+    }
+
+    @Override
+    public boolean hasCode(String email) {
+        long now = System.currentTimeMillis();
+        Long validUntil = nearCache.get(email);
+        if (validUntil != null && validUntil >= now) {
+            return true;
+        }
+
+        List<Long> expireAts = jdbcTemplate.queryForList(
+                "SELECT expire_at FROM auth_code WHERE email = ?", Long.class, email);
+        if (expireAts.isEmpty() || expireAts.get(0) < now) {
+            nearCache.remove(email);
+            return false;
+        }
+        cacheLocally(email, expireAts.get(0));
+        return true;
+    }
+
+    /**
+     * 만료된 인증번호를 배치 단위로 정리 (한 번에 큰 DELETE 로 락을 오래 잡지 않도록)
+     */
+    @Scheduled(fixedDelayString = "${auth.code-store.jdbc.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        int total = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(PURGE_SQL, now, purgeBatchSize);
+            total += deleted;
+        } while (deleted == purgeBatchSize);
+
+        nearCache.values().removeIf(validUntil -> validUntil < now);
+        if (total > 0) {
+            log.info("만료된 인증번호 정리: {}건", total);
+        }
+    }
+
+    private void delete(String email, String code) {
+        jdbcTemplate.update(DELETE_SQL, email, code);
+        nearCache.remove(email);
+    }
+
+    private void cacheLocally(String email, long expireAt) {
+        if (nearCache.size() >= nearCacheMaxSize) {
+            nearCache.clear();
+        }
+        nearCache.put(email, Math.min(expireAt, System.currentTimeMillis() + nearCacheTtlMs));
+    }
+}
@@ -0,0 +1,292 @@
+package com.jammit_be.auth.util.email;
+
+import com.jammit_be.auth.entity.EmailOutbox;
+import com.jammit_be.auth.entity.EmailOutboxStatus;
+import com.jammit_be.auth.repository.EmailOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 이메일 보관함(email_outbox) 기반 비동기 발송기
+ * - sendEmail 은 보관함에 저장하고 대기열에 넣은 뒤 바로 반환한다 (SMTP 연결/발송을 요청 스레드에서 하지 않음)
+ * - 워커는 각자 하나의 SMTP Transport 연결을 유지하며 여러 메일을 보낸다 (유휴 상태가 되면 연결 종료)
+ * - 실패한 메일은 지수 백오프로 재시도하고, 대기열이 가득 차거나 서버가 재시작된 경우에도 보관함 폴링으로 다시 발송한다
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "email.async.enabled", havingValue = "true", matchIfMissing = true)
+public class AsyncEmailSender implements EmailSender {
+
+    private static final List<EmailOutboxStatus> DUE_STATUSES = List.of(EmailOutboxStatus.PENDING, EmailOutboxStatus.SENDING);
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final JavaMailSenderImpl mailSender;
+    private final int workerCount;
+    private final int maxAttempts;
+    private final long backoffMs;
+    private final long maxBackoffMs;
+    private final long leaseMs;
+    private final int pollBatchSize;
+
+    private final BlockingQueue<Long> queue;
+    private final Set<Long> queued = ConcurrentHashMap.newKeySet(); // 대기열 중복 방지
+    private final Set<Long> sentUndeleted = ConcurrentHashMap.newKeySet(); // 발송 후 보관함 삭제에 실패한 메일 (다시 보내지 않음)
+    private final ExecutorService workers;
+    private volatile boolean running = true;
+
+    private final Timer sendSuccessTimer;
+    private final Timer sendFailureTimer;
+    private final Counter retryCounter;
+    private final Counter failedCounter;
+    private final Counter deferredCounter;
+
+    public AsyncEmailSender(EmailOutboxRepository emailOutboxRepository,
+                            JavaMailSenderImpl mailSender,
+                            @Value("${email.async.workers:2}") int workerCount,
+                            @Value("${email.async.queue-capacity:1000}") int queueCapacity,
+                            @Value("${email.async.max-attempts:5}") int maxAttempts,
+                            @Value("${email.async.backoff-ms:5000}") long backoffMs,
+                            @Value("${email.async.max-backoff-ms:300000}") long maxBackoffMs,
+                            @Value("${email.async.lease-ms:60000}") long leaseMs,
+                            @Value("${email.async.poll-batch-size:100}") int pollBatchSize,
+                            MeterRegistry meterRegistry) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.mailSender = mailSender;
+        this.workerCount = workerCount;
+        this.maxAttempts = maxAttempts;
+        this.backoffMs = backoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.leaseMs = leaseMs;
+        this.pollBatchSize = pollBatchSize;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "email-sender-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.sendSuccessTimer = Timer.builder("app.email.send")
+                .description("SMTP send latency")
+                .tag("result", "success")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.sendFailureTimer = Timer.builder("app.email.send")
+                .description("SMTP send latency")
+                .tag("result", "failure")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.retryCounter = Counter.builder("app.email.retry")
+                .description("Emails scheduled for another attempt")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("app.email.failed")
+                .description("Emails given up after the maximum number of attempts")
+                .register(meterRegistry);
+        this.deferredCounter = Counter.builder("app.email.deferred")
+                .description("Emails left to the outbox poller because the queue was full")
+                .register(meterRegistry);
+        Gauge.builder("app.email.queue_depth", queue, BlockingQueue::size)
+                .description("Emails waiting in the in-process send queue")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        for (int i = 0; i < workerCount; i++) {
+            workers.submit(this::runWorker);
+        }
+    }
+
+    @Override
+    public void sendEmail(String to, String subject, String content) {
+        EmailOutbox outbox = emailOutboxRepository.save(EmailOutbox.pending(to, subject, content));
+        enqueue(outbox.getId());
+    }
+
+    /**
+     * 발송 시각이 된 보관함 메일을 대기열에 넣는다.
+     * (재시도 대기, 대기열 초과로 밀린 메일, 재시작 전에 남아 있던 메일)
+     */
+    @Scheduled(fixedDelayString = "${email.async.poll-interval-ms:5000}")
+    public void pollOutbox() {
+        sentUndeleted.removeIf(this::deleteSent);
+        List<Long> dueIds = emailOutboxRepository.findDueIds(DUE_STATUSES, LocalDateTime.now(), PageRequest.of(0, pollBatchSize));
+        dueIds.forEach(this::enqueue);
+    }
+
+    private void enqueue(Long id) {
+        if (sentUndeleted.contains(id) || !queued.add(id)) {
+            return;
+        }
+        if (!queue.offer(id)) {
+            queued.remove(id);
+            deferredCounter.increment();
+        }
+    }
+
+    private void runWorker() {
+        Transport transport = null;
+        try {
+            while (running) {
+                Long id = queue.poll(1, TimeUnit.SECONDS);
+                if (id == null) {
+                    // 보낼 메일이 없으면 연결을 닫는다 (SMTP 서버의 유휴 연결 종료 대비)
+                    close(transport);
+                    transport = null;
+                    continue;
+                }
+                queued.remove(id);
+                try {
+                    transport = deliver(id, transport);
+                } catch (RuntimeException e) {
+                    // 보관함 조회/갱신 중 DB 오류 - 워커는 계속 동작하고, 메일은 점유 시간이 지난 뒤 폴링으로 다시 발송
+                    log.error("이메일 발송 처리 실패: outboxId={}", id, e);
+                    close(transport);
+                    transport = null;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            close(transport);
+        }
+    }
+
+    /**
+     * 메일 한 건을 발송하고, 다음 메일에 재사용할 연결을 반환한다.
+     */
+    private Transport deliver(Long id, Transport transport) {
+        LocalDateTime now = LocalDateTime.now();
+        if (emailOutboxRepository.claim(id, EmailOutboxStatus.SENDING, DUE_STATUSES, now, now.plusNanos(leaseMs * 1_000_000)) == 0) {
+            return transport; // 다른 워커(서버)가 이미 발송 중
+        }
+        EmailOutbox outbox = emailOutboxRepository.findById(id).orElse(null);
+        if (outbox == null) {
+            return transport;
+        }
+
+        long start = System.nanoTime();
+        try {
+            if (transport == null || !transport.isConnected()) {
+                close(transport);
+                transport = connect();
+            }
+            MimeMessage message = toMimeMessage(outbox);
+            transport.sendMessage(message, message.getAllRecipients());
+            sendSuccessTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        } catch (MessagingException | RuntimeException e) {
+            sendFailureTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            close(transport);
+            scheduleRetry(outbox, e);
+            return null;
+        }
+
+        // 발송은 끝났으므로 삭제에 실패해도 재시도하지 않는다 (폴링 때 삭제를 다시 시도)
+        if (!deleteSent(id)) {
+            sentUndeleted.add(id);
+        }
+        return transport;
+    }
+
+    private boolean deleteSent(Long id) {
+        try {
+            emailOutboxRepository.deleteSent(id);
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("발송한 이메일 보관함 삭제 실패: outboxId={}, error={}", id, e.getMessage());
+            return false;
+        }
+    }
+
+    private void scheduleRetry(EmailOutbox outbox, Exception cause) {
+        int attempts = outbox.getAttempts() + 1;
+        String error = cause.getMessage() == null ? cause.getClass().getSimpleName() : cause.getMessage();
+        if (error.length() > MAX_ERROR_LENGTH) {
+            error = error.substring(0, MAX_ERROR_LENGTH);
+        }
+
+        if (attempts >= maxAttempts) {
+            failedCounter.increment();
+            log.error("이메일 발송 실패 (재시도 중단): outboxId={}, attempts={}, error={}", outbox.getId(), attempts, error);
+            emailOutboxRepository.markFailure(outbox.getId(), EmailOutboxStatus.FAILED, attempts, LocalDateTime.now(), error);
+            return;
+        }
+
+        // backoff, 2*backoff, 4*backoff ... (최대 maxBackoffMs)
+        long delayMs = Math.min(maxBackoffMs, backoffMs << Math.min(attempts - 1, 20));
+        retryCounter.increment();
+        log.warn("이메일 발송 실패 (재시도 예정): outboxId={}, attempts={}, delayMs={}, error={}", outbox.getId(), attempts, delayMs, error);
+        emailOutboxRepository.markFailure(outbox.getId(), EmailOutboxStatus.PENDING, attempts,
+                LocalDateTime.now().plusNanos(delayMs * 1_000_000), error);
+    }
+
+    private Transport connect() throws MessagingException {
+        String username = mailSender.getUsername();
+        String password = mailSender.getPassword();
+        if ("".equals(username)) {
+            username = null;
+            password = null;
+        }
+        String protocol = mailSender.getProtocol() != null ? mailSender.getProtocol() : JavaMailSenderImpl.DEFAULT_PROTOCOL;
+        Transport transport = mailSender.getSession().getTransport(protocol);
+        transport.connect(mailSender.getHost(), mailSender.getPort(), username, password);
+        return transport;
+    }
+
+    private MimeMessage toMimeMessage(EmailOutbox outbox) throws MessagingException {
+        MimeMessage mimeMessage = new MimeMessage(mailSender.getSession());
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true);
+        helper.setTo(outbox.getRecipient());
+        helper.setSubject(outbox.getSubject());
+        helper.setText(outbox.getContent(), true);
+        mimeMessage.saveChanges();
+        return mimeMessage;
+    }
+
+    private void close(Transport transport) {
+        if (transport == null) {
+            return;
+        }
+        try {
+            transport.close();
+        } catch (MessagingException e) {
+            log.debug("SMTP 연결 종료 실패: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // 대기열에 남은 메일은 보관함에 PENDING 으로 남아 재시작 후 발송된다
+        running = false;
+        workers.shutdown();
+        workers.awaitTermination(5, TimeUnit.SECONDS);
+    }
+}
@@ -3,12 +3,17 @@ package com.jammit_be.auth.util.email;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Component;
 
+/**
+ * 요청 스레드에서 바로 SMTP 로 발송하는 동기 발송기 (email.async.enabled=false 일 때 사용)
+ */
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "email.async.enabled", havingValue = "false")
 public class SmtpEmailSender implements EmailSender {
 
     private final JavaMailSender javaMailSender;
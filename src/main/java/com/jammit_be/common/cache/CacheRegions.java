@@ -0,0 +1,25 @@
+package com.jammit_be.common.cache;
+
+/**
+ * Hibernate 2차 캐시 영역 이름 (@Cache(region = ...), 쿼리 캐시 힌트에서 사용)
+ * 영역별 크기/만료 시간은 HibernateCacheConfig 에서 정한다.
+ */
+public final class CacheRegions {
+
+    public static final String USER = "user";
+    public static final String USER_PREFERRED_GENRES = "user.preferredGenres";
+    public static final String USER_BAND_SESSIONS = "user.userBandSessions";
+    public static final String PREFERRED_GENRE = "preferredGenre";
+    public static final String PREFERRED_BAND_SESSION = "preferredBandSession";
+    public static final String GATHERING_SESSION = "gatheringSession";
+    public static final String GATHERING_SESSIONS = "gathering.gatheringSessions";
+    public static final String GATHERING_GENRES = "gathering.genres";
+    public static final String GATHERING_COUNTS = "gathering-counts";
+
+    // Hibernate 기본 쿼리 캐시 영역
+    public static final String QUERY_RESULTS = "default-query-results-region";
+    public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+
+    private CacheRegions() {
+    }
+}
@@ -1,6 +1,7 @@
 package com.jammit_be.common.config;
 
 import com.jammit_be.auth.entity.CustomUserDetail;
+import com.jammit_be.auth.util.UserReferenceProvider;
 import com.jammit_be.user.entity.User;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +18,8 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class AuditorConfig {
 
+    private final UserReferenceProvider userReferenceProvider;
+
     @Bean
     public AuditorAwareImpl auditorAware() {
         return new AuditorAwareImpl();
@@ -32,7 +35,7 @@ public class AuditorConfig {
                             || authentication.getPrincipal().equals("anonymousUser")
             ) return Optional.empty();
             var userDetail = (CustomUserDetail) authentication.getPrincipal();
-            return Optional.of(userDetail.getUser());
+            return Optional.of(userReferenceProvider.getReference(userDetail.getId()));
         }
     }
 }
@@ -0,0 +1,76 @@
+package com.jammit_be.common.config;
+
+import com.jammit_be.common.datasource.ReadReplicaRouter;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * spring.datasource.replica.url 이 있으면 primary / replica 두 커넥션 풀을 만들고
+ * 읽기 전용 트랜잭션(@Transactional(readOnly = true))은 replica 로 보낸다.
+ * 없으면 Spring Boot 기본 DataSource 하나를 그대로 사용한다.
+ *
+ * LazyConnectionDataSourceProxy 는 트랜잭션 시작 시 실제 연결을 가져오지 않고 첫 SQL 실행 때 가져오므로,
+ * 그 시점에 readOnly 여부를 보고 풀을 고를 수 있다.
+ * 고른 연결은 EntityManager 가 닫힐 때까지 유지되므로 spring.jpa.open-in-view 는 꺼 둔다. (켜면 요청 단위로 라우팅됨)
+ * 두 풀은 애플리케이션에 DataSource 빈으로 노출하지 않는다. (DataSource 빈은 하나만 두어 시간 측정 래퍼가 한 번만 적용되게 함)
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "spring.datasource.replica", name = "url")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    public ReadReplicaRouter readReplicaRouter(DataSourceProperties primaryProperties,
+                                               Environment environment,
+                                               MeterRegistry meterRegistry,
+                                               @Value("${datasource.routing.read-your-writes-ms:3000}") long readYourWritesMs,
+                                               @Value("${datasource.routing.retry-after-ms:10000}") long retryAfterMs,
+                                               @Value("${datasource.routing.validation-timeout-seconds:1}") int validationTimeoutSeconds,
+                                               @Value("${datasource.routing.replica-connection-timeout-ms:1000}") long replicaConnectionTimeoutMs) throws Exception {
+        Binder binder = Binder.get(environment);
+        DataSourceProperties replicaProperties = binder.bind("spring.datasource.replica", DataSourceProperties.class)
+                .orElseThrow(() -> new IllegalStateException("spring.datasource.replica 설정이 없습니다."));
+        replicaProperties.setBeanClassLoader(getClass().getClassLoader());
+        replicaProperties.afterPropertiesSet();
+
+        HikariDataSource primary = pool(primaryProperties, binder, "spring.datasource.hikari", ReadReplicaRouter.PRIMARY, meterRegistry);
+        HikariDataSource replica = pool(replicaProperties, binder, "spring.datasource.replica.hikari", ReadReplicaRouter.REPLICA, meterRegistry);
+        replica.setReadOnly(true);
+        // replica 가 응답하지 않을 때 Hikari 기본값(30초) 동안 막히지 않고 바로 primary 로 전환되도록
+        if (!binder.bind("spring.datasource.replica.hikari.connection-timeout", Long.class).isBound()) {
+            replica.setConnectionTimeout(replicaConnectionTimeoutMs);
+        }
+
+        return new ReadReplicaRouter(primary, replica, readYourWritesMs, retryAfterMs, validationTimeoutSeconds, meterRegistry);
+    }
+
+    @Bean
+    public DataSource dataSource(ReadReplicaRouter readReplicaRouter) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(readReplicaRouter.writeDataSource());
+        dataSource.setReadOnlyDataSource(readReplicaRouter.readDataSource());
+        return dataSource;
+    }
+
+    /**
+     * 풀 이름별 hikaricp_* 메트릭 (pool=primary|replica)
+     */
+    private static HikariDataSource pool(DataSourceProperties properties, Binder binder, String hikariPrefix,
+                                         String poolName, MeterRegistry meterRegistry) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        binder.bind(hikariPrefix, Bindable.ofInstance(dataSource));
+        dataSource.setPoolName(poolName);
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return dataSource;
+    }
+}
@@ -0,0 +1,73 @@
+package com.jammit_be.common.config;
+
+import com.jammit_be.common.cache.CacheRegions;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.time.Duration;
+
+/**
+ * Hibernate 2차 캐시 / 쿼리 캐시 영역 설정 (프로세스 내 Ehcache, JCache API)
+ * 캐시는 인스턴스마다 따로 있으므로 다른 인스턴스에서 바뀐 데이터는 만료 시간(ttl)까지 보일 수 있다.
+ * 자주 읽고 드물게 바뀌는 엔티티/컬렉션만 캐시하고, 만료 시간은 짧게 둔다.
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    /**
+     * 같은 JVM 의 여러 컨텍스트(테스트)가 같은 CacheManager 를 공유하므로 컨텍스트 종료 시 닫지 않는다.
+     */
+    @Bean(destroyMethod = "")
+    public CacheManager hibernateCacheManager(@Value("${cache.hibernate.entity-ttl-seconds:300}") long entityTtlSeconds,
+                                              @Value("${cache.hibernate.query-ttl-seconds:60}") long queryTtlSeconds,
+                                              @Value("${cache.hibernate.max-entries:10000}") long maxEntries) {
+        CachingProvider provider = Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(), getClass().getClassLoader());
+
+        Duration entityTtl = Duration.ofSeconds(entityTtlSeconds);
+        for (String region : new String[]{
+                CacheRegions.USER,
+                CacheRegions.USER_PREFERRED_GENRES,
+                CacheRegions.USER_BAND_SESSIONS,
+                CacheRegions.PREFERRED_GENRE,
+                CacheRegions.PREFERRED_BAND_SESSION,
+                CacheRegions.GATHERING_SESSION,
+                CacheRegions.GATHERING_SESSIONS,
+                CacheRegions.GATHERING_GENRES}) {
+            createCache(cacheManager, region, maxEntries, entityTtl);
+        }
+
+        Duration queryTtl = Duration.ofSeconds(queryTtlSeconds);
+        createCache(cacheManager, CacheRegions.GATHERING_COUNTS, maxEntries, queryTtl);
+        createCache(cacheManager, CacheRegions.QUERY_RESULTS, maxEntries, queryTtl);
+        // 테이블별 마지막 변경 시각: 만료되면 오래된 쿼리 결과를 쓸 수 있으므로 만료 없이 둔다 (테이블 수만큼만 저장)
+        createCache(cacheManager, CacheRegions.UPDATE_TIMESTAMPS, 1_000, null);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private static void createCache(CacheManager cacheManager, String region, long maxEntries, Duration ttl) {
+        if (cacheManager.getCache(region) != null) {
+            return;
+        }
+        CacheConfigurationBuilder<Object, Object> builder = CacheConfigurationBuilder
+                .newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(maxEntries))
+                .withExpiry(ttl == null ? ExpiryPolicyBuilder.noExpiration() : ExpiryPolicyBuilder.timeToLiveExpiration(ttl));
+        cacheManager.createCache(region, Eh107Configuration.fromEhcacheCacheConfiguration(builder));
+    }
+}
@@ -1,7 +1,12 @@
 package com.jammit_be.common.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jammit_be.auth.filter.JwtFilter;
 import com.jammit_be.auth.util.JwtUtil;
+import com.jammit_be.common.ratelimit.RateLimitFilter;
+import com.jammit_be.common.ratelimit.RateLimitPolicies;
+import com.jammit_be.common.ratelimit.TokenBucketRateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -14,7 +19,6 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -34,17 +38,16 @@ public class SecurityConfig {
     private final JwtUtil jwtTokenUtils;
     private final UserDetailsService userDetailsService;
     private final HandlerExceptionResolver handlerExceptionResolver;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final RateLimitPolicies rateLimitPolicies;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
 
     @Bean
     public AuthenticationManager authenticationManager(AuthenticationConfiguration configuration) throws Exception {
         return configuration.getAuthenticationManager();
     }
 
-    @Bean
-    public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
-
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -54,10 +57,15 @@ public class SecurityConfig {
                 .httpBasic(AbstractHttpConfigurer::disable)
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .addFilterBefore(new JwtFilter(jwtTokenUtils, userDetailsService, handlerExceptionResolver), UsernamePasswordAuthenticationFilter.class)
+                // 속도 제한은 토큰 검증/사용자 조회보다 먼저 수행
+                .addFilterBefore(new RateLimitFilter(rateLimiter, rateLimitPolicies, objectMapper, meterRegistry), JwtFilter.class)
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html", "/swagger-resources/**", "/actuator/**").permitAll()
                         .requestMatchers("/jammit/auth/**").permitAll()
                         .requestMatchers("/jammit/user/**").permitAll()
+                        .requestMatchers(HttpMethod.PUT, "/jammit/storage/upload").permitAll() // URL 서명으로 검증
+                        .requestMatchers(HttpMethod.GET, "/static/**").permitAll() // 로컬 저장소 파일 조회
+                        .requestMatchers(HttpMethod.HEAD, "/static/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/jammit/gatherings").permitAll()
                         .requestMatchers(HttpMethod.GET, "/jammit/gatherings/{id}").permitAll()
                         .anyRequest().authenticated());
@@ -11,6 +11,9 @@ public class JammitConstants {
     public static final Integer FORBIDDEN = 403;
     public static final Integer NOT_FOUND = 404;
     public static final Integer CONFLICT = 409;
+    public static final Integer PAYLOAD_TOO_LARGE = 413;
+    public static final Integer TOO_MANY_REQUESTS = 429;
+    public static final Integer SERVICE_UNAVAILABLE = 503;
     public static final String SUCCESS_MESSAGE = "성공";
   }
 
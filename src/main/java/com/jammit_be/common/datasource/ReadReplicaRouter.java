@@ -0,0 +1,239 @@
+package com.jammit_be.common.datasource;
+
+import com.jammit_be.common.monitor.QueryType;
+import com.jammit_be.common.monitor.RequestContext;
+import com.jammit_be.common.monitor.RequestContextHolder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 읽기 전용 트랜잭션의 연결을 replica 로 보내는 라우터
+ * (LazyConnectionDataSourceProxy 가 Connection.setReadOnly(true) 이후 실제 연결을 가져올 때 readDataSource() 를 사용)
+ * - 쓰기 트랜잭션을 커밋한 사용자는 read-your-writes 시간 동안 읽기도 primary 에서 한다 (복제 지연 대비)
+ * - replica 연결에 실패하면 retry-after 동안 primary 로 읽고, 주기적인 검사로 복구를 확인한다
+ * - app.db.route{pool,reason} 로 연결 분배를, app.db.replica.healthy 로 replica 상태를 기록한다
+ */
+@Slf4j
+public class ReadReplicaRouter implements AutoCloseable {
+
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final long readYourWritesNanos;
+    private final long retryAfterNanos;
+    private final int validationTimeoutSeconds;
+    private final Map<Route, Counter> routeCounters = new EnumMap<>(Route.class);
+
+    // 사용자(로그인 ID)별 마지막 쓰기 커밋 시각 (read-your-writes 가 지나면 정리)
+    private final Map<String, Long> lastWriteNanos = new ConcurrentHashMap<>();
+    private volatile boolean replicaHealthy = true;
+    private volatile long replicaRetryAtNanos;
+
+    private final DataSource writeDataSource = new RoutedDataSource(false);
+    private final DataSource readDataSource = new RoutedDataSource(true);
+
+    public ReadReplicaRouter(DataSource primary, DataSource replica, long readYourWritesMs, long retryAfterMs,
+                             int validationTimeoutSeconds, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.readYourWritesNanos = TimeUnit.MILLISECONDS.toNanos(readYourWritesMs);
+        this.retryAfterNanos = TimeUnit.MILLISECONDS.toNanos(retryAfterMs);
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+
+        for (Route route : Route.values()) {
+            routeCounters.put(route, Counter.builder("app.db.route")
+                    .description("Physical connections handed out by the read/write router")
+                    .tag("pool", route.pool)
+                    .tag("reason", route.reason)
+                    .register(meterRegistry));
+        }
+        Gauge.builder("app.db.replica.healthy", this, router -> router.replicaHealthy ? 1 : 0)
+                .description("Whether read-only transactions are currently routed to the replica")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 쓰기(기본) 연결: primary
+     */
+    public DataSource writeDataSource() {
+        return writeDataSource;
+    }
+
+    /**
+     * 읽기 전용 트랜잭션 연결: 가능하면 replica
+     */
+    public DataSource readDataSource() {
+        return readDataSource;
+    }
+
+    public boolean isReplicaHealthy() {
+        return replicaHealthy;
+    }
+
+    Connection getWriteConnection() throws SQLException {
+        trackWrite();
+        return route(Route.READ_WRITE);
+    }
+
+    Connection getReadConnection() throws SQLException {
+        if (!replicaHealthy && System.nanoTime() - replicaRetryAtNanos < 0) {
+            return route(Route.REPLICA_DOWN);
+        }
+        String user = currentUser();
+        if (user != null && wroteRecently(user)) {
+            return route(Route.RECENT_WRITE);
+        }
+        try {
+            Connection connection = replica.getConnection();
+            replicaHealthy = true;
+            routeCounters.get(Route.READ_ONLY).increment();
+            return connection;
+        } catch (SQLException e) {
+            markReplicaDown(e);
+            return route(Route.REPLICA_ERROR);
+        }
+    }
+
+    private Connection route(Route route) throws SQLException {
+        routeCounters.get(route).increment();
+        return primary.getConnection();
+    }
+
+    /**
+     * replica 상태 검사 및 지난 쓰기 기록 정리
+     */
+    @Scheduled(fixedDelayString = "${datasource.routing.health-check-interval-ms:5000}")
+    public void checkReplica() {
+        try (Connection connection = replica.getConnection()) {
+            if (connection.isValid(validationTimeoutSeconds)) {
+                if (!replicaHealthy) {
+                    log.info("replica 복구: 읽기 전용 트랜잭션을 다시 replica 로 보냅니다.");
+                }
+                replicaHealthy = true;
+            } else {
+                markReplicaDown(null);
+            }
+        } catch (SQLException e) {
+            markReplicaDown(e);
+        }
+
+        long now = System.nanoTime();
+        lastWriteNanos.values().removeIf(writtenAt -> now - writtenAt >= readYourWritesNanos);
+    }
+
+    private void markReplicaDown(SQLException cause) {
+        if (replicaHealthy) {
+            log.warn("replica 연결 실패: {}ms 동안 읽기 전용 트랜잭션을 primary 로 보냅니다.",
+                    TimeUnit.NANOSECONDS.toMillis(retryAfterNanos), cause);
+        }
+        replicaHealthy = false;
+        replicaRetryAtNanos = System.nanoTime() + retryAfterNanos;
+    }
+
+    private boolean wroteRecently(String user) {
+        Long writtenAt = lastWriteNanos.get(user);
+        return writtenAt != null && System.nanoTime() - writtenAt < readYourWritesNanos;
+    }
+
+    /**
+     * 쓰기 트랜잭션이 실제로 INSERT/UPDATE/DELETE 를 실행하고 커밋되면 사용자의 쓰기 시각을 기록
+     * (HTTP 요청 밖에서는 쓰기 여부를 알 수 없어 커밋만으로 기록)
+     */
+    private void trackWrite() {
+        if (readYourWritesNanos <= 0
+                || !TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return;
+        }
+        String user = currentUser();
+        if (user == null) {
+            return;
+        }
+        RequestContext ctx = RequestContextHolder.getContext();
+        int writesBefore = ctx == null ? -1 : writeCount(ctx);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                if (ctx == null || writeCount(ctx) > writesBefore) {
+                    lastWriteNanos.put(user, System.nanoTime());
+                }
+            }
+        });
+    }
+
+    private static int writeCount(RequestContext ctx) {
+        return ctx.getQueryCount(QueryType.INSERT) + ctx.getQueryCount(QueryType.UPDATE) + ctx.getQueryCount(QueryType.DELETE);
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated() || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (replica instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private enum Route {
+        READ_WRITE(PRIMARY, "read_write"),
+        READ_ONLY(REPLICA, "read_only"),
+        RECENT_WRITE(PRIMARY, "recent_write"),
+        REPLICA_DOWN(PRIMARY, "replica_down"),
+        REPLICA_ERROR(PRIMARY, "replica_error");
+
+        private final String pool;
+        private final String reason;
+
+        Route(String pool, String reason) {
+            this.pool = pool;
+            this.reason = reason;
+        }
+    }
+
+    private final class RoutedDataSource extends AbstractDataSource {
+
+        private final boolean readOnly;
+
+        private RoutedDataSource(boolean readOnly) {
+            this.readOnly = readOnly;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return readOnly ? getReadConnection() : getWriteConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            throw new UnsupportedOperationException("사용자별 연결은 지원하지 않습니다.");
+        }
+    }
+}
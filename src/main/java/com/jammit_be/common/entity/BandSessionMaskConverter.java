@@ -0,0 +1,24 @@
+package com.jammit_be.common.entity;
+
+import com.jammit_be.common.enums.BandSession;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.EnumSet;
+
+/**
+ * 밴드 세션 집합을 session_mask 비트마스크(int)로 저장 (EnumMasks)
+ */
+@Converter
+public class BandSessionMaskConverter implements AttributeConverter<EnumSet<BandSession>, Integer> {
+
+    @Override
+    public Integer convertToDatabaseColumn(EnumSet<BandSession> bandSessions) {
+        return EnumMasks.toMask(bandSessions);
+    }
+
+    @Override
+    public EnumSet<BandSession> convertToEntityAttribute(Integer mask) {
+        return EnumMasks.fromMask(BandSession.class, mask != null ? mask : 0);
+    }
+}
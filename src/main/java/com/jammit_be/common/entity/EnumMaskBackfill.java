@@ -0,0 +1,42 @@
+package com.jammit_be.common.entity;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.stereotype.Component;
+
+/**
+ * genre_mask / session_mask 컬럼 추가 전에 저장된 모임/유저의 마스크를 한 번만 채운다 (db/enum-mask-backfill.sql)
+ * 이관 전 행은 마스크가 NULL 이므로, NULL 인 행이 없으면 UPDATE 를 실행하지 않는다.
+ * (매 시작마다 전체 테이블 UPDATE 로 행 잠금을 잡지 않도록 - 확인은 잠금 없는 EXISTS 조회)
+ * 스키마 생성(ddl-auto, entityManagerFactory) 이후, 웹 서버가 요청을 받기 전에 실행된다.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+public class EnumMaskBackfill implements InitializingBean {
+
+    private static final String SCRIPT = "db/enum-mask-backfill.sql";
+    private static final String PENDING_SQL = """
+            SELECT EXISTS (SELECT 1 FROM gathering WHERE genre_mask IS NULL OR session_mask IS NULL)
+                OR EXISTS (SELECT 1 FROM `user` WHERE genre_mask IS NULL OR session_mask IS NULL)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public EnumMaskBackfill(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(PENDING_SQL, Boolean.class))) {
+            return;
+        }
+        log.info("genre_mask / session_mask 가 비어 있는 행이 있어 {} 를 실행합니다.", SCRIPT);
+        new ResourceDatabasePopulator(new ClassPathResource(SCRIPT)).execute(jdbcTemplate.getDataSource());
+    }
+}
@@ -0,0 +1,43 @@
+package com.jammit_be.common.entity;
+
+import java.util.Collection;
+import java.util.EnumSet;
+
+/**
+ * enum 집합 <-> 비트마스크 변환 (genre_mask, session_mask 컬럼)
+ * 비트 위치는 enum 선언 순서(ordinal)이므로 상수 순서를 바꾸지 말고 새 값은 끝에만 추가한다.
+ * int 컬럼이므로 상수는 31개까지 쓸 수 있다.
+ */
+public final class EnumMasks {
+
+    private EnumMasks() {
+    }
+
+    public static <E extends Enum<E>> int toMask(Collection<E> values) {
+        int mask = 0;
+        if (values != null) {
+            for (E value : values) {
+                mask |= 1 << value.ordinal();
+            }
+        }
+        return mask;
+    }
+
+    public static <E extends Enum<E>> EnumSet<E> fromMask(Class<E> type, int mask) {
+        EnumSet<E> values = EnumSet.noneOf(type);
+        for (E value : type.getEnumConstants()) {
+            if ((mask & (1 << value.ordinal())) != 0) {
+                values.add(value);
+            }
+        }
+        return values;
+    }
+
+    public static <E extends Enum<E>> EnumSet<E> copyOf(Class<E> type, Collection<E> values) {
+        EnumSet<E> copy = EnumSet.noneOf(type);
+        if (values != null) {
+            copy.addAll(values);
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,24 @@
+package com.jammit_be.common.entity;
+
+import com.jammit_be.common.enums.Genre;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.EnumSet;
+
+/**
+ * 장르 집합을 genre_mask 비트마스크(int)로 저장 (EnumMasks)
+ */
+@Converter
+public class GenreMaskConverter implements AttributeConverter<EnumSet<Genre>, Integer> {
+
+    @Override
+    public Integer convertToDatabaseColumn(EnumSet<Genre> genres) {
+        return EnumMasks.toMask(genres);
+    }
+
+    @Override
+    public EnumSet<Genre> convertToEntityAttribute(Integer mask) {
+        return EnumMasks.fromMask(Genre.class, mask != null ? mask : 0);
+    }
+}
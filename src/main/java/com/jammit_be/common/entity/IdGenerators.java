@@ -0,0 +1,18 @@
+package com.jammit_be.common.entity;
+
+/**
+ * 엔티티 PK 생성 테이블 설정 (@TableGenerator 공통 값)
+ * IDENTITY 는 INSERT 를 실행해야 PK 를 알 수 있어 Hibernate JDBC 배치가 꺼지므로,
+ * id_sequence 테이블에서 ALLOCATION_SIZE 개씩 미리 받아 메모리에서 나눠 쓴다 (pooled-lo).
+ * 엔티티마다 sequence_name 행 하나를 쓰고, next_val 은 다음 블록의 시작 값이다.
+ */
+public final class IdGenerators {
+
+    public static final String TABLE = "id_sequence";
+    public static final String PK_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdGenerators() {
+    }
+}
@@ -1,5 +1,6 @@
 package com.jammit_be.common.enums;
 
+// 선언 순서 = session_mask 비트 위치 (EnumMasks). 순서를 바꾸지 말고 새 값은 끝에 추가
 public enum BandSession {
     VOCAL("보컬"),
     ELECTRIC_GUITAR("일렉 기타"),
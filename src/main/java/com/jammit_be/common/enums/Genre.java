@@ -1,5 +1,6 @@
 package com.jammit_be.common.enums;
 
+// 선언 순서 = genre_mask 비트 위치 (EnumMasks). 순서를 바꾸지 말고 새 값은 끝에 추가
 public enum Genre {
     ROCK("락"),
     METAL("메탈"),
@@ -5,6 +5,7 @@ import com.jammit_be.gathering.exception.GatheringException;
 import com.jammit_be.gathering.exception.OwnerException;
 import com.jammit_be.gathering.exception.ParticipantException;
 import io.jsonwebtoken.ExpiredJwtException;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataAccessException;
@@ -41,6 +42,13 @@ public class GlobalExceptionHandler {
         return new CommonResponse<>().fail(CLIENT_FAIL_CODE, e.getMessage());
     }
 
+    @ExceptionHandler(ServiceBusyException.class)
+    public CommonResponse<?> serviceBusyExceptionHandler(ServiceBusyException e, HttpServletResponse response) {
+        log.warn("ServiceBusyException: {}", e.getMessage());
+        response.setHeader("Retry-After", "1");
+        return new CommonResponse<>().fail(SERVICE_UNAVAILABLE, e.getMessage());
+    }
+
     @ExceptionHandler(ExpiredJwtException.class)
     public CommonResponse<?> expiredJwtExceptionHandler(ExpiredJwtException e) {
         log.warn("ExpiredJwtException", e);
@@ -0,0 +1,15 @@
+package com.jammit_be.common.exception;
+
+/**
+ * 서버 자원이 포화 상태라 요청을 즉시 거절할 때 사용하는 예외 (재시도 가능)
+ */
+public class ServiceBusyException extends RuntimeException {
+
+    public ServiceBusyException(String message) {
+        super(message);
+    }
+
+    public ServiceBusyException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
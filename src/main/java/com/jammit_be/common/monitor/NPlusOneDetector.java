@@ -0,0 +1,176 @@
+package com.jammit_be.common.monitor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 한 요청에서 같은 형태의 SQL 이 반복 실행되는 경우(N+1) 감지
+ * - 지문(SqlFingerprint)별 실행 횟수가 threshold 이상이면 해당 요청을 표시하고 카운터를 올린다
+ * - (endpoint, 지문) 쌍은 최대 top-n 개까지 보관하고, 넘치면 발생 횟수가 가장 적은 항목을 밀어낸다
+ * - 보관 목록은 /actuator/queryhotspots 로 조회한다
+ */
+@Slf4j
+@Component
+public class NPlusOneDetector {
+
+    private final boolean enabled;
+    private final int threshold;
+    private final int topN;
+    private final MeterRegistry meterRegistry;
+    private final Map<HotspotKey, HotspotStats> hotspots = new ConcurrentHashMap<>();
+    // (path, method) 별 카운터를 캐시해 감지될 때마다 builder/등록 조회를 하지 않음
+    private final Map<MeterKey, Counters> counterCache = new ConcurrentHashMap<>();
+
+    public NPlusOneDetector(@Value("${monitor.n-plus-one.enabled:true}") boolean enabled,
+                            @Value("${monitor.n-plus-one.threshold:10}") int threshold,
+                            @Value("${monitor.n-plus-one.top-n:50}") int topN,
+                            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.threshold = threshold;
+        this.topN = topN;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 요청 종료 시 호출
+     * @return 반복 실행된 지문이 있으면 true
+     */
+    public boolean inspect(RequestContext ctx) {
+        if (!enabled) {
+            return false;
+        }
+        Counters counters = null;
+        for (Map.Entry<String, Integer> entry : ctx.getStatementCounts().entrySet()) {
+            int repeats = entry.getValue();
+            if (repeats < threshold) {
+                continue;
+            }
+            if (counters == null) {
+                counters = counterCache.computeIfAbsent(new MeterKey(ctx.getBestMatchPath(), ctx.getHttpMethod()),
+                        this::registerCounters);
+            }
+            record(new HotspotKey(ctx.getEndpoint(), entry.getKey()), repeats);
+            counters.repeated().increment(repeats - 1);
+            log.warn("반복 SQL 감지: endpoint={}, repeats={}, sql={}", ctx.getEndpoint(), repeats, entry.getKey());
+        }
+        if (counters == null) {
+            return false;
+        }
+        counters.requests().increment();
+        return true;
+    }
+
+    /**
+     * 발생 횟수가 많은 순
+     */
+    public List<Hotspot> getHotspots() {
+        return hotspots.entrySet().stream()
+                .map(entry -> entry.getValue().toHotspot(entry.getKey()))
+                .sorted(Comparator.comparingLong(Hotspot::getOccurrences).reversed()
+                        .thenComparing(Comparator.comparingInt(Hotspot::getMaxRepeats).reversed()))
+                .toList();
+    }
+
+    public void reset() {
+        hotspots.clear();
+    }
+
+    private Counters registerCounters(MeterKey key) {
+        Counter repeated = Counter.builder("app.query.repeated")
+                .description("Statements executed beyond the first for fingerprints over the N+1 threshold")
+                .tag("path", key.path())
+                .tag("http_method", key.httpMethod())
+                .register(meterRegistry);
+        Counter requests = Counter.builder("app.query.n_plus_one")
+                .description("Requests with a statement fingerprint over the N+1 threshold")
+                .tag("path", key.path())
+                .tag("http_method", key.httpMethod())
+                .register(meterRegistry);
+        return new Counters(repeated, requests);
+    }
+
+    private void record(HotspotKey key, int repeats) {
+        HotspotStats stats = hotspots.get(key);
+        if (stats == null) {
+            synchronized (hotspots) {
+                stats = hotspots.get(key);
+                if (stats == null) {
+                    if (hotspots.size() >= topN) {
+                        evictLeastFrequent();
+                    }
+                    stats = new HotspotStats();
+                    hotspots.put(key, stats);
+                }
+            }
+        }
+        stats.record(repeats);
+    }
+
+    private void evictLeastFrequent() {
+        hotspots.entrySet().stream()
+                .min(Comparator.comparingLong(entry -> entry.getValue().occurrences.sum()))
+                .ifPresent(entry -> hotspots.remove(entry.getKey()));
+    }
+
+    private record HotspotKey(String endpoint, String fingerprint) {
+    }
+
+    private record MeterKey(String path, String httpMethod) {
+    }
+
+    private record Counters(Counter repeated, Counter requests) {
+    }
+
+    private static class HotspotStats {
+        private final LongAdder occurrences = new LongAdder();
+        private final LongAdder totalRepeats = new LongAdder();
+        private final AtomicInteger maxRepeats = new AtomicInteger();
+        private volatile LocalDateTime lastSeenAt;
+
+        void record(int repeats) {
+            occurrences.increment();
+            totalRepeats.add(repeats);
+            maxRepeats.accumulateAndGet(repeats, Math::max);
+            lastSeenAt = LocalDateTime.now();
+        }
+
+        Hotspot toHotspot(HotspotKey key) {
+            return Hotspot.builder()
+                    .endpoint(key.endpoint())
+                    .fingerprint(key.fingerprint())
+                    .occurrences(occurrences.sum())
+                    .totalRepeats(totalRepeats.sum())
+                    .maxRepeats(maxRepeats.get())
+                    .lastSeenAt(lastSeenAt)
+                    .build();
+        }
+    }
+
+    @Getter
+    @Builder
+    public static class Hotspot {
+        private final String endpoint;       // "GET /jammit/gatherings"
+        private final String fingerprint;    // 정규화된 SQL
+        private final long occurrences;      // 감지된 요청 수
+        private final long totalRepeats;     // 감지된 요청들의 누적 실행 횟수
+        private final int maxRepeats;        // 한 요청 최대 실행 횟수
+        private final LocalDateTime lastSeenAt;
+    }
+}
@@ -1,7 +1,9 @@
 package com.jammit_be.common.monitor;
 
+import com.jammit_be.common.monitor.jdbc.SqlTimingRecorder;
 import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -9,7 +11,9 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 import org.springframework.web.servlet.HandlerMapping;
 
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 
 @Component
 @RequiredArgsConstructor
@@ -18,12 +22,19 @@ public class QueryCountInterceptor implements HandlerInterceptor {
     public static final String UNKNOWN_PATH = "UNKNOWN_PATH";
 
     private final MeterRegistry meterRegistry;
+    private final NPlusOneDetector nPlusOneDetector;
+    private final StatementBudget statementBudget;
+    private final ConcurrentMap<MeterKey, DistributionSummary[]> summaryCache = new ConcurrentHashMap<>();
+    private final ConcurrentMap<MeterKey, Timer> dbTimerCache = new ConcurrentHashMap<>();
+    private final ConcurrentMap<MeterKey, Timer[]> phaseTimerCache = new ConcurrentHashMap<>();
 
     /**
      * 컨트롤러 실행 전: RequestContext 생성 후 ThreadLocal 에 등록
      */
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        long now = System.nanoTime();
+
         // 1. HTTP 메서드 추출
         String httpMethod = request.getMethod();
 
@@ -39,6 +50,16 @@ public class QueryCountInterceptor implements HandlerInterceptor {
                 .bestMatchPath(bestMatchPath)
                 .build();
 
+        if (nPlusOneDetector.isEnabled()) {
+            ctx.enableStatementTracking();
+        }
+
+        // 4. 요청 진입(RequestTimingFilter) ~ 지금까지를 FILTER 구간으로 기록하고 컨트롤러 구간 시작
+        Object filterStart = request.getAttribute(RequestTimingFilter.START_ATTR);
+        if (filterStart instanceof Long start) {
+            ctx.addPhaseTime(RequestPhase.FILTER, now - start);
+        }
+        ctx.startHandler(now);
         RequestContextHolder.initContext(ctx);
 
         return true;
@@ -53,23 +74,79 @@ public class QueryCountInterceptor implements HandlerInterceptor {
 
         // 1. 쿼리 횟수를 MeterRegistry 에 기록
         if (ctx != null) {
-            Map<QueryType, Integer> queryCountByType = ctx.getQueryCountByType();
-            queryCountByType.forEach((queryType, count) -> increment(ctx, queryType, count));
+            ctx.finishPhases(System.nanoTime());
+            recordPhases(ctx);
+
+            int[] queryCounts = ctx.getQueryCounts();
+            for (QueryType queryType : QueryType.TYPES) {
+                int count = queryCounts[queryType.ordinal()];
+                if (count > 0) {
+                    increment(ctx, queryType, count);
+                }
+            }
+            // 요청 동안의 JDBC 실행 + fetch 시간 합계
+            if (ctx.getDbStatementCount() > 0) {
+                dbTimerCache.computeIfAbsent(new MeterKey(ctx.getBestMatchPath(), ctx.getHttpMethod()),
+                                key -> SqlTimingRecorder.dbTimeTimer(key.path(), key.httpMethod(), meterRegistry))
+                        .record(ctx.getDbNanos(), TimeUnit.NANOSECONDS);
+            }
+            // 같은 형태의 SQL 반복(N+1) 확인
+            nPlusOneDetector.inspect(ctx);
+            // 요청당 SQL 실행 수 상한 확인 (응답 본문 직렬화 중의 지연 로딩 쿼리까지 포함)
+            // @RestController 는 이미 응답을 보낸 뒤라 요청을 실패시키지 않고 위반 내역만 남긴다
+            statementBudget.check(ctx);
         }
 
         // 2. ThreadLocal 해제
         RequestContextHolder.clear();
     }
 
-    private void increment(RequestContext ctx, QueryType queryType, Integer count) {
-        DistributionSummary summary = DistributionSummary.builder("app.query.per_request")
-                .description("Number of SQL queries per request")
-                .tag("path", ctx.getBestMatchPath())
-                .tag("http_method", ctx.getHttpMethod())
-                .tag("query_type", queryType.name())
-                .publishPercentiles(0.5, 0.95)
-                .register(meterRegistry);
+    private void increment(RequestContext ctx, QueryType queryType, int count) {
+        // (path, method) 별 meter 배열을 캐시해 요청마다 builder/등록 조회를 하지 않음
+        // path 는 매핑 패턴이라 종류가 한정됨
+        DistributionSummary[] summaries = summaryCache.computeIfAbsent(
+                new MeterKey(ctx.getBestMatchPath(), ctx.getHttpMethod()),
+                key -> new DistributionSummary[QueryType.TYPES.length]);
+        DistributionSummary summary = summaries[queryType.ordinal()];
+        if (summary == null) {
+            // 동시에 처음 등록되어도 registry 가 같은 meter 를 돌려줌
+            summary = DistributionSummary.builder("app.query.per_request")
+                    .description("Number of SQL queries per request")
+                    .tag("path", ctx.getBestMatchPath())
+                    .tag("http_method", ctx.getHttpMethod())
+                    .tag("query_type", queryType.name())
+                    .publishPercentiles(0.5, 0.95)
+                    .register(meterRegistry);
+            summaries[queryType.ordinal()] = summary;
+        }
 
         summary.record(count);
     }
+
+    private void recordPhases(RequestContext ctx) {
+        Timer[] timers = phaseTimerCache.computeIfAbsent(
+                new MeterKey(ctx.getBestMatchPath(), ctx.getHttpMethod()),
+                key -> new Timer[RequestPhase.TYPES.length]);
+        for (RequestPhase phase : RequestPhase.TYPES) {
+            long nanos = ctx.getPhaseNanos(phase);
+            if (nanos <= 0) {
+                continue;
+            }
+            Timer timer = timers[phase.ordinal()];
+            if (timer == null) {
+                timer = Timer.builder("app.request.phase")
+                        .description("Per-request latency breakdown by processing phase")
+                        .tag("path", ctx.getBestMatchPath())
+                        .tag("http_method", ctx.getHttpMethod())
+                        .tag("phase", phase.getTag())
+                        .publishPercentiles(0.5, 0.99)
+                        .register(meterRegistry);
+                timers[phase.ordinal()] = timer;
+            }
+            timer.record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private record MeterKey(String path, String httpMethod) {
+    }
 }
@@ -0,0 +1,24 @@
+package com.jammit_be.common.monitor;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 반복 SQL(N+1) 발생 상위 목록 (GET /actuator/queryhotspots)
+ */
+@Component
+@Endpoint(id = "queryhotspots")
+@RequiredArgsConstructor
+public class QueryHotspotEndpoint {
+
+    private final NPlusOneDetector nPlusOneDetector;
+
+    @ReadOperation
+    public List<NPlusOneDetector.Hotspot> hotspots() {
+        return nPlusOneDetector.getHotspots();
+    }
+}
@@ -8,17 +8,48 @@ public enum QueryType {
     DELETE,
     UNKNOWN;
 
+    // values() 는 호출마다 배열을 복사하므로 한 번만 만들어 재사용
+    static final QueryType[] TYPES = values();
+    private static final QueryType[] KEYWORDS = {SELECT, INSERT, UPDATE, DELETE};
+
+    /**
+     * SQL 앞부분만 훑어 종류를 판별한다. (문자열 복사 없이 대소문자 무시 비교)
+     * 앞쪽 공백, 여는 괄호, 블록/라인 주석은 건너뛴다. (Hibernate 의 use_sql_comments 주석 포함)
+     */
     public static QueryType from(String sql) {
-        if (sql == null || sql.isBlank()) {
+        if (sql == null) {
             return UNKNOWN;
         }
 
-        String upperCaseSql = sql.trim().toUpperCase();
+        int start = skipLeading(sql);
+        for (QueryType type : KEYWORDS) {
+            String keyword = type.name();
+            int end = start + keyword.length();
+            if (sql.regionMatches(true, start, keyword, 0, keyword.length())
+                    && (end == sql.length() || !Character.isLetterOrDigit(sql.charAt(end)))) {
+                return type;
+            }
+        }
+        return UNKNOWN;
+    }
 
-        if (upperCaseSql.startsWith(QueryType.SELECT.name())) return QueryType.SELECT;
-        if (upperCaseSql.startsWith(QueryType.INSERT.name())) return QueryType.INSERT;
-        if (upperCaseSql.startsWith(QueryType.UPDATE.name())) return QueryType.UPDATE;
-        if (upperCaseSql.startsWith(QueryType.DELETE.name())) return QueryType.DELETE;
-        return QueryType.UNKNOWN;
+    private static int skipLeading(String sql) {
+        int length = sql.length();
+        int i = 0;
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (Character.isWhitespace(c) || c == '(') {
+                i++;
+            } else if (c == '/' && i + 1 < length && sql.charAt(i + 1) == '*') {
+                int close = sql.indexOf("*/", i + 2);
+                i = close < 0 ? length : close + 2;
+            } else if (c == '-' && i + 1 < length && sql.charAt(i + 1) == '-') {
+                int newline = sql.indexOf('\n', i + 2);
+                i = newline < 0 ? length : newline + 1;
+            } else {
+                break;
+            }
+        }
+        return i;
     }
 }
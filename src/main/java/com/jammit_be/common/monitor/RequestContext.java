@@ -3,16 +3,36 @@ package com.jammit_be.common.monitor;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * 하나의 작업 단위(HTTP 요청, 스케줄러 작업, 비동기 작업)에서 실행된 SQL 집계
+ * 요청 밖의 작업은 httpMethod 를 JOB, bestMatchPath 를 작업 이름으로 둔다.
+ */
 @Getter
 public class RequestContext {
 
+    public static final String JOB_METHOD = "JOB";
+
     private String httpMethod;
     private String bestMatchPath;
 
-    private final Map<QueryType, Integer> queryCountByType = new HashMap<>();
+    // QueryType.ordinal() 위치에 종류별 쿼리 수 누적 (박싱/해시 없이 증가)
+    private final int[] queryCounts = new int[QueryType.TYPES.length];
+
+    // SQL 지문별 실행 횟수 (N+1 감지가 켜진 경우에만 생성)
+    private Map<String, Integer> statementCounts;
+
+    // JDBC 실행 + fetch 시간 합계 (TimedDataSource 가 기록)
+    private long dbNanos;
+    private int dbStatementCount;
+
+    // RequestPhase.ordinal() 위치에 구간별 시간 누적 (DB 는 dbNanos 사용)
+    private final long[] phaseNanos = new long[RequestPhase.TYPES.length];
+    private long handlerStartNanos;
+    private long responseWriteStartNanos;
 
     @Builder
     public RequestContext(String httpMethod, String bestMatchPath) {
@@ -20,8 +40,89 @@ public class RequestContext {
         this.bestMatchPath = bestMatchPath;
     }
 
+    public static RequestContext forJob(String job) {
+        return new RequestContext(JOB_METHOD, job);
+    }
+
+    public boolean isJob() {
+        return JOB_METHOD.equals(httpMethod);
+    }
+
+    /**
+     * @return 요청 밖의 작업이면 작업 이름, HTTP 요청이면 null
+     */
+    public String getJob() {
+        return isJob() ? bestMatchPath : null;
+    }
+
+    public void enableStatementTracking() {
+        if (statementCounts == null) {
+            statementCounts = new HashMap<>();
+        }
+    }
+
     public void incrementQueryCount(String sql) {
-        QueryType queryType = QueryType.from(sql);
-        queryCountByType.merge(queryType, 1, Integer::sum);
+        queryCounts[QueryType.from(sql).ordinal()]++;
+        if (statementCounts != null) {
+            statementCounts.merge(SqlFingerprint.cached(sql), 1, Integer::sum);
+        }
+    }
+
+    public void addDbTime(long nanos) {
+        dbNanos += nanos;
+        dbStatementCount++;
+    }
+
+    public void addPhaseTime(RequestPhase phase, long nanos) {
+        phaseNanos[phase.ordinal()] += nanos;
+    }
+
+    public long getPhaseNanos(RequestPhase phase) {
+        return phase == RequestPhase.DB ? dbNanos : phaseNanos[phase.ordinal()];
+    }
+
+    public void startHandler(long now) {
+        handlerStartNanos = now;
+    }
+
+    /**
+     * 응답 본문 쓰기 시작 = 컨트롤러 실행 종료
+     */
+    public void startResponseWrite(long now) {
+        if (handlerStartNanos > 0 && responseWriteStartNanos == 0) {
+            phaseNanos[RequestPhase.HANDLER.ordinal()] = now - handlerStartNanos;
+            responseWriteStartNanos = now;
+        }
+    }
+
+    /**
+     * 요청 종료: 본문을 쓴 요청은 쓰기 구간, 아니면 컨트롤러 구간을 마감
+     */
+    public void finishPhases(long now) {
+        if (responseWriteStartNanos > 0) {
+            phaseNanos[RequestPhase.RESPONSE_WRITE.ordinal()] = now - responseWriteStartNanos;
+        } else if (handlerStartNanos > 0) {
+            phaseNanos[RequestPhase.HANDLER.ordinal()] = now - handlerStartNanos;
+        }
+    }
+
+    public int getQueryCount(QueryType queryType) {
+        return queryCounts[queryType.ordinal()];
+    }
+
+    public int getTotalQueryCount() {
+        int total = 0;
+        for (int count : queryCounts) {
+            total += count;
+        }
+        return total;
+    }
+
+    public Map<String, Integer> getStatementCounts() {
+        return statementCounts == null ? Collections.emptyMap() : statementCounts;
+    }
+
+    public String getEndpoint() {
+        return httpMethod + " " + bestMatchPath;
     }
 }
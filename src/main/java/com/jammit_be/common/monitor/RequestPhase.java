@@ -0,0 +1,48 @@
+package com.jammit_be.common.monitor;
+
+import java.util.function.Supplier;
+
+/**
+ * 요청 처리 구간
+ * FILTER: 요청 진입 ~ 컨트롤러 호출 직전 (보안 필터, JwtFilter, 속도 제한, 핸들러 조회)
+ * HANDLER: 컨트롤러 실행 (DB, MAPPING 포함)
+ * DB: JDBC 실행 + fetch (TimedDataSource)
+ * MAPPING: 엔티티 → 응답 DTO 변환 (measure 로 감싼 구간)
+ * RESPONSE_WRITE: 응답 본문 직렬화/쓰기
+ */
+public enum RequestPhase {
+
+    FILTER("filter"),
+    HANDLER("handler"),
+    DB("db"),
+    MAPPING("mapping"),
+    RESPONSE_WRITE("response_write");
+
+    static final RequestPhase[] TYPES = values();
+
+    private final String tag;
+
+    RequestPhase(String tag) {
+        this.tag = tag;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+
+    /**
+     * 현재 요청의 해당 구간 시간에 작업 시간을 더한다. (요청 밖이면 그냥 실행)
+     */
+    public <T> T measure(Supplier<T> work) {
+        RequestContext ctx = RequestContextHolder.getContext();
+        if (ctx == null) {
+            return work.get();
+        }
+        long start = System.nanoTime();
+        try {
+            return work.get();
+        } finally {
+            ctx.addPhaseTime(this, System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.jammit_be.common.monitor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 응답 본문을 쓰기 직전: 컨트롤러 구간을 마감하고 본문 쓰기 구간을 시작
+ * monitor.request-timing.server-timing 이 켜져 있으면 Server-Timing 헤더로 구간 시간을 내려준다.
+ * (헤더는 본문보다 먼저 나가므로 본문 쓰기 구간은 헤더에 포함되지 않고 메트릭에만 기록됨)
+ */
+@ControllerAdvice
+public class RequestTimingAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private final boolean serverTimingEnabled;
+
+    public RequestTimingAdvice(@Value("${monitor.request-timing.server-timing:false}") boolean serverTimingEnabled) {
+        this.serverTimingEnabled = serverTimingEnabled;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        RequestContext ctx = RequestContextHolder.getContext();
+        if (ctx != null) {
+            ctx.startResponseWrite(System.nanoTime());
+            if (serverTimingEnabled) {
+                response.getHeaders().add(SERVER_TIMING_HEADER, serverTiming(ctx));
+            }
+        }
+        return body;
+    }
+
+    static String serverTiming(RequestContext ctx) {
+        StringBuilder header = new StringBuilder(96);
+        for (RequestPhase phase : RequestPhase.TYPES) {
+            if (phase == RequestPhase.RESPONSE_WRITE) {
+                continue;
+            }
+            if (!header.isEmpty()) {
+                header.append(", ");
+            }
+            long micros = ctx.getPhaseNanos(phase) / 1_000;
+            // dur 은 밀리초 (소수점 3자리)
+            header.append(phase.getTag()).append(";dur=").append(micros / 1_000).append('.');
+            long fraction = micros % 1_000;
+            if (fraction < 100) {
+                header.append('0');
+            }
+            if (fraction < 10) {
+                header.append('0');
+            }
+            header.append(fraction);
+        }
+        return header.toString();
+    }
+}
@@ -0,0 +1,30 @@
+package com.jammit_be.common.monitor;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 가장 먼저 실행되어 요청 진입 시각을 남긴다. (보안 필터 체인보다 앞)
+ * QueryCountInterceptor.preHandle 에서 이 시각부터 컨트롤러 호출 직전까지를 FILTER 구간으로 기록한다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestTimingFilter extends OncePerRequestFilter {
+
+    public static final String START_ATTR = RequestTimingFilter.class.getName() + ".START";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        request.setAttribute(START_ATTR, System.nanoTime());
+        filterChain.doFilter(request, response);
+    }
+}
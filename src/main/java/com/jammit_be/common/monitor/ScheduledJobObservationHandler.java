@@ -0,0 +1,39 @@
+package com.jammit_be.common.monitor;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.support.ScheduledTaskObservationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * @Scheduled 메서드 실행을 작업 단위로 묶는다 (작업 이름: 클래스명.메서드명)
+ * Spring 이 스케줄 작업마다 만드는 Observation(tasks.scheduled.execution)의 시작/종료는
+ * 작업을 실행하는 스레드에서 호출되므로, 각 스케줄러 메서드를 고치지 않고 컨텍스트를 열고 닫을 수 있다.
+ * 스케줄러에도 UnitOfWorkTaskDecorator 가 적용되면 "async" 컨텍스트가 먼저 열려 있으므로, 그 안에 합치지 않고 따로 연다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ScheduledJobObservationHandler implements ObservationHandler<ScheduledTaskObservationContext> {
+
+    private final UnitOfWork unitOfWork;
+
+    @Override
+    public void onStart(ScheduledTaskObservationContext context) {
+        String job = context.getTargetClass().getSimpleName() + "." + context.getMethod().getName();
+        context.put(UnitOfWork.Scope.class, unitOfWork.openDetached(job));
+    }
+
+    @Override
+    public void onStop(ScheduledTaskObservationContext context) {
+        UnitOfWork.Scope scope = context.remove(UnitOfWork.Scope.class);
+        if (scope != null) {
+            scope.close();
+        }
+    }
+
+    @Override
+    public boolean supportsContext(Observation.Context context) {
+        return context instanceof ScheduledTaskObservationContext;
+    }
+}
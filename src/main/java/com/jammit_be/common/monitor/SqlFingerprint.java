@@ -0,0 +1,113 @@
+package com.jammit_be.common.monitor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * 같은 형태의 SQL 을 하나로 묶기 위한 정규화
+ * - 주석 제거, 소문자 변환, 공백은 단어 사이에만 하나
+ * - 문자열/숫자 리터럴은 ? 로 치환 (식별자 안의 숫자는 유지: g1_0)
+ * - IN (?, ?, ...) 은 개수와 관계없이 IN (?...) 로 통일
+ */
+public final class SqlFingerprint {
+
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\?(?:,\\?)+\\)");
+    private static final int MAX_CACHE_SIZE = 2_000;
+
+    // Hibernate 는 같은 SQL 문자열을 재사용하므로 원문 기준으로 지문 계산 결과를 캐시 (가득 차면 더 넣지 않음)
+    private static final Map<String, String> CACHE = new ConcurrentHashMap<>();
+
+    private SqlFingerprint() {
+    }
+
+    /**
+     * 캐시를 거치는 of (문장마다 호출되는 경로에서 사용)
+     */
+    public static String cached(String sql) {
+        if (sql == null) {
+            return "";
+        }
+        String fingerprint = CACHE.get(sql);
+        if (fingerprint == null) {
+            fingerprint = of(sql);
+            if (CACHE.size() < MAX_CACHE_SIZE) {
+                CACHE.put(sql, fingerprint);
+            }
+        }
+        return fingerprint;
+    }
+
+    public static String of(String sql) {
+        if (sql == null) {
+            return "";
+        }
+        int length = sql.length();
+        StringBuilder out = new StringBuilder(length);
+        boolean pendingSpace = false;
+        int i = 0;
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (c == '/' && i + 1 < length && sql.charAt(i + 1) == '*') {
+                int close = sql.indexOf("*/", i + 2);
+                i = close < 0 ? length : close + 2;
+                pendingSpace = true;
+                continue;
+            }
+            if (c == '-' && i + 1 < length && sql.charAt(i + 1) == '-') {
+                int newline = sql.indexOf('\n', i + 2);
+                i = newline < 0 ? length : newline + 1;
+                pendingSpace = true;
+                continue;
+            }
+            if (Character.isWhitespace(c)) {
+                pendingSpace = true;
+                i++;
+                continue;
+            }
+            // 공백은 단어 사이에만 하나 남김 ("id = ?" 와 "id=?" 를 같게)
+            if (pendingSpace && out.length() > 0 && isWord(out.charAt(out.length() - 1)) && isWord(c)) {
+                out.append(' ');
+            }
+            pendingSpace = false;
+
+            if (c == '\'') {
+                // 문자열 리터럴 ('' 는 이스케이프된 따옴표)
+                i++;
+                while (i < length) {
+                    if (sql.charAt(i) == '\'') {
+                        if (i + 1 < length && sql.charAt(i + 1) == '\'') {
+                            i += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    i++;
+                }
+                i++;
+                out.append('?');
+            } else if (Character.isDigit(c) && !isIdentifierPart(out)) {
+                while (i < length && (Character.isDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+                    i++;
+                }
+                out.append('?');
+            } else {
+                out.append(Character.toLowerCase(c));
+                i++;
+            }
+        }
+        return IN_LIST.matcher(out).replaceAll("(?...)");
+    }
+
+    private static boolean isWord(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$' || c == '?' || c == '*' || c == '\'';
+    }
+
+    private static boolean isIdentifierPart(StringBuilder out) {
+        if (out.length() == 0) {
+            return false;
+        }
+        char previous = out.charAt(out.length() - 1);
+        return Character.isLetterOrDigit(previous) || previous == '_' || previous == '$';
+    }
+}
@@ -0,0 +1,94 @@
+package com.jammit_be.common.monitor;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * endpoint 별 요청당 SQL 실행 수 상한
+ * 설정 예: monitor.statement-budget.limits 아래에 "[GET /jammit/gatherings]": 5
+ * 요청이 끝난 뒤(afterCompletion) 확인하므로 응답은 그대로 나가고 위반 내역만 기록된다.
+ * fail-on-exceed 를 켜면(테스트 모드) 위반 내역을 보관하고, 테스트 실행 리스너가 테스트가 끝날 때 verify() 로 테스트를 실패시킨다.
+ */
+@Slf4j
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "monitor.statement-budget")
+public class StatementBudget {
+
+    // 꺼내 가는 쪽이 없어도 계속 늘어나지 않도록 최근 위반만 보관
+    static final int MAX_VIOLATIONS = 100;
+
+    private boolean enabled;
+    private boolean failOnExceed;
+    private Map<String, Integer> limits = new HashMap<>(); // "GET /jammit/gatherings" -> 최대 실행 수
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final Deque<String> violations = new ArrayDeque<>();
+
+    /**
+     * 상한을 넘긴 요청을 로그로 남기고, fail-on-exceed 이면 위반 내역에 추가
+     */
+    public void check(RequestContext ctx) {
+        if (!enabled) {
+            return;
+        }
+        Integer limit = limits.get(ctx.getEndpoint());
+        int total = ctx.getTotalQueryCount();
+        if (limit == null || total <= limit) {
+            return;
+        }
+
+        String message = ctx.getEndpoint() + " 요청의 SQL 실행 수 " + total + "회가 상한 " + limit + "회를 넘었습니다. "
+                + "반복 SQL: " + ctx.getStatementCounts();
+        log.warn(message);
+        if (failOnExceed) {
+            synchronized (violations) {
+                if (violations.size() >= MAX_VIOLATIONS) {
+                    violations.removeFirst();
+                }
+                violations.addLast(message);
+            }
+        }
+    }
+
+    /**
+     * 지금까지 기록된 위반 내역을 꺼내고 비운다.
+     */
+    public List<String> drainViolations() {
+        synchronized (violations) {
+            List<String> drained = new ArrayList<>(violations);
+            violations.clear();
+            return drained;
+        }
+    }
+
+    /**
+     * 기록된 위반 내역을 비우고, 있었다면 예외를 던진다 (테스트 종료 시 호출)
+     * @throws StatementBudgetExceededException 상한을 넘긴 요청이 있었던 경우
+     */
+    public void verify() {
+        List<String> drained = drainViolations();
+        if (!drained.isEmpty()) {
+            throw new StatementBudgetExceededException(String.join("\n", drained));
+        }
+    }
+
+    public static class StatementBudgetExceededException extends IllegalStateException {
+        public StatementBudgetExceededException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.jammit_be.common.monitor;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * HTTP 요청 밖의 작업(스케줄러, 비동기 작업, 시작 시 러너)을 하나의 작업 단위로 묶어 SQL 을 집계
+ * - 작업 동안 RequestContextHolder 에 RequestContext.forJob(job) 을 등록한다
+ * - 끝나면 app.query.per_job{job,query_type}, app.db.job_time{job} 에 기록하고 N+1 여부를 확인한다
+ * - 이미 컨텍스트가 있는 스레드(HTTP 요청 안, 중첩 작업)에서는 바깥 컨텍스트에 그대로 집계한다
+ */
+@Slf4j
+@Component
+public class UnitOfWork {
+
+    public static final String STARTUP_JOB = "startup";
+
+    private static final Scope NESTED = () -> {
+    };
+
+    private final MeterRegistry meterRegistry;
+    private final NPlusOneDetector nPlusOneDetector;
+    private final ConcurrentMap<String, DistributionSummary[]> summaryCache = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Timer> dbTimerCache = new ConcurrentHashMap<>();
+    private volatile Scope startupScope;
+
+    public UnitOfWork(MeterRegistry meterRegistry, NPlusOneDetector nPlusOneDetector) {
+        this.meterRegistry = meterRegistry;
+        this.nPlusOneDetector = nPlusOneDetector;
+    }
+
+    /**
+     * 작업 단위 시작. 반환된 Scope 를 닫으면 기록 후 컨텍스트를 해제한다.
+     */
+    public Scope open(String job) {
+        if (RequestContextHolder.getContext() != null) {
+            return NESTED;
+        }
+        RequestContext ctx = RequestContext.forJob(job);
+        if (nPlusOneDetector.isEnabled()) {
+            ctx.enableStatementTracking();
+        }
+        RequestContextHolder.initContext(ctx);
+        return () -> {
+            try {
+                record(ctx);
+            } finally {
+                RequestContextHolder.clear();
+            }
+        };
+    }
+
+    /**
+     * 바깥 컨텍스트를 잠시 내려두고 새 작업 단위를 연다. 닫으면 기록 후 바깥 컨텍스트를 되돌린다.
+     * 실행기의 TaskDecorator 가 먼저 연 "async" 컨텍스트 안에서도 작업 이름으로 따로 집계하기 위함
+     */
+    public Scope openDetached(String job) {
+        RequestContext outer = RequestContextHolder.getContext();
+        if (outer == null) {
+            return open(job);
+        }
+        RequestContextHolder.clear();
+        Scope scope = open(job);
+        return () -> {
+            try {
+                scope.close();
+            } finally {
+                RequestContextHolder.initContext(outer);
+            }
+        };
+    }
+
+    public void run(String job, Runnable task) {
+        try (Scope ignored = open(job)) {
+            task.run();
+        }
+    }
+
+    public <T> T call(String job, Supplier<T> task) {
+        try (Scope ignored = open(job)) {
+            return task.get();
+        }
+    }
+
+    /**
+     * 애플리케이션 시작 후 ApplicationRunner / CommandLineRunner 가 실행되는 구간
+     */
+    @EventListener
+    public void onStarted(ApplicationStartedEvent event) {
+        startupScope = open(STARTUP_JOB);
+    }
+
+    @EventListener
+    public void onReady(ApplicationReadyEvent event) {
+        Scope scope = startupScope;
+        startupScope = null;
+        if (scope != null) {
+            scope.close();
+        }
+    }
+
+    private void record(RequestContext ctx) {
+        String job = ctx.getJob();
+        int[] queryCounts = ctx.getQueryCounts();
+        for (QueryType queryType : QueryType.TYPES) {
+            int count = queryCounts[queryType.ordinal()];
+            if (count > 0) {
+                summary(job, queryType).record(count);
+            }
+        }
+        if (ctx.getDbStatementCount() > 0) {
+            dbTimerCache.computeIfAbsent(job, key -> Timer.builder("app.db.job_time")
+                            .description("Total JDBC execute + fetch time per unit of work outside HTTP requests")
+                            .tag("job", key)
+                            .publishPercentiles(0.5, 0.95)
+                            .register(meterRegistry))
+                    .record(ctx.getDbNanos(), TimeUnit.NANOSECONDS);
+        }
+        nPlusOneDetector.inspect(ctx);
+    }
+
+    private DistributionSummary summary(String job, QueryType queryType) {
+        // 작업 이름은 코드에서 정해지므로 종류가 한정됨
+        DistributionSummary[] summaries = summaryCache.computeIfAbsent(job,
+                key -> new DistributionSummary[QueryType.TYPES.length]);
+        DistributionSummary summary = summaries[queryType.ordinal()];
+        if (summary == null) {
+            summary = DistributionSummary.builder("app.query.per_job")
+                    .description("Number of SQL queries per unit of work outside HTTP requests")
+                    .tag("job", job)
+                    .tag("query_type", queryType.name())
+                    .publishPercentiles(0.5, 0.95)
+                    .register(meterRegistry);
+            summaries[queryType.ordinal()] = summary;
+        }
+        return summary;
+    }
+
+    /**
+     * 작업 단위 범위 (try-with-resources 로 닫음)
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,33 @@
+package com.jammit_be.common.monitor;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 실행기(Executor)에 넘기는 작업을 작업 단위로 감싼다.
+ * 제출한 스레드의 작업 이름을 이어받아(HTTP 요청이면 "async:GET /path") 다른 스레드의 SQL 도 집계한다.
+ * 제출한 쪽 컨텍스트는 공유하지 않는다 (RequestContext 는 한 스레드에서만 갱신).
+ * Spring Boot 가 만드는 applicationTaskExecutor 에는 자동 적용되고, 직접 만든 ThreadPoolTaskExecutor 에는 setTaskDecorator 로 지정한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UnitOfWorkTaskDecorator implements TaskDecorator {
+
+    public static final String ASYNC_JOB = "async";
+
+    private final UnitOfWork unitOfWork;
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        String job = jobName(RequestContextHolder.getContext());
+        return () -> unitOfWork.run(job, runnable);
+    }
+
+    private static String jobName(RequestContext parent) {
+        if (parent == null) {
+            return ASYNC_JOB;
+        }
+        return parent.isJob() ? parent.getJob() : ASYNC_JOB + ":" + parent.getEndpoint();
+    }
+}
@@ -0,0 +1,31 @@
+package com.jammit_be.common.monitor.jdbc;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * 애플리케이션의 DataSource 빈을 TimedDataSource 로 감싼다.
+ * (SQL 텍스트만 보는 QueryCountInspector 와 달리 실제 실행/fetch 시간을 측정)
+ */
+@Component
+@ConditionalOnProperty(name = "monitor.sql-timing.enabled", havingValue = "true", matchIfMissing = true)
+public class DataSourceTimingPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<SqlTimingRecorder> recorderProvider;
+
+    public DataSourceTimingPostProcessor(ObjectProvider<SqlTimingRecorder> recorderProvider) {
+        this.recorderProvider = recorderProvider;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof TimedDataSource)) {
+            return new TimedDataSource(dataSource, recorderProvider::getObject);
+        }
+        return bean;
+    }
+}
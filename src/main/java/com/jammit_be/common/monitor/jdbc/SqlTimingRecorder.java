@@ -0,0 +1,123 @@
+package com.jammit_be.common.monitor.jdbc;
+
+import com.jammit_be.common.monitor.QueryType;
+import com.jammit_be.common.monitor.RequestContext;
+import com.jammit_be.common.monitor.RequestContextHolder;
+import com.jammit_be.common.monitor.SqlFingerprint;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL 한 건의 실행/fetch 시간 기록
+ * - HTTP 요청 안이면 RequestContext 에 DB 시간을 누적 (요청 종료 시 app.db.time 으로 기록)
+ * - 요청 밖(스케줄러, 비동기 작업)이면 바로 app.db.time{path=BACKGROUND} 에 기록
+ * - SQL 지문별 지연 히스토그램: app.db.statement{sql_id} (sql_id 와 지문의 대응은 처음 등록할 때 로그로 남김)
+ * - 임계값을 넘은 SQL 은 SLOW_QUERY 로거에 key=value 형식으로 샘플링해 남김
+ */
+@Slf4j
+@Component
+public class SqlTimingRecorder {
+
+    public static final String BACKGROUND_PATH = "BACKGROUND";
+    private static final Logger SLOW_QUERY_LOG = LoggerFactory.getLogger("SLOW_QUERY");
+    private static final String OTHER_SQL_ID = "other";
+
+    private final long slowThresholdNanos;
+    private final double slowSampleRate;
+    private final int maxFingerprints;
+    private final MeterRegistry meterRegistry;
+    private final Timer backgroundTimer;
+    private final Counter slowQueryCounter;
+
+    private final Map<String, Timer> statementTimers = new ConcurrentHashMap<>();
+
+    public SqlTimingRecorder(@Value("${monitor.sql-timing.slow-threshold-ms:200}") long slowThresholdMs,
+                             @Value("${monitor.sql-timing.slow-sample-rate:1.0}") double slowSampleRate,
+                             @Value("${monitor.sql-timing.max-fingerprints:500}") int maxFingerprints,
+                             MeterRegistry meterRegistry) {
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMs);
+        this.slowSampleRate = slowSampleRate;
+        this.maxFingerprints = maxFingerprints;
+        this.meterRegistry = meterRegistry;
+        this.backgroundTimer = dbTimeTimer(BACKGROUND_PATH, "NONE", meterRegistry);
+        this.slowQueryCounter = Counter.builder("app.db.slow_queries")
+                .description("Statements slower than the slow query threshold")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청 단위 DB 시간 Timer (QueryCountInterceptor 와 같은 meter 사용)
+     */
+    public static Timer dbTimeTimer(String path, String httpMethod, MeterRegistry meterRegistry) {
+        return Timer.builder("app.db.time")
+                .description("Total JDBC execute + fetch time per request")
+                .tag("path", path)
+                .tag("http_method", httpMethod)
+                .publishPercentiles(0.5, 0.95)
+                .register(meterRegistry);
+    }
+
+    public void record(String sql, long executeNanos, long fetchNanos, long rows) {
+        long totalNanos = executeNanos + fetchNanos;
+        RequestContext ctx = RequestContextHolder.getContext();
+        if (ctx != null) {
+            ctx.addDbTime(totalNanos);
+        } else {
+            backgroundTimer.record(totalNanos, TimeUnit.NANOSECONDS);
+        }
+
+        String fingerprint = SqlFingerprint.cached(sql);
+        statementTimer(fingerprint, sql).record(totalNanos, TimeUnit.NANOSECONDS);
+
+        if (totalNanos >= slowThresholdNanos) {
+            slowQueryCounter.increment();
+            if (slowSampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < slowSampleRate) {
+                SLOW_QUERY_LOG.warn("slow_query sql_id={} endpoint=\"{}\" execute_ms={} fetch_ms={} rows={} thread=\"{}\" sql=\"{}\"",
+                        sqlId(fingerprint),
+                        ctx != null ? ctx.getEndpoint() : BACKGROUND_PATH,
+                        TimeUnit.NANOSECONDS.toMillis(executeNanos),
+                        TimeUnit.NANOSECONDS.toMillis(fetchNanos),
+                        rows,
+                        Thread.currentThread().getName(),
+                        fingerprint);
+            }
+        }
+    }
+
+    private Timer statementTimer(String fingerprint, String sql) {
+        Timer timer = statementTimers.get(fingerprint);
+        if (timer != null) {
+            return timer;
+        }
+        // 지문 수가 상한을 넘으면 하나의 meter 로 묶어 태그 수 폭증을 막음
+        boolean overflow = statementTimers.size() >= maxFingerprints;
+        String sqlId = overflow ? OTHER_SQL_ID : sqlId(fingerprint);
+        timer = Timer.builder("app.db.statement")
+                .description("JDBC execute + fetch time per statement fingerprint")
+                .tag("sql_id", sqlId)
+                .tag("query_type", QueryType.from(sql).name())
+                .serviceLevelObjectives(Duration.ofMillis(1), Duration.ofMillis(5), Duration.ofMillis(10),
+                        Duration.ofMillis(50), Duration.ofMillis(100), Duration.ofMillis(500), Duration.ofSeconds(1))
+                .register(meterRegistry);
+        if (!overflow && statementTimers.putIfAbsent(fingerprint, timer) == null) {
+            log.info("SQL 지문 등록: sql_id={} sql={}", sqlId, fingerprint);
+        }
+        return timer;
+    }
+
+    static String sqlId(String fingerprint) {
+        return String.format("%08x", fingerprint.hashCode());
+    }
+}
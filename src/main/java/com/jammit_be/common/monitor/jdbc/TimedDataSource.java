@@ -0,0 +1,278 @@
+package com.jammit_be.common.monitor.jdbc;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.function.Supplier;
+
+/**
+ * SQL 실행 시간과 결과 fetch 시간을 재는 DataSource 래퍼
+ * - execute 시간: execute* 호출 구간
+ * - fetch 시간: ResultSet.next() 호출 구간의 합 (ResultSet 을 닫을 때, 닫지 않으면 Statement 를 닫을 때 기록)
+ * Connection / Statement / ResultSet 은 JDK 동적 프록시로 감싸고, 나머지 호출은 그대로 위임한다.
+ * unwrap 은 DelegatingDataSource 가 처리하므로 Hikari 메트릭 등 원본 풀 조회는 그대로 동작한다.
+ */
+public class TimedDataSource extends DelegatingDataSource {
+
+    private static final ClassLoader CLASS_LOADER = TimedDataSource.class.getClassLoader();
+
+    private final Supplier<SqlTimingRecorder> recorderSupplier;
+    private volatile SqlTimingRecorder recorder;
+
+    /**
+     * @param recorderSupplier DataSource 생성 시점에는 MeterRegistry 가 준비되지 않았을 수 있어 처음 사용할 때 조회
+     */
+    public TimedDataSource(DataSource targetDataSource, Supplier<SqlTimingRecorder> recorderSupplier) {
+        super(targetDataSource);
+        this.recorderSupplier = recorderSupplier;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(CLASS_LOADER, new Class<?>[]{Connection.class},
+                new ConnectionHandler(connection));
+    }
+
+    private SqlTimingRecorder recorder() {
+        SqlTimingRecorder current = recorder;
+        if (current == null) {
+            current = recorderSupplier.get();
+            recorder = current;
+        }
+        return current;
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static boolean isIdentityMethod(Method method) {
+        return method.getDeclaringClass() == Object.class;
+    }
+
+    private static Object identity(Object proxy, Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> proxy.getClass().getName() + "@" + Integer.toHexString(System.identityHashCode(proxy));
+        };
+    }
+
+    /**
+     * 한 번의 execute 와 그 결과 fetch 에 대한 측정값
+     */
+    private final class Execution {
+
+        private final String sql;
+        private final long executeNanos;
+        private long fetchNanos;
+        private long rows;
+        private boolean recorded;
+
+        private Execution(String sql, long executeNanos) {
+            this.sql = sql;
+            this.executeNanos = executeNanos;
+        }
+
+        private void record() {
+            if (!recorded) {
+                recorded = true;
+                recorder().record(sql, executeNanos, fetchNanos, rows);
+            }
+        }
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        private ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (isIdentityMethod(method)) {
+                return identity(proxy, method, args);
+            }
+            Object result = TimedDataSource.invoke(target, method, args);
+            return switch (method.getName()) {
+                case "prepareStatement" -> wrapStatement(PreparedStatement.class, result, (String) args[0], (Connection) proxy);
+                case "prepareCall" -> wrapStatement(CallableStatement.class, result, (String) args[0], (Connection) proxy);
+                case "createStatement" -> wrapStatement(Statement.class, result, null, (Connection) proxy);
+                default -> result;
+            };
+        }
+
+        private Object wrapStatement(Class<? extends Statement> type, Object statement, String sql, Connection connection) {
+            return Proxy.newProxyInstance(CLASS_LOADER, new Class<?>[]{type},
+                    new StatementHandler((Statement) statement, sql, connection));
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final Connection connection;
+        private String sql;
+        // execute() 가 결과를 돌려줬지만 아직 getResultSet() 으로 꺼내지 않은 실행
+        private Execution pending;
+        // 열려 있는 ResultSet 의 실행 (Statement 를 닫을 때 미기록분 기록)
+        private Execution open;
+
+        private StatementHandler(Statement target, String sql, Connection connection) {
+            this.target = target;
+            this.sql = sql;
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (isIdentityMethod(method)) {
+                return identity(proxy, method, args);
+            }
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                return execute(method, args);
+            }
+            switch (name) {
+                case "addBatch" -> {
+                    if (args != null && args.length == 1 && args[0] instanceof String batchSql) {
+                        sql = batchSql;
+                    }
+                }
+                case "getResultSet" -> {
+                    Object resultSet = TimedDataSource.invoke(target, method, args);
+                    Execution execution = pending;
+                    pending = null;
+                    return resultSet == null || execution == null ? resultSet : wrapResultSet((ResultSet) resultSet, execution);
+                }
+                case "getConnection" -> {
+                    return connection;
+                }
+                case "close" -> flush();
+                default -> {
+                }
+            }
+            return TimedDataSource.invoke(target, method, args);
+        }
+
+        private Object execute(Method method, Object[] args) throws Throwable {
+            flush();
+            String executedSql = args != null && args.length > 0 && args[0] instanceof String s ? s : sql;
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = TimedDataSource.invoke(target, method, args);
+            } catch (Throwable e) {
+                new Execution(executedSql, System.nanoTime() - start).record();
+                throw e;
+            }
+            Execution execution = new Execution(executedSql, System.nanoTime() - start);
+
+            if (result instanceof ResultSet resultSet) {
+                return wrapResultSet(resultSet, execution);
+            }
+            if (result instanceof Boolean hasResultSet && hasResultSet) {
+                pending = execution;
+                return result;
+            }
+            execution.rows = affectedRows(result);
+            execution.record();
+            return result;
+        }
+
+        private ResultSet wrapResultSet(ResultSet resultSet, Execution execution) {
+            open = execution;
+            return (ResultSet) Proxy.newProxyInstance(CLASS_LOADER, new Class<?>[]{ResultSet.class},
+                    new ResultSetHandler(resultSet, execution));
+        }
+
+        private void flush() {
+            if (pending != null) {
+                pending.record();
+                pending = null;
+            }
+            if (open != null) {
+                open.record();
+                open = null;
+            }
+        }
+
+        private long affectedRows(Object result) {
+            if (result instanceof Number number) {
+                return Math.max(0, number.longValue());
+            }
+            long rows = 0;
+            if (result instanceof int[] counts) {
+                for (int count : counts) {
+                    rows += Math.max(0, count);
+                }
+            } else if (result instanceof long[] counts) {
+                for (long count : counts) {
+                    rows += Math.max(0, count);
+                }
+            }
+            return rows;
+        }
+    }
+
+    private static final class ResultSetHandler implements InvocationHandler {
+
+        private final ResultSet target;
+        private final Execution execution;
+
+        private ResultSetHandler(ResultSet target, Execution execution) {
+            this.target = target;
+            this.execution = execution;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (isIdentityMethod(method)) {
+                return identity(proxy, method, args);
+            }
+            String name = method.getName();
+            if (name.equals("next")) {
+                long start = System.nanoTime();
+                Object hasNext = TimedDataSource.invoke(target, method, args);
+                execution.fetchNanos += System.nanoTime() - start;
+                if ((Boolean) hasNext) {
+                    execution.rows++;
+                }
+                return hasNext;
+            }
+            if (name.equals("close")) {
+                try {
+                    return TimedDataSource.invoke(target, method, args);
+                } finally {
+                    execution.record();
+                }
+            }
+            return TimedDataSource.invoke(target, method, args);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.jammit_be.common.ratelimit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jammit_be.common.dto.CommonResponse;
+import com.jammit_be.common.ratelimit.RateLimitPolicy.KeyType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.jammit_be.common.contant.JammitConstants.HttpConstant.PAYLOAD_TOO_LARGE;
+import static com.jammit_be.common.contant.JammitConstants.HttpConstant.TOO_MANY_REQUESTS;
+
+/**
+ * 경로별 토큰 버킷 속도 제한 필터 (JwtFilter 앞에서 동작)
+ * 한도를 넘은 요청은 인증/컨트롤러를 거치지 않고 429 와 Retry-After 로 바로 거절한다.
+ */
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String TOO_MANY_REQUESTS_MESSAGE = "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.";
+    private static final String PAYLOAD_TOO_LARGE_MESSAGE = "요청 본문이 너무 큽니다.";
+    private static final int MAX_BODY_BYTES = 4096; // 로그인 ID 기준 제한 경로의 최대 본문 크기 (넘으면 413)
+
+    private final TokenBucketRateLimiter rateLimiter;
+    private final List<RateLimitPolicy> policies;
+    private final boolean enabled;
+    private final ObjectMapper objectMapper;
+    private final Map<RateLimitPolicy, Counter> throttledCounters = new HashMap<>();
+
+    public RateLimitFilter(TokenBucketRateLimiter rateLimiter, RateLimitPolicies rateLimitPolicies,
+                           ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.policies = rateLimitPolicies.getPolicies();
+        this.enabled = rateLimitPolicies.isEnabled();
+        this.objectMapper = objectMapper;
+        for (RateLimitPolicy policy : policies) {
+            throttledCounters.put(policy, Counter.builder("app.rate_limit.throttled")
+                    .description("Requests rejected by the rate limiter")
+                    .tag("route", policy.getRoute())
+                    .tag("key", policy.getKeyType().name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled) {
+            return true;
+        }
+        String method = request.getMethod();
+        String path = request.getRequestURI();
+        for (RateLimitPolicy policy : policies) {
+            if (policy.matches(method, path)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        HttpServletRequest target = request;
+        String loginId = null;
+        boolean loginIdResolved = false;
+
+        for (RateLimitPolicy policy : policies) {
+            if (!policy.matches(request.getMethod(), request.getRequestURI())) {
+                continue;
+            }
+
+            String key;
+            if (policy.getKeyType() == KeyType.IP) {
+                key = request.getRemoteAddr(); // 프록시 뒤에서는 server.forward-headers-strategy 로 클라이언트 IP
+            } else {
+                if (!loginIdResolved) {
+                    // Content-Length 가 없어도(chunked) 본문을 읽어 로그인 ID 를 확인 - 건너뛰면 계정별 제한을 우회할 수 있음
+                    CachedBodyRequest cached = request.getContentLengthLong() > MAX_BODY_BYTES
+                            ? null
+                            : CachedBodyRequest.read(request, MAX_BODY_BYTES);
+                    if (cached == null) {
+                        writeFailure(response, PAYLOAD_TOO_LARGE, PAYLOAD_TOO_LARGE_MESSAGE);
+                        return;
+                    }
+                    target = cached;
+                    loginId = extractLoginId(cached.getBody());
+                    loginIdResolved = true;
+                }
+                key = loginId;
+            }
+            if (key == null) {
+                continue; // 본문에 email 이 없으면 IP 정책만 적용
+            }
+
+            long waitNanos = rateLimiter.tryAcquire(policy, key);
+            if (waitNanos > 0) {
+                throttledCounters.get(policy).increment();
+                // 거절마다 warn 을 남기면 공격 트래픽이 그대로 로그 폭주가 되므로 debug 로만 남김 (건수는 카운터로 확인)
+                log.debug("요청 속도 제한: policy={}, key={}", policy.getName(), key);
+                reject(response, waitNanos);
+                return;
+            }
+        }
+
+        filterChain.doFilter(target, response);
+    }
+
+    private String extractLoginId(byte[] body) {
+        try {
+            JsonNode email = objectMapper.readTree(body).get("email");
+            if (email == null || !email.isTextual() || email.asText().isBlank()) {
+                return null;
+            }
+            return email.asText().trim().toLowerCase();
+        } catch (IOException e) {
+            return null; // 잘못된 본문은 컨트롤러에서 400 으로 처리
+        }
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, (waitNanos + 999_999_999) / 1_000_000_000);
+        response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+        writeFailure(response, TOO_MANY_REQUESTS, TOO_MANY_REQUESTS_MESSAGE);
+    }
+
+    private void writeFailure(HttpServletResponse response, int status, String message) throws IOException {
+        response.setStatus(status);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getWriter(), new CommonResponse<>().fail(status, message));
+    }
+}
@@ -0,0 +1,43 @@
+package com.jammit_be.common.ratelimit;
+
+import com.jammit_be.common.ratelimit.RateLimitPolicy.KeyType;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 속도 제한 대상 경로와 정책 목록
+ * - 로그인: BCrypt 비용이 큰 요청이므로 IP 와 계정(email) 모두 제한
+ * - 인증번호 발송: SMTP 발송이 일어나므로 IP 와 수신 이메일 모두 제한
+ * - 모임 목록: 비로그인 공개 조회이므로 IP 기준으로 제한
+ */
+@Getter
+@Component
+public class RateLimitPolicies {
+
+    private final boolean enabled;
+    private final List<RateLimitPolicy> policies;
+
+    public RateLimitPolicies(@Value("${rate-limit.enabled:true}") boolean enabled,
+                             @Value("${rate-limit.login.ip.capacity:20}") int loginIpCapacity,
+                             @Value("${rate-limit.login.ip.refill-per-minute:20}") int loginIpRefill,
+                             @Value("${rate-limit.login.login-id.capacity:5}") int loginIdCapacity,
+                             @Value("${rate-limit.login.login-id.refill-per-minute:5}") int loginIdRefill,
+                             @Value("${rate-limit.send-code.ip.capacity:10}") int sendCodeIpCapacity,
+                             @Value("${rate-limit.send-code.ip.refill-per-minute:10}") int sendCodeIpRefill,
+                             @Value("${rate-limit.send-code.login-id.capacity:3}") int sendCodeIdCapacity,
+                             @Value("${rate-limit.send-code.login-id.refill-per-minute:1}") int sendCodeIdRefill,
+                             @Value("${rate-limit.gatherings.ip.capacity:60}") int gatheringsIpCapacity,
+                             @Value("${rate-limit.gatherings.ip.refill-per-minute:600}") int gatheringsIpRefill) {
+        this.enabled = enabled;
+        this.policies = List.of(
+                new RateLimitPolicy("login", "POST", "/jammit/auth/login", KeyType.IP, loginIpCapacity, loginIpRefill),
+                new RateLimitPolicy("login", "POST", "/jammit/auth/login", KeyType.LOGIN_ID, loginIdCapacity, loginIdRefill),
+                new RateLimitPolicy("send-code", "POST", "/jammit/auth/email/send-code", KeyType.IP, sendCodeIpCapacity, sendCodeIpRefill),
+                new RateLimitPolicy("send-code", "POST", "/jammit/auth/email/send-code", KeyType.LOGIN_ID, sendCodeIdCapacity, sendCodeIdRefill),
+                new RateLimitPolicy("gatherings", "GET", "/jammit/gatherings", KeyType.IP, gatheringsIpCapacity, gatheringsIpRefill)
+        );
+    }
+}
@@ -0,0 +1,40 @@
+package com.jammit_be.common.ratelimit;
+
+import lombok.Getter;
+
+/**
+ * 경로별 토큰 버킷 정책
+ * capacity 만큼 연속 요청을 허용하고, 분당 refillPerMinute 개씩 다시 채워진다.
+ */
+@Getter
+public class RateLimitPolicy {
+
+    public enum KeyType {
+        IP,       // 클라이언트 IP
+        LOGIN_ID  // 요청 본문의 email
+    }
+
+    private final String route;   // 메트릭 태그용 경로 이름 (login, send-code, gatherings)
+    private final String method;
+    private final String path;
+    private final KeyType keyType;
+    private final int capacity;
+    private final double refillPerNano;
+
+    public RateLimitPolicy(String route, String method, String path, KeyType keyType, int capacity, int refillPerMinute) {
+        this.route = route;
+        this.method = method;
+        this.path = path;
+        this.keyType = keyType;
+        this.capacity = capacity;
+        this.refillPerNano = refillPerMinute / 60_000_000_000.0;
+    }
+
+    public boolean matches(String requestMethod, String requestPath) {
+        return method.equalsIgnoreCase(requestMethod) && path.equals(requestPath);
+    }
+
+    public String getName() {
+        return route + ":" + keyType.name().toLowerCase();
+    }
+}
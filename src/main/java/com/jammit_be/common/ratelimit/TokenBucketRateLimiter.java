@@ -0,0 +1,104 @@
+package com.jammit_be.common.ratelimit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 키(IP, 로그인 ID)별 토큰 버킷
+ * - 버킷은 키마다 토큰 수와 마지막 충전 시각만 가진다 (활성 키당 O(1) 메모리)
+ * - 같은 키의 충전/소비는 키 해시로 고른 stripe 락 안에서만 수행한다 (전역 락 없음)
+ * - idle-timeout 동안 요청이 없던 키는 주기적으로 제거한다 (그 사이 버킷은 이미 가득 찬 상태)
+ */
+@Component
+public class TokenBucketRateLimiter {
+
+    private static final class Bucket {
+        private double tokens;
+        private long lastRefillNanos;
+
+        private Bucket(double tokens, long lastRefillNanos) {
+            this.tokens = tokens;
+            this.lastRefillNanos = lastRefillNanos;
+        }
+    }
+
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final Object[] stripes;
+    private final long idleTimeoutNanos;
+    private final LongSupplier nanoClock;
+
+    @Autowired
+    public TokenBucketRateLimiter(@Value("${rate-limit.stripes:64}") int stripeCount,
+                                  @Value("${rate-limit.idle-timeout-ms:600000}") long idleTimeoutMs,
+                                  MeterRegistry meterRegistry) {
+        this(stripeCount, idleTimeoutMs, System::nanoTime);
+        Gauge.builder("app.rate_limit.keys", buckets, Map::size)
+                .description("Active rate limit buckets")
+                .register(meterRegistry);
+    }
+
+    TokenBucketRateLimiter(int stripeCount, long idleTimeoutMs, LongSupplier nanoClock) {
+        this.stripes = new Object[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Object();
+        }
+        this.idleTimeoutNanos = idleTimeoutMs * 1_000_000;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 토큰 하나를 소비한다.
+     * @return 허용되면 0, 거절되면 다음 토큰이 채워질 때까지 남은 시간(ns)
+     */
+    public long tryAcquire(RateLimitPolicy policy, String key) {
+        String bucketKey = policy.getName() + ":" + key;
+        long now = nanoClock.getAsLong();
+
+        synchronized (stripeOf(bucketKey)) {
+            Bucket bucket = buckets.get(bucketKey);
+            if (bucket == null) {
+                buckets.put(bucketKey, new Bucket(policy.getCapacity() - 1, now));
+                return 0;
+            }
+
+            double refilled = (now - bucket.lastRefillNanos) * policy.getRefillPerNano();
+            bucket.tokens = Math.min(policy.getCapacity(), bucket.tokens + refilled);
+            bucket.lastRefillNanos = now;
+
+            if (bucket.tokens >= 1) {
+                bucket.tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - bucket.tokens) / policy.getRefillPerNano());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${rate-limit.sweep-interval-ms:60000}")
+    public void evictIdle() {
+        long now = nanoClock.getAsLong();
+        for (Map.Entry<String, Bucket> entry : buckets.entrySet()) {
+            synchronized (stripeOf(entry.getKey())) {
+                if (now - entry.getValue().lastRefillNanos > idleTimeoutNanos) {
+                    buckets.remove(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+    }
+
+    int size() {
+        return buckets.size();
+    }
+
+    private Object stripeOf(String key) {
+        int hash = key.hashCode();
+        return stripes[((hash ^ (hash >>> 16)) & 0x7fffffff) % stripes.length];
+    }
+}
@@ -11,12 +11,16 @@ import com.jammit_be.gathering.dto.response.GatheringListResponse;
 import com.jammit_be.gathering.service.GatheringOwnerService;
 import com.jammit_be.gathering.service.GatheringService;
 import com.jammit_be.gathering.service.GatheringParticipationService;
+import com.jammit_be.storage.dto.request.ConfirmUploadRequest;
+import com.jammit_be.storage.dto.request.PresignedUploadRequest;
+import com.jammit_be.storage.dto.response.PresignedUploadResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Pageable;
@@ -178,4 +182,40 @@ public class GatheringController {
         return CommonResponse.ok();
     }
 
+
+    @Operation(
+            summary = "모임 썸네일 업로드 URL 발급 API",
+            description = "모임 썸네일을 저장소에 직접 PUT 할 수 있는 단기 URL 과 key 를 발급합니다. 업로드 후 확정 API 를 호출해야 반영됩니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "발급 성공"),
+                    @ApiResponse(responseCode = "400", description = "지원하지 않는 형식이거나 5MB 초과"),
+                    @ApiResponse(responseCode = "403", description = "권한 없음/로그인 필요"),
+                    @ApiResponse(responseCode = "404", description = "모임이 존재하지 않음")
+            }
+    )
+    @PostMapping("/{id}/thumbnail/presigned")
+    public CommonResponse<PresignedUploadResponse> issueThumbnailUpload(
+            @PathVariable Long id,
+            @Valid @RequestBody PresignedUploadRequest request
+    ) {
+        return CommonResponse.ok(gatheringService.issueThumbnailUpload(id, request));
+    }
+
+    @Operation(
+            summary = "모임 썸네일 업로드 확정 API",
+            description = "직접 업로드한 파일의 key 를 받아 모임 썸네일로 반영합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "반영 성공 (이미지 URL 반환)"),
+                    @ApiResponse(responseCode = "400", description = "잘못된 key 이거나 업로드된 파일이 없음"),
+                    @ApiResponse(responseCode = "403", description = "권한 없음/로그인 필요"),
+                    @ApiResponse(responseCode = "404", description = "모임이 존재하지 않음")
+            }
+    )
+    @PutMapping("/{id}/thumbnail/confirm")
+    public CommonResponse<String> confirmThumbnail(
+            @PathVariable Long id,
+            @Valid @RequestBody ConfirmUploadRequest request
+    ) {
+        return CommonResponse.ok(gatheringService.confirmThumbnail(id, request));
+    }
 }
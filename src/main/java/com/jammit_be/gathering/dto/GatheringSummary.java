@@ -59,7 +59,7 @@ public class GatheringSummary {
                 .viewCount(gathering.getViewCount())
                 .recruitDeadline(gathering.getRecruitDeadline())
                 .status(gathering.getStatus())
-                .genres(gathering.getGenres())
+                .genres(gathering.getGenreMask()) // gathering_genres 를 조회하지 않음
                 .creator(CreatorInfo.of(gathering.getCreatedBy()))
                 .sessions(
                         gathering.getGatheringSessions().stream()
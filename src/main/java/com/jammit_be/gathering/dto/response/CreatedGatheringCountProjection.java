@@ -0,0 +1,9 @@
+package com.jammit_be.gathering.dto.response;
+
+/**
+ * 사용자가 만든 모임 수와 그중 완료된 모임 수를 한 번의 쿼리로 조회하기 위한 Projection
+ */
+public interface CreatedGatheringCountProjection {
+    Long getTotalCount();
+    Long getCompletedCount();
+}
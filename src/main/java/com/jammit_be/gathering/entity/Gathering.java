@@ -1,6 +1,11 @@
 package com.jammit_be.gathering.entity;
 
+import com.jammit_be.common.cache.CacheRegions;
+import com.jammit_be.common.entity.BandSessionMaskConverter;
 import com.jammit_be.common.entity.BaseUserEntity;
+import com.jammit_be.common.entity.EnumMasks;
+import com.jammit_be.common.entity.GenreMaskConverter;
+import com.jammit_be.common.entity.IdGenerators;
 import com.jammit_be.common.enums.BandSession;
 import com.jammit_be.common.enums.Genre;
 import com.jammit_be.common.enums.GatheringStatus;
@@ -11,11 +16,17 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 @Getter
@@ -51,7 +62,9 @@ import java.util.Set;
 public class Gathering extends BaseUserEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "gathering_id")
+    @TableGenerator(name = "gathering_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.PK_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "gathering", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
     @Column(name = "gathering_name", nullable = false, length = 30)
     private String name; // 모임 이름
@@ -78,12 +91,23 @@ public class Gathering extends BaseUserEntity {
     @Column(name = "genre_name")
     @Enumerated(EnumType.STRING)
     @CollectionTable(name = "gathering_genres", joinColumns = @JoinColumn(name = "gathering_id"))
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.GATHERING_GENRES)
     private Set<Genre> genres = new HashSet<>();
 
     // 모집 중인 밴드 세션과 각 세션별 인원 정보
     @OneToMany(mappedBy = "gathering", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.GATHERING_SESSIONS)
     private List<GatheringSession> gatheringSessions = new ArrayList<>();
 
+    // 장르/모집 세션 비트마스크 - 목록 필터는 조인 없이 이 컬럼으로 검색 (genres, gatheringSessions 와 함께 갱신)
+    @Convert(converter = GenreMaskConverter.class)
+    @Column(name = "genre_mask") // NULL 은 이관 전 행 (EnumMaskBackfill 이 채움)
+    private EnumSet<Genre> genreMask = EnumSet.noneOf(Genre.class);
+
+    @Convert(converter = BandSessionMaskConverter.class)
+    @Column(name = "session_mask")
+    private EnumSet<BandSession> sessionMask = EnumSet.noneOf(BandSession.class);
+
     // 참가자들 목록
     @OneToMany(mappedBy = "gathering", cascade = CascadeType.ALL)
     private List<GatheringParticipant> participants = new ArrayList<>();
@@ -94,20 +118,24 @@ public class Gathering extends BaseUserEntity {
     
     public void addGenre(Genre genre) {
         this.genres.add(genre);
+        syncGenreMask();
     }
 
     public void removeGenre(Genre genre) {
         this.genres.remove(genre);
+        syncGenreMask();
     }
 
     public void addGatheringSession(GatheringSession gatheringSession) {
         gatheringSession.setGathering(this);
         this.gatheringSessions.add(gatheringSession);
+        syncSessionMask();
     }
 
     public void removeGatheringSession(GatheringSession gatheringSession) {
         this.gatheringSessions.remove(gatheringSession);
         gatheringSession.setGathering(null);
+        syncSessionMask();
     }
 
     public void increaseViewCount() {
@@ -138,16 +166,62 @@ public class Gathering extends BaseUserEntity {
         this.recruitDeadline = recruitDeadline;
     }
 
+    /**
+     * 빠진 장르만 삭제하고 새 장르만 추가합니다.
+     * 컬렉션을 새로 바꾸면 Hibernate 가 기존 행을 모두 지우고 다시 INSERT 합니다.
+     * null 이면 그대로 두고, 빈 집합이면 모든 장르를 삭제합니다. (updateGatheringSessions 와 같은 규칙)
+     */
     public void changeGenres(Set<Genre> genres) {
-        this.genres = new HashSet<>(genres);
+        if (genres == null) {
+            return;
+        }
+        this.genres.retainAll(genres);
+        this.genres.addAll(genres);
+        syncGenreMask();
     }
 
+    /**
+     * 세션별 모집 인원을 BandSession 기준으로 병합합니다.
+     * 모집 인원이 바뀐 세션만 수정하고(현재 모집 인원 유지), 새 세션은 추가, 요청에 없는 세션은 삭제(orphanRemoval)합니다.
+     * null 이면 그대로 두고, 빈 목록이면 모든 세션을 삭제합니다. (changeGenres 와 같은 규칙)
+     */
     public void updateGatheringSessions(List<GatheringSession> sessions) {
-        this.gatheringSessions.clear();
+        if (sessions == null) {
+            return;
+        }
+        Map<BandSession, GatheringSession> requested = new LinkedHashMap<>();
         for (GatheringSession s : sessions) {
-            s.setGathering(this); // 연관관계 주인 설정
-            this.gatheringSessions.add(s);
+            requested.put(s.getName(), s);
         }
+
+        Iterator<GatheringSession> iterator = this.gatheringSessions.iterator();
+        while (iterator.hasNext()) {
+            GatheringSession existing = iterator.next();
+            GatheringSession update = requested.remove(existing.getName());
+            if (update == null) {
+                if (existing.getCurrentCount() > 0) {
+                    throw new AlertException("이미 모집된 인원이 있는 세션은 삭제할 수 없습니다.");
+                }
+                iterator.remove();
+            } else if (existing.getRecruitCount() != update.getRecruitCount()) {
+                existing.changeRecruitCount(update.getRecruitCount());
+            }
+        }
+
+        for (GatheringSession added : requested.values()) {
+            addGatheringSession(added);
+        }
+        syncSessionMask();
+    }
+
+    // 마스크는 새 EnumSet 으로 교체 (변경 감지는 값 비교)
+    private void syncGenreMask() {
+        this.genreMask = EnumMasks.copyOf(Genre.class, this.genres);
+    }
+
+    private void syncSessionMask() {
+        this.sessionMask = EnumMasks.copyOf(BandSession.class,
+                this.gatheringSessions.stream().map(GatheringSession::getName).toList());
     }
     
     /**
@@ -214,6 +288,8 @@ public class Gathering extends BaseUserEntity {
             session.setGathering(gathering);
             gathering.gatheringSessions.add(session);
         }
+        gathering.syncGenreMask();
+        gathering.syncSessionMask();
 
         return gathering;
     }
@@ -1,6 +1,7 @@
 package com.jammit_be.gathering.entity;
 
 import com.jammit_be.common.entity.BaseEntity;
+import com.jammit_be.common.entity.IdGenerators;
 import com.jammit_be.common.enums.BandSession;
 import com.jammit_be.common.enums.ParticipantStatus;
 import com.jammit_be.user.entity.User;
@@ -30,7 +31,10 @@ import lombok.*;
 })
 public class GatheringParticipant extends BaseEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "gathering_participant_id")
+    @TableGenerator(name = "gathering_participant_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.PK_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "gathering_participant", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
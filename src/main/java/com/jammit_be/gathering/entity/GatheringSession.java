@@ -1,19 +1,28 @@
 package com.jammit_be.gathering.entity;
 
+import com.jammit_be.common.cache.CacheRegions;
 import com.jammit_be.common.entity.BaseEntity;
+import com.jammit_be.common.entity.IdGenerators;
 import com.jammit_be.common.enums.BandSession;
+import com.jammit_be.common.exception.AlertException;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Getter
 @Setter
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.GATHERING_SESSION)
 @Table(name = "gathering_session")
 public class GatheringSession {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "gathering_session_id")
+    @TableGenerator(name = "gathering_session_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.PK_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "gathering_session", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -39,6 +48,16 @@ public class GatheringSession {
         return session;
     }
 
+    /**
+     * 모집 인원 변경 (이미 모집된 인원보다 적게 줄일 수 없음)
+     */
+    public void changeRecruitCount(int recruitCount) {
+        if (recruitCount < this.currentCount) {
+            throw new AlertException("이미 모집된 인원보다 적게 모집 인원을 줄일 수 없습니다.");
+        }
+        this.recruitCount = recruitCount;
+    }
+
     public void incrementCurrentCount() {
         this.currentCount += 1;
     }
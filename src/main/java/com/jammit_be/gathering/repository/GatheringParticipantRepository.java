@@ -14,6 +14,7 @@ import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -59,6 +60,10 @@ public interface GatheringParticipantRepository extends JpaRepository<GatheringP
         return existsByUserAndGatheringAndStatus(user, gathering, ParticipantStatus.COMPLETED);
     }
     
+    // 주어진 유저들 중 해당 모임에 참여 완료(COMPLETED)한 유저 id 목록
+    @Query("SELECT gp.user.id FROM GatheringParticipant gp WHERE gp.gathering.id = :gatheringId AND gp.status = com.jammit_be.common.enums.ParticipantStatus.COMPLETED AND gp.user.id IN :userIds")
+    List<Long> findCompletedUserIds(@Param("gatheringId") Long gatheringId, @Param("userIds") Collection<Long> userIds);
+    
     @Override
     @EntityGraph(value = "GatheringParticipant.withUser")
     Optional<GatheringParticipant> findById(Long id);
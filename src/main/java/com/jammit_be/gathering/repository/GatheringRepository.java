@@ -1,15 +1,20 @@
 package com.jammit_be.gathering.repository;
 
+import com.jammit_be.common.cache.CacheRegions;
 import com.jammit_be.common.enums.GatheringStatus;
+import com.jammit_be.gathering.dto.response.CreatedGatheringCountProjection;
 import com.jammit_be.gathering.entity.Gathering;
 import com.jammit_be.user.entity.User;
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -56,20 +61,18 @@ public interface GatheringRepository extends JpaRepository<Gathering, Long> , Ga
                                     Pageable pageable);
                                     
     /**
-     * 사용자가 생성한 모든 모임 수 카운트
+     * 사용자가 생성한 모임 수와 COMPLETED 상태인 모임 수를 한 번에 카운트 (쿼리 캐시)
      * @param createdBy 모임 생성자
-     * @return 사용자가 생성한 모든 모임 수
+     * @return 전체 모임 수, 완료된 모임 수
      */
-    @Query("SELECT COUNT(g) FROM Gathering g WHERE g.createdBy = :createdBy")
-    long countByCreatedBy(@Param("createdBy") User createdBy);
-    
-    /**
-     * 사용자가 생성한 모임 중 COMPLETED 상태인 모임 수 카운트
-     * @param createdBy 모임 생성자
-     * @return 사용자가 생성한 모임 중 COMPLETED 상태인 모임 수
-     */
-    @Query("SELECT COUNT(g) FROM Gathering g WHERE g.createdBy = :createdBy AND g.status = 'COMPLETED'")
-    long countByCreatedByAndStatusCompleted(@Param("createdBy") User createdBy);
+    @Query("SELECT COUNT(g) AS totalCount, " +
+           "COALESCE(SUM(CASE WHEN g.status = 'COMPLETED' THEN 1 ELSE 0 END), 0) AS completedCount " +
+           "FROM Gathering g WHERE g.createdBy = :createdBy")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.GATHERING_COUNTS)
+    })
+    CreatedGatheringCountProjection countCreatedGatherings(@Param("createdBy") User createdBy);
                                     
     @Override
     @EntityGraph(value = "Gathering.withUsers")
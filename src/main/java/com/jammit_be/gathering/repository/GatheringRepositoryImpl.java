@@ -1,5 +1,6 @@
 package com.jammit_be.gathering.repository;
 
+import com.jammit_be.common.entity.EnumMasks;
 import com.jammit_be.common.enums.BandSession;
 import com.jammit_be.common.enums.Genre;
 import com.jammit_be.common.enums.GatheringStatus;
@@ -7,6 +8,9 @@ import com.jammit_be.gathering.entity.Gathering;
 import com.jammit_be.gathering.entity.QGathering;
 import com.jammit_be.gathering.entity.QGatheringSession;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
@@ -34,11 +38,12 @@ public class GatheringRepositoryImpl implements GatheringRepositoryCustom {
         BooleanBuilder builder = new BooleanBuilder();
         builder.and(gathering.status.eq(GatheringStatus.RECRUITING));
 
+        // 장르/세션 필터는 비트마스크로 (조인 없이 gathering 행만 검사, 세션 목록은 필터와 관계없이 모두 조회)
         if (genres != null && !genres.isEmpty()) {
-            builder.and(gathering.genres.any().in(genres));
+            builder.and(hasAny(gathering.genreMask, EnumMasks.toMask(genres)));
         }
         if (sessions != null && !sessions.isEmpty()) {
-            builder.and(session.name.in(sessions));
+            builder.and(hasAny(gathering.sessionMask, EnumMasks.toMask(sessions)));
         }
 
         // 🚀 FetchJoin 적용 - 핵심 부분!
@@ -46,7 +51,6 @@ public class GatheringRepositoryImpl implements GatheringRepositoryCustom {
                 .selectDistinct(gathering)
                 .from(gathering)
                 .leftJoin(gathering.gatheringSessions, session).fetchJoin()
-                .leftJoin(gathering.genres).fetchJoin()  // 🔥 N+1 해결 핵심!
                 .where(builder);
 
         // 정렬 적용
@@ -74,14 +78,21 @@ public class GatheringRepositoryImpl implements GatheringRepositoryCustom {
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        // Count 쿼리 (별도 실행)
+        // Count 쿼리 (별도 실행, 필터가 gathering 컬럼뿐이라 조인 없음)
         Long total = queryFactory
-                .select(gathering.countDistinct())
+                .select(gathering.count())
                 .from(gathering)
-                .join(gathering.gatheringSessions, session)
                 .where(builder)
                 .fetchOne();
 
         return new PageImpl<>(content, pageable, total != null ? total : 0L);
     }
+
+    /**
+     * 마스크 컬럼에 주어진 비트 중 하나라도 있으면 true (genre_mask & mask <> 0)
+     * 컬럼이 EnumSet 컨버터 타입이라 파라미터로 넘기면 컨버터로 바인딩되므로, enum 으로 계산한 값을 리터럴로 넣는다.
+     */
+    private static BooleanExpression hasAny(Expression<?> maskColumn, int mask) {
+        return Expressions.booleanTemplate("function('bitand', {0}, " + mask + ") <> 0", maskColumn);
+    }
 }
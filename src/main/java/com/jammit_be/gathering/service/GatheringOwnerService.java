@@ -1,6 +1,6 @@
 package com.jammit_be.gathering.service;
 
-import com.jammit_be.auth.util.AuthUtil;
+import com.jammit_be.auth.util.UserReferenceProvider;
 import com.jammit_be.common.enums.GatheringStatus;
 import com.jammit_be.gathering.exception.GatheringException;
 import com.jammit_be.gathering.exception.ParticipantException;
@@ -33,6 +33,7 @@ public class GatheringOwnerService {
 
     private final GatheringRepository gatheringRepository;
     private final GatheringParticipantRepository gatheringParticipantRepository;
+    private final UserReferenceProvider userReferenceProvider;
 
     /**
      * 주최자 승인 처리 API
@@ -42,7 +43,7 @@ public class GatheringOwnerService {
      */
     @Transactional
     public GatheringParticipationResponse approveParticipation(Long gatheringId, Long participantId) {
-        User owner = AuthUtil.getUserInfo();
+        User owner = userReferenceProvider.currentUser();
 
         // 1. 모임 및 참가자 조회
         Gathering gathering = gatheringRepository.findByIdWithLock(gatheringId)
@@ -120,7 +121,7 @@ public class GatheringOwnerService {
      */
     @Transactional
     public GatheringParticipationResponse rejectParticipation(Long gatheringId, Long participantId) {
-        User owner = AuthUtil.getUserInfo();
+        User owner = userReferenceProvider.currentUser();
 
         // 1. 모임 및 참가자 조회
         Gathering gathering = gatheringRepository.findByIdWithSessions(gatheringId)
@@ -173,7 +174,7 @@ public class GatheringOwnerService {
      */
     @Transactional
     public void completeGathering(Long gatheringId) {
-        User owner = AuthUtil.getUserInfo();
+        User owner = userReferenceProvider.currentUser();
 
         // 모임 조회
         Gathering gathering = gatheringRepository.findByIdWithSessions(gatheringId)
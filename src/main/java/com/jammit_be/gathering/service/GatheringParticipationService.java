@@ -1,6 +1,6 @@
 package com.jammit_be.gathering.service;
 
-import com.jammit_be.auth.util.AuthUtil;
+import com.jammit_be.auth.util.UserReferenceProvider;
 import com.jammit_be.common.enums.BandSession;
 import com.jammit_be.common.enums.GatheringStatus;
 import com.jammit_be.gathering.exception.GatheringException;
@@ -33,6 +33,7 @@ public class GatheringParticipationService {
 
     private final GatheringRepository gatheringRepository;
     private final GatheringParticipantRepository gatheringParticipantRepository;
+    private final UserReferenceProvider userReferenceProvider;
 
     /**
      * 모임 참여 API (참여자가 하는 행위들)
@@ -42,7 +43,7 @@ public class GatheringParticipationService {
      */
     @Transactional
     public GatheringParticipationResponse participate(Long gatheringId, GatheringParticipationRequest request) {
-        var user = AuthUtil.getUserInfo();
+        var user = userReferenceProvider.currentUser();
 
         // 1. 모임 조회 및 존재 검증 (세션 정보 포함)
         Gathering gathering = gatheringRepository.findByIdWithSessions(gatheringId)
@@ -92,7 +93,7 @@ public class GatheringParticipationService {
     public GatheringParticipationResponse cancelParticipation(
             Long gatheringId
             , Long participantId) {
-        User user = AuthUtil.getUserInfo();
+        User user = userReferenceProvider.currentUser();
         // 1. 참가 엔티티 조회
         GatheringParticipant participant = gatheringParticipantRepository.findById(participantId)
                 .orElseThrow(ParticipantException.NotFound::new);
@@ -170,7 +171,7 @@ public class GatheringParticipationService {
      */
     @Transactional(readOnly = true)
     public GatheringListResponse getMyParticipations(Pageable pageable) {
-        User user = AuthUtil.getUserInfo();
+        User user = userReferenceProvider.currentUser();
 
         Page<GatheringParticipant> participationsPage = gatheringParticipantRepository.findMyParticipations(user, pageable);
 
@@ -1,8 +1,9 @@
 package com.jammit_be.gathering.service;
 
-import com.jammit_be.auth.util.AuthUtil;
+import com.jammit_be.auth.util.UserReferenceProvider;
 import com.jammit_be.common.enums.BandSession;
 import com.jammit_be.common.enums.Genre;
+import com.jammit_be.common.monitor.RequestPhase;
 import com.jammit_be.gathering.exception.GatheringException;
 import com.jammit_be.gathering.dto.CreatorInfo;
 import com.jammit_be.gathering.dto.GatheringSessionInfo;
@@ -18,6 +19,11 @@ import com.jammit_be.gathering.entity.GatheringParticipant;
 import com.jammit_be.gathering.entity.GatheringSession;
 import com.jammit_be.gathering.repository.GatheringParticipantRepository;
 import com.jammit_be.gathering.repository.GatheringRepository;
+import com.jammit_be.storage.FileStorage;
+import com.jammit_be.storage.UploadPolicy;
+import com.jammit_be.storage.dto.request.ConfirmUploadRequest;
+import com.jammit_be.storage.dto.request.PresignedUploadRequest;
+import com.jammit_be.storage.dto.response.PresignedUploadResponse;
 import com.jammit_be.user.entity.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -35,6 +41,8 @@ public class GatheringService {
 
     private final GatheringRepository gatheringRepository;
     private final GatheringParticipantRepository gatheringParticipantRepository;
+    private final FileStorage fileStorage;
+    private final UserReferenceProvider userReferenceProvider;
 
     /**
      * 모임 등록 API
@@ -43,7 +51,7 @@ public class GatheringService {
      */
     @Transactional
     public GatheringCreateResponse createGathering(GatheringCreateRequest request) {
-        User user = AuthUtil.getUserInfo();
+        User user = userReferenceProvider.currentUser();
         List<GatheringSession> sessionEntities = request.getGatheringSessions().stream()
                 .map(GatheringSessionRequest::toEntity)
                 .toList();
@@ -76,6 +84,7 @@ public class GatheringService {
      * @param pageable 페이징/정렬 정보
      * @return 데이터 + 페이징
      */
+    @Transactional(readOnly = true)
     public GatheringListResponse findGatherings(
             List<Genre> genres
             , List<BandSession> sessions
@@ -85,11 +94,14 @@ public class GatheringService {
         // 1. DB에서 조건/페이징/정렬에 맞는 Gathering 목록 조회
         Page<Gathering> page = gatheringRepository.findGatherings(genres, sessions, pageable);
 
-        // 2. 각 엔티티를 DTO(GatheringSummary)로 변환
-        List<GatheringSummary> summaries = new ArrayList<>();
-        for (Gathering gathering : page.getContent()) {
-            summaries.add(GatheringSummary.of(gathering));
-        }
+        // 2. 각 엔티티를 DTO(GatheringSummary)로 변환 (요청 구간 MAPPING 으로 기록)
+        List<GatheringSummary> summaries = RequestPhase.MAPPING.measure(() -> {
+            List<GatheringSummary> mapped = new ArrayList<>();
+            for (Gathering gathering : page.getContent()) {
+                mapped.add(GatheringSummary.of(gathering));
+            }
+            return mapped;
+        });
 
         // 3. 페이징 정보와 함께 리스트를 Response DTO로 감싸서 반환
         return GatheringListResponse.builder()
@@ -105,6 +117,7 @@ public class GatheringService {
      * @param gatheringId 상세조회 할 모임 PK
      * @return GatheringDetailResponse
      */
+    @Transactional(readOnly = true)
     public GatheringDetailResponse getGatheringDetail(Long gatheringId) {
         // 1. 모임 엔티티 + 밴드 세션 정보까지 한번에 조회
         Gathering gathering = gatheringRepository.findByIdWithSessions(gatheringId)
@@ -144,7 +157,7 @@ public class GatheringService {
      */
     @Transactional
     public GatheringDetailResponse updateGathering(Long id, GatheringUpdateRequest request) {
-        User user = AuthUtil.getUserInfo();
+        User user = userReferenceProvider.currentUser();
         // 1. 기존 모임 데이터 조회 (세션 정보 포함)
         Gathering gathering = gatheringRepository.findByIdWithSessions(id)
                 .orElseThrow( GatheringException.NotFound::new);
@@ -163,8 +176,9 @@ public class GatheringService {
         gathering.changeRecruitDeadline(request.getRecruitDeadline());
         gathering.changeGenres(request.getGenres());
 
-        // 4. 세션(파트/모집인원) 정보가 수정된다면 별도 처리 (예시)
-        if (request.getGatheringSessions() != null && !request.getGatheringSessions().isEmpty()) {
+        // 4. 세션(파트/모집인원)은 BandSession 기준으로 병합 (바뀐 세션만 수정, 현재 모집 인원 유지)
+        //    장르와 같이 null 이면 유지, 빈 목록이면 모든 세션 삭제
+        if (request.getGatheringSessions() != null) {
             // GatheringSessionRequest -> GatheringSession 변환
             List<GatheringSession> newSessions = new ArrayList<>();
             for (GatheringSessionRequest sessionReq : request.getGatheringSessions()) {
@@ -185,7 +199,7 @@ public class GatheringService {
      */
     @Transactional
     public void cancelGathering(Long id) {
-        User user = AuthUtil.getUserInfo();
+        User user = userReferenceProvider.currentUser();
         Gathering gathering = gatheringRepository.findById(id)
                 .orElseThrow(GatheringException.NotFound::new);
 
@@ -205,7 +219,7 @@ public class GatheringService {
      */
     @Transactional(readOnly = true)
     public GatheringListResponse getMyCreatedGatherings(boolean includeCanceled, Pageable pageable) {
-        User user = AuthUtil.getUserInfo();
+        User user = userReferenceProvider.currentUser();
 
         Page<Gathering> gatheringPage = gatheringRepository.findByCreatedBy(user, includeCanceled, pageable);
 
@@ -222,4 +236,46 @@ public class GatheringService {
                 .build();
     }
 
+
+    /**
+     * 모임 썸네일 직접 업로드 URL 발급 (모임 작성자만 가능)
+     * @param gatheringId 모임 PK
+     * @param request 업로드할 파일 형식/크기
+     * @return 업로드 URL 과 object key
+     */
+    @Transactional(readOnly = true)
+    public PresignedUploadResponse issueThumbnailUpload(Long gatheringId, PresignedUploadRequest request) {
+        getOwnedGathering(gatheringId);
+        return fileStorage.createPresignedUpload(thumbnailFolder(gatheringId), request.getContentType(), request.getContentLength());
+    }
+
+    /**
+     * 직접 업로드한 썸네일을 모임에 반영
+     * @param gatheringId 모임 PK
+     * @param request 발급받은 object key
+     * @return 썸네일 URL
+     */
+    @Transactional
+    public String confirmThumbnail(Long gatheringId, ConfirmUploadRequest request) {
+        Gathering gathering = getOwnedGathering(gatheringId);
+        UploadPolicy.checkKey(request.getKey(), thumbnailFolder(gatheringId));
+
+        String url = fileStorage.confirmUpload(request.getKey());
+        gathering.changeThumbnail(url);
+        return url;
+    }
+
+    private Gathering getOwnedGathering(Long gatheringId) {
+        User user = userReferenceProvider.currentUser();
+        Gathering gathering = gatheringRepository.findById(gatheringId)
+                .orElseThrow(GatheringException.NotFound::new);
+        if (!gathering.getCreatedBy().equals(user)) {
+            throw new GatheringException.NoUpdatePermission();
+        }
+        return gathering;
+    }
+
+    private String thumbnailFolder(Long gatheringId) {
+        return "gathering/" + gatheringId;
+    }
 }
@@ -2,7 +2,9 @@ package com.jammit_be.review.controller;
 
 import com.jammit_be.common.dto.CommonResponse;
 import com.jammit_be.common.dto.response.PageResponse;
+import com.jammit_be.review.dto.request.BulkCreateReviewRequest;
 import com.jammit_be.review.dto.request.CreateReviewRequest;
+import com.jammit_be.review.dto.response.BulkReviewResponse;
 import com.jammit_be.review.dto.response.ReviewResponse;
 import com.jammit_be.review.dto.response.ReviewStatisticsResponse;
 import com.jammit_be.review.dto.response.ReviewUserPageResponse;
@@ -80,6 +82,28 @@ public class ReviewController {
         return new CommonResponse<ReviewResponse>().success(response);
     }
 
+    @PostMapping("/bulk")
+    @Operation(
+            summary = "모임 참가자 일괄 리뷰 생성 API",
+            description = "완료된 모임의 다른 참가자들에 대한 리뷰를 한 번에 생성합니다. 대상자별 처리 결과를 반환합니다.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "일괄 리뷰 처리 완료 (대상자별 결과 포함)",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = CommonResponse.class)
+                            )
+                    ),
+                    @ApiResponse(responseCode = "400", description = "리뷰 생성 실패 - 요청 데이터 오류 또는 완료되지 않은 모임"),
+                    @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
+            }
+    )
+    public CommonResponse<BulkReviewResponse> createReviews(@Valid @RequestBody BulkCreateReviewRequest request) {
+        var response = reviewService.createReviews(request);
+        return new CommonResponse<BulkReviewResponse>().success(response);
+    }
+
     @DeleteMapping("/{reviewId}")
     @Operation(
             summary = "리뷰 삭제 API", 
@@ -0,0 +1,59 @@
+package com.jammit_be.review.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "모임 참가자 일괄 리뷰 생성 결과")
+public class BulkReviewResponse {
+
+    @Schema(description = "모임 ID", example = "1")
+    private Long gatheringId;
+
+    @Schema(description = "생성된 리뷰 수", example = "3")
+    private int createdCount;
+
+    @Schema(description = "리뷰 대상자별 처리 결과")
+    private List<ReviewResult> results;
+
+    public enum ResultStatus {
+        CREATED,            // 리뷰 생성 완료
+        SELF_REVIEW,        // 자기 자신에 대한 리뷰
+        DUPLICATED_REQUEST, // 같은 요청 안에서 중복된 대상자
+        NOT_PARTICIPANT,    // 모임에 참여 완료하지 않은 대상자
+        ALREADY_REVIEWED    // 이미 리뷰를 작성한 대상자
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "리뷰 대상자별 처리 결과")
+    public static class ReviewResult {
+
+        @Schema(description = "리뷰 대상 사용자 ID", example = "2")
+        private Long revieweeId;
+
+        @Schema(description = "처리 결과", example = "CREATED")
+        private ResultStatus status;
+
+        @Schema(description = "결과 메세지", example = "리뷰가 생성되었습니다.")
+        private String message;
+
+        public static ReviewResult of(Long revieweeId, ResultStatus status, String message) {
+            return ReviewResult.builder()
+                    .revieweeId(revieweeId)
+                    .status(status)
+                    .message(message)
+                    .build();
+        }
+    }
+}
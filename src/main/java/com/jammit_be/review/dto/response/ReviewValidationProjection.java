@@ -0,0 +1,30 @@
+package com.jammit_be.review.dto.response;
+
+import com.jammit_be.common.enums.GatheringStatus;
+
+/**
+ * 리뷰 생성 전 검증에 필요한 정보를 한 번의 쿼리로 조회하기 위한 Projection
+ */
+public interface ReviewValidationProjection {
+    GatheringStatus getGatheringStatus();
+    Long getRevieweeCount();
+    Long getReviewerCompletedCount();
+    Long getRevieweeCompletedCount();
+    Long getReviewCount();
+
+    default boolean isRevieweeExists() {
+        return getRevieweeCount() > 0;
+    }
+
+    default boolean isReviewerCompleted() {
+        return getReviewerCompletedCount() > 0;
+    }
+
+    default boolean isRevieweeCompleted() {
+        return getRevieweeCompletedCount() > 0;
+    }
+
+    default boolean isAlreadyReviewed() {
+        return getReviewCount() > 0;
+    }
+}
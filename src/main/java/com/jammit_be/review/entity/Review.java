@@ -1,6 +1,7 @@
 package com.jammit_be.review.entity;
 
 import com.jammit_be.common.entity.BaseEntity;
+import com.jammit_be.common.entity.IdGenerators;
 import com.jammit_be.gathering.entity.Gathering;
 import com.jammit_be.user.entity.User;
 import jakarta.persistence.*;
@@ -14,7 +15,13 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @Entity
-@Table(name = "review")
+@Table(
+    name = "review",
+    uniqueConstraints = @UniqueConstraint(
+        name = Review.UNIQUE_CONSTRAINT,
+        columnNames = {"reviewer_id", "reviewee_id", "gathering_id"}
+    )
+)
 @NamedEntityGraphs({
     @NamedEntityGraph(
         name = "Review.withUsers",
@@ -34,8 +41,13 @@ import java.time.LocalDateTime;
 })
 public class Review extends BaseEntity {
 
+    // 같은 모임에서 같은 사람에게 리뷰는 하나만 (동시 작성 시 중복 판별에 사용)
+    public static final String UNIQUE_CONSTRAINT = "uk_review_reviewer_reviewee_gathering";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "review_id")
+    @TableGenerator(name = "review_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.PK_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "review", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
     @Column(nullable = true)
     private String content; // 리뷰 내용 (선택 입력)
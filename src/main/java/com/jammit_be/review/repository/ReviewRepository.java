@@ -1,5 +1,6 @@
 package com.jammit_be.review.repository;
 
+import com.jammit_be.review.dto.response.ReviewValidationProjection;
 import com.jammit_be.review.entity.Review;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -9,11 +10,12 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ReviewRepository extends JpaRepository<Review, Long> {
+public interface ReviewRepository extends JpaRepository<Review, Long>, ReviewRepositoryCustom {
 
     @EntityGraph(value = "Review.withUsers")
     @Query("SELECT r FROM Review r WHERE r.reviewer.id = :userId")
@@ -38,6 +40,34 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
             @Param("revieweeId") Long revieweeId,
             @Param("gatheringId") Long gatheringId);
 
+    // 해당 모임에서 작성자가 이미 리뷰를 작성한 대상자 id 목록 (일괄 리뷰 중복 확인용)
+    @Query("SELECT r.reviewee.id FROM Review r WHERE r.reviewer.id = :reviewerId AND r.gathering.id = :gatheringId AND r.reviewee.id IN :revieweeIds")
+    List<Long> findReviewedRevieweeIds(
+            @Param("reviewerId") Long reviewerId,
+            @Param("gatheringId") Long gatheringId,
+            @Param("revieweeIds") Collection<Long> revieweeIds);
+
+    // 리뷰 생성 검증 정보 (모임 상태, 대상자 존재 여부, 작성자/대상자 참여 완료 여부, 중복 리뷰 여부) 한 번에 조회
+    @Query("""
+    SELECT
+      g.status AS gatheringStatus,
+      (SELECT COUNT(u) FROM User u WHERE u.id = :revieweeId) AS revieweeCount,
+      (SELECT COUNT(gp) FROM GatheringParticipant gp
+        WHERE gp.gathering = g AND gp.user.id = :reviewerId
+          AND gp.status = com.jammit_be.common.enums.ParticipantStatus.COMPLETED) AS reviewerCompletedCount,
+      (SELECT COUNT(gp) FROM GatheringParticipant gp
+        WHERE gp.gathering = g AND gp.user.id = :revieweeId
+          AND gp.status = com.jammit_be.common.enums.ParticipantStatus.COMPLETED) AS revieweeCompletedCount,
+      (SELECT COUNT(r) FROM Review r
+        WHERE r.gathering = g AND r.reviewer.id = :reviewerId AND r.reviewee.id = :revieweeId) AS reviewCount
+    FROM Gathering g
+    WHERE g.id = :gatheringId
+    """)
+    Optional<ReviewValidationProjection> findReviewValidation(
+            @Param("reviewerId") Long reviewerId,
+            @Param("revieweeId") Long revieweeId,
+            @Param("gatheringId") Long gatheringId);
+
     @Override
     @EntityGraph(value = "Review.withUsers")
     Optional<Review> findById(Long id);
@@ -0,0 +1,15 @@
+package com.jammit_be.review.repository;
+
+import com.jammit_be.review.entity.Review;
+
+import java.util.List;
+
+public interface ReviewRepositoryCustom {
+
+    /**
+     * 리뷰 목록을 JDBC 배치로 한 번에 저장합니다.
+     * 바로 flush 하므로 유니크 키 위반은 이 메서드에서 DataIntegrityViolationException 으로 발생합니다.
+     * @param reviews 저장할 리뷰 (reviewer, reviewee, gathering 은 참조만 있어도 됨)
+     */
+    void bulkInsert(List<Review> reviews);
+}
@@ -0,0 +1,28 @@
+package com.jammit_be.review.repository;
+
+import com.jammit_be.review.entity.Review;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ReviewRepositoryImpl implements ReviewRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public void bulkInsert(List<Review> reviews) {
+        if (reviews == null || reviews.isEmpty()) {
+            return;
+        }
+
+        // PK 를 id_sequence 에서 미리 받아두므로 persist 는 INSERT 를 바로 실행하지 않고,
+        // flush 시 hibernate.jdbc.batch_size 단위 JDBC 배치로 한 번에 보낸다 (Auditing 도 적용됨)
+        for (Review review : reviews) {
+            entityManager.persist(review);
+        }
+        // 유니크 키 위반을 호출한 쪽에서 처리할 수 있도록 여기서 실행
+        entityManager.flush();
+    }
+}
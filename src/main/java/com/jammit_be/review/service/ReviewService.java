@@ -1,22 +1,28 @@
 package com.jammit_be.review.service;
 
-import com.jammit_be.auth.util.AuthUtil;
+import com.jammit_be.auth.util.UserReferenceProvider;
 import com.jammit_be.common.enums.GatheringStatus;
 import com.jammit_be.common.exception.AlertException;
 import com.jammit_be.gathering.dto.GatheringParticipantSummary;
 import com.jammit_be.gathering.entity.Gathering;
 import com.jammit_be.gathering.repository.GatheringParticipantRepository;
 import com.jammit_be.gathering.repository.GatheringRepository;
+import com.jammit_be.review.dto.request.BulkCreateReviewRequest;
 import com.jammit_be.review.dto.request.CreateReviewRequest;
+import com.jammit_be.review.dto.response.BulkReviewResponse;
+import com.jammit_be.review.dto.response.BulkReviewResponse.ResultStatus;
 import com.jammit_be.review.dto.response.ReviewResponse;
 import com.jammit_be.review.dto.response.ReviewStatisticsResponse;
 import com.jammit_be.review.dto.response.ReviewUserPageResponse;
+import com.jammit_be.review.dto.response.ReviewValidationProjection;
 import com.jammit_be.review.entity.Review;
 import com.jammit_be.review.repository.ReviewRepository;
 import com.jammit_be.user.dto.response.UserResponse;
 import com.jammit_be.user.entity.User;
 import com.jammit_be.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -25,8 +31,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.jammit_be.common.dto.response.PageResponse;
@@ -37,60 +45,61 @@ import com.jammit_be.review.dto.response.UnwrittenReviewListResponse;
 @RequiredArgsConstructor
 public class ReviewService {
 
+    private static final String DUPLICATE_REVIEW_MESSAGE = "이미 이 모임에서 해당 사용자에 대한 리뷰를 작성했습니다.";
+
     private final ReviewRepository reviewRepository;
     private final UserRepository userRepository;
     private final GatheringRepository gatheringRepository;
     private final GatheringParticipantRepository gatheringParticipantRepository;
+    private final UserReferenceProvider userReferenceProvider;
 
     /**
      * 리뷰 생성
      */
     @Transactional
     public ReviewResponse createReview(CreateReviewRequest request) {
-        User reviewer = AuthUtil.getUserInfo();
-        
-        // 1. 리뷰 대상자 확인
-        User reviewee = userRepository.findById(request.getRevieweeId())
-                .orElseThrow(() -> new AlertException("리뷰 대상자를 찾을 수 없습니다."));
+        User reviewer = userReferenceProvider.currentUser();
 
-        // 2. 모임 확인
-        Gathering gathering = gatheringRepository.findById(request.getGatheringId())
+        // 1. 자기 자신에게 리뷰를 작성하는지 확인 (DB 조회 전 검증)
+        if (reviewer.getId().equals(request.getRevieweeId())) {
+            throw new AlertException("자기 자신에게 리뷰를 작성할 수 없습니다.");
+        }
+
+        // 2. 모임 상태, 대상자, 참여 완료 여부, 중복 리뷰 여부를 한 번에 조회
+        ReviewValidationProjection validation = reviewRepository.findReviewValidation(
+                        reviewer.getId(), request.getRevieweeId(), request.getGatheringId())
                 .orElseThrow(() -> new AlertException("모임을 찾을 수 없습니다."));
-                
-        // 3. 모임 상태 확인 - 모임이 완료 상태인지 확인
-        if (gathering.getStatus() != GatheringStatus.COMPLETED) {
+
+        // 3. 리뷰 대상자 확인
+        if (!validation.isRevieweeExists()) {
+            throw new AlertException("리뷰 대상자를 찾을 수 없습니다.");
+        }
+
+        // 4. 모임 상태 확인 - 모임이 완료 상태인지 확인
+        if (validation.getGatheringStatus() != GatheringStatus.COMPLETED) {
             throw new AlertException("완료된 모임만 리뷰를 작성할 수 있습니다.");
         }
-        
-        // 4. 리뷰 작성자가 해당 모임에 참여 완료했는지 확인
-        boolean reviewerParticipated = gatheringParticipantRepository.isParticipationCompleted(reviewer, gathering);
-        if (!reviewerParticipated) {
+
+        // 5. 리뷰 작성자가 해당 모임에 참여 완료했는지 확인
+        if (!validation.isReviewerCompleted()) {
             throw new AlertException("모임에 참여 완료한 사용자만 리뷰를 작성할 수 있습니다.");
         }
-        
-        // 5. 리뷰 대상자가 해당 모임에 참여 완료했는지 확인
-        boolean revieweeParticipated = gatheringParticipantRepository.isParticipationCompleted(reviewee, gathering);
-        if (!revieweeParticipated) {
+
+        // 6. 리뷰 대상자가 해당 모임에 참여 완료했는지 확인
+        if (!validation.isRevieweeCompleted()) {
             throw new AlertException("모임에 참여 완료한 사용자에게만 리뷰를 작성할 수 있습니다.");
         }
 
-        // 6. 이미 해당 모임에서 해당 사용자에 대한 리뷰를 작성했는지 확인
-        reviewRepository.findByReviewerIdAndRevieweeIdAndGatheringId(
-                        reviewer.getId(), request.getRevieweeId(), request.getGatheringId())
-                .ifPresent(r -> {
-                    throw new AlertException("이미 이 모임에서 해당 사용자에 대한 리뷰를 작성했습니다.");
-                });
-
-        // 7. 자기 자신에게 리뷰를 작성하는지 확인
-        if (reviewer.getId().equals(request.getRevieweeId())) {
-            throw new AlertException("자기 자신에게 리뷰를 작성할 수 없습니다.");
+        // 7. 이미 해당 모임에서 해당 사용자에 대한 리뷰를 작성했는지 확인
+        if (validation.isAlreadyReviewed()) {
+            throw new AlertException(DUPLICATE_REVIEW_MESSAGE);
         }
 
-        // 8. 리뷰 생성
+        // 8. 리뷰 생성 (검증을 통과했으므로 대상자와 모임은 프록시로 참조)
         Review review = new Review();
         review.setReviewer(reviewer);
-        review.setReviewee(reviewee);
-        review.setGathering(gathering);
+        review.setReviewee(userRepository.getReferenceById(request.getRevieweeId()));
+        review.setGathering(gatheringRepository.getReferenceById(request.getGatheringId()));
         review.setContent(request.getContent());
         review.setPracticeHelped(request.getIsPracticeHelped());
         review.setGoodWithMusic(request.getIsGoodWithMusic());
@@ -101,16 +110,129 @@ public class ReviewService {
         review.setGoodLearner(request.getIsGoodLearner());
         review.setKeepingPromises(request.getIsKeepingPromises());
 
-        reviewRepository.save(review);
+        // 9. 검증과 저장 사이에 동시에 작성된 리뷰는 유니크 제약으로 막는다
+        try {
+            reviewRepository.saveAndFlush(review);
+        } catch (DataIntegrityViolationException e) {
+            throw translateDuplicate(e);
+        }
         return ReviewResponse.of(review);
     }
 
+    /**
+     * 모임 참가자 일괄 리뷰 생성
+     * 참여 완료 여부와 중복 여부를 각각 한 번의 쿼리로 확인한 뒤, 작성 가능한 리뷰만 JDBC 배치로 저장합니다.
+     * @return 리뷰 대상자별 처리 결과
+     */
+    @Transactional
+    public BulkReviewResponse createReviews(BulkCreateReviewRequest request) {
+        User reviewer = userReferenceProvider.currentUser();
+        Long gatheringId = request.getGatheringId();
+
+        // 1. 모임 확인
+        Gathering gathering = gatheringRepository.findById(gatheringId)
+                .orElseThrow(() -> new AlertException("모임을 찾을 수 없습니다."));
+
+        // 2. 모임 상태 확인 - 모임이 완료 상태인지 확인
+        if (gathering.getStatus() != GatheringStatus.COMPLETED) {
+            throw new AlertException("완료된 모임만 리뷰를 작성할 수 있습니다.");
+        }
+
+        // 3. 작성자와 대상자들의 참여 완료 여부를 한 번에 확인
+        Set<Long> candidateIds = new HashSet<>();
+        candidateIds.add(reviewer.getId());
+        request.getReviews().forEach(item -> candidateIds.add(item.getRevieweeId()));
+        Set<Long> completedUserIds = new HashSet<>(
+                gatheringParticipantRepository.findCompletedUserIds(gatheringId, candidateIds));
+
+        if (!completedUserIds.contains(reviewer.getId())) {
+            throw new AlertException("모임에 참여 완료한 사용자만 리뷰를 작성할 수 있습니다.");
+        }
+
+        // 4. 이미 리뷰를 작성한 대상자를 한 번에 확인
+        Set<Long> reviewedIds = new HashSet<>(
+                reviewRepository.findReviewedRevieweeIds(reviewer.getId(), gatheringId, candidateIds));
+
+        // 5. 대상자별 결과 판정
+        List<Review> reviews = new ArrayList<>();
+        List<BulkReviewResponse.ReviewResult> results = new ArrayList<>();
+        Set<Long> requestedIds = new HashSet<>();
+        for (BulkCreateReviewRequest.ReviewItem item : request.getReviews()) {
+            Long revieweeId = item.getRevieweeId();
+            if (reviewer.getId().equals(revieweeId)) {
+                results.add(BulkReviewResponse.ReviewResult.of(revieweeId, ResultStatus.SELF_REVIEW,
+                        "자기 자신에게 리뷰를 작성할 수 없습니다."));
+            } else if (!requestedIds.add(revieweeId)) {
+                results.add(BulkReviewResponse.ReviewResult.of(revieweeId, ResultStatus.DUPLICATED_REQUEST,
+                        "같은 대상자에 대한 리뷰가 중복으로 요청되었습니다."));
+            } else if (!completedUserIds.contains(revieweeId)) {
+                results.add(BulkReviewResponse.ReviewResult.of(revieweeId, ResultStatus.NOT_PARTICIPANT,
+                        "모임에 참여 완료한 사용자에게만 리뷰를 작성할 수 있습니다."));
+            } else if (reviewedIds.contains(revieweeId)) {
+                results.add(BulkReviewResponse.ReviewResult.of(revieweeId, ResultStatus.ALREADY_REVIEWED,
+                        DUPLICATE_REVIEW_MESSAGE));
+            } else {
+                reviews.add(toReview(item, reviewer, userRepository.getReferenceById(revieweeId), gathering));
+                results.add(BulkReviewResponse.ReviewResult.of(revieweeId, ResultStatus.CREATED,
+                        "리뷰가 생성되었습니다."));
+            }
+        }
+
+        // 6. 작성 가능한 리뷰를 한 번에 저장
+        try {
+            reviewRepository.bulkInsert(reviews);
+        } catch (DataIntegrityViolationException e) {
+            throw translateDuplicate(e);
+        }
+
+        return BulkReviewResponse.builder()
+                .gatheringId(gatheringId)
+                .createdCount(reviews.size())
+                .results(results)
+                .build();
+    }
+
+    /**
+     * 리뷰 유니크 제약 위반만 중복 리뷰로 안내하고, 다른 무결성 위반(FK, NOT NULL 등)은 그대로 던진다
+     * (검증과 저장 사이의 동시 작성은 테스트에서 재현하기 어려워 package-private 으로 두고 직접 확인)
+     */
+    RuntimeException translateDuplicate(DataIntegrityViolationException e) {
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                // MySQL 은 "review.uk_..." 처럼 테이블명이 붙어서 올 수 있음
+                String constraintName = violation.getConstraintName();
+                if (constraintName != null && constraintName.toLowerCase().endsWith(Review.UNIQUE_CONSTRAINT)) {
+                    return new AlertException(DUPLICATE_REVIEW_MESSAGE, e);
+                }
+                break;
+            }
+        }
+        return e;
+    }
+
+    private Review toReview(BulkCreateReviewRequest.ReviewItem item, User reviewer, User reviewee, Gathering gathering) {
+        Review review = new Review();
+        review.setReviewer(reviewer);
+        review.setReviewee(reviewee);
+        review.setGathering(gathering);
+        review.setContent(item.getContent());
+        review.setPracticeHelped(Boolean.TRUE.equals(item.getIsPracticeHelped()));
+        review.setGoodWithMusic(Boolean.TRUE.equals(item.getIsGoodWithMusic()));
+        review.setGoodWithOthers(Boolean.TRUE.equals(item.getIsGoodWithOthers()));
+        review.setSharesPracticeResources(Boolean.TRUE.equals(item.getIsSharesPracticeResources()));
+        review.setManagingWell(Boolean.TRUE.equals(item.getIsManagingWell()));
+        review.setHelpful(Boolean.TRUE.equals(item.getIsHelpful()));
+        review.setGoodLearner(Boolean.TRUE.equals(item.getIsGoodLearner()));
+        review.setKeepingPromises(Boolean.TRUE.equals(item.getIsKeepingPromises()));
+        return review;
+    }
+
     /**
      * 리뷰 삭제
      */
     @Transactional
     public void deleteReview(Long reviewId) {
-        Long reviewerId = AuthUtil.getUserInfo().getId();
+        Long reviewerId = userReferenceProvider.currentUser().getId();
         // 1. 리뷰 확인
         Review review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new AlertException("리뷰를 찾을 수 없습니다."));
@@ -129,7 +251,7 @@ public class ReviewService {
      */
     @Transactional(readOnly = true)
     public List<ReviewResponse> getReviewsByReviewer() {
-        Long reviewerId = AuthUtil.getUserInfo().getId();
+        Long reviewerId = userReferenceProvider.currentUser().getId();
         return reviewRepository.findAllByReviewerId(reviewerId).stream()
                 .map(ReviewResponse::of)
                 .collect(Collectors.toList());
@@ -140,7 +262,7 @@ public class ReviewService {
      */
     @Transactional(readOnly = true)
     public List<ReviewResponse> getReviewsByReviewee() {
-        Long revieweeId = AuthUtil.getUserInfo().getId();
+        Long revieweeId = userReferenceProvider.currentUser().getId();
         return reviewRepository.findAllByRevieweeId(revieweeId).stream()
                 .map(ReviewResponse::of)
                 .collect(Collectors.toList());
@@ -151,7 +273,7 @@ public class ReviewService {
      */
     @Transactional(readOnly = true)
     public PageResponse<ReviewResponse> getReviewsByRevieweeWithPagination(int page, int pageSize) {
-        Long revieweeId = AuthUtil.getUserInfo().getId();
+        Long revieweeId = userReferenceProvider.currentUser().getId();
         Pageable pageable = PageRequest.of(page, pageSize, Sort.by(Sort.Direction.DESC, "createdAt"));
         
         Page<Review> reviewPage = reviewRepository.findAllByRevieweeId(revieweeId, pageable);
@@ -185,7 +307,7 @@ public class ReviewService {
      */
     @Transactional(readOnly = true)
     public ReviewStatisticsResponse getReviewStatistics() {
-        Long revieweeId = AuthUtil.getUserInfo().getId();
+        Long revieweeId = userReferenceProvider.currentUser().getId();
         List<Review> reviews = reviewRepository.findAllByRevieweeId(revieweeId);
         
         int totalReviews = reviews.size();
@@ -275,7 +397,7 @@ public class ReviewService {
                 .orElseThrow(() -> new AlertException("유저를 찾을 수 없습니다."));
 
         // 주최자 권한 체크
-        User owner = AuthUtil.getUserInfo();
+        User owner = userReferenceProvider.currentUser();
         if(!gathering.getCreatedBy().getId().equals(owner.getId())) {
             throw new AlertException("모임 주최자만 접근할 수 있습니다.");
         }
@@ -304,7 +426,7 @@ public class ReviewService {
      */
     @Transactional(readOnly = true)
     public List<UnwrittenReviewListResponse> getUnwrittenReviewList() {
-        User me = AuthUtil.getUserInfo();
+        User me = userReferenceProvider.currentUser();
         List<UnwrittenReviewProjection> projections = gatheringParticipantRepository.findUnwrittenReviewsByUser(me);
         // 모임별로 그룹핑
         Map<Long, List<UnwrittenReviewProjection>> grouped = projections.stream()
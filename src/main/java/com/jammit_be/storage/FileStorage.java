@@ -1,7 +1,39 @@
 package com.jammit_be.storage;
 
+import com.jammit_be.storage.dto.response.PresignedUploadResponse;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
+
 public interface FileStorage {
     String save(MultipartFile file, String subFolder);
+
+    /**
+     * 정해진 key 로 내용을 저장하고 접근 URL 을 반환한다. (이미지 변형처럼 서버가 만든 파일 저장용)
+     * @param key 저장 경로 (ex: "profile/uuid_320.jpg")
+     * @param contentType 저장할 Content-Type
+     * @param content 저장할 내용
+     * @param contentLength 내용 크기(byte)
+     * @param cacheControl Cache-Control 값 (없으면 null)
+     */
+    String store(String key, String contentType, InputStream content, long contentLength, String cacheControl);
+
+    /**
+     * key 에 해당하는 파일을 삭제한다. (없으면 무시)
+     */
+    void delete(String key);
+
+    /**
+     * 클라이언트가 서버를 거치지 않고 저장소에 직접 업로드할 수 있는 단기 URL 을 발급한다.
+     * @param subFolder 저장 폴더 (ex: "profile/1")
+     * @param contentType 업로드할 파일의 Content-Type
+     * @param contentLength 업로드할 파일 크기(byte)
+     */
+    PresignedUploadResponse createPresignedUpload(String subFolder, String contentType, long contentLength);
+
+    /**
+     * 직접 업로드된 파일이 저장소에 있는지 확인하고 접근 URL 을 반환한다.
+     * @param key 발급 시 받은 object key
+     */
+    String confirmUpload(String key);
 }
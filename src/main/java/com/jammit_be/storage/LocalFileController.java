@@ -0,0 +1,50 @@
+package com.jammit_be.storage;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+@Tag(name = "Storage", description = "로컬 저장소 파일 조회 API (storage.type=local)")
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalFileController {
+
+    private final LocalFileStorage localFileStorage;
+    private final LocalFileSender localFileSender;
+
+    @RequestMapping(value = LocalFileStorage.FILE_PATH + "/**", method = {RequestMethod.GET, RequestMethod.HEAD})
+    @Operation(summary = "저장된 파일 조회", description = "Range, If-None-Match, If-Modified-Since 요청을 지원합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "전체 파일"),
+                    @ApiResponse(responseCode = "206", description = "요청한 구간"),
+                    @ApiResponse(responseCode = "304", description = "변경 없음"),
+                    @ApiResponse(responseCode = "404", description = "파일 없음"),
+                    @ApiResponse(responseCode = "416", description = "범위를 벗어난 Range")
+            }
+    )
+    public void file(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String prefix = request.getContextPath() + LocalFileStorage.FILE_PATH + "/";
+        String uri = request.getRequestURI();
+        String key = uri.startsWith(prefix) ? UriUtils.decode(uri.substring(prefix.length()), StandardCharsets.UTF_8) : null;
+
+        Path file = localFileStorage.resolveStoredFile(key);
+        if (file == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        localFileSender.send(key, file, request, response);
+    }
+}
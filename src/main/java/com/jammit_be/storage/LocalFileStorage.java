@@ -1,14 +1,63 @@
 package com.jammit_be.storage;
 
+import com.jammit_be.common.exception.AlertException;
+import com.jammit_be.storage.dto.response.PresignedUploadResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.UUID;
 
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
 public class LocalFileStorage implements FileStorage {
 
-    private final String basePath = System.getProperty("user.dir") + "/src/main/resources/static/uploads";
+    public static final String UPLOAD_PATH = "/jammit/storage/upload";
+    public static final String FILE_PATH = "/static"; // 저장된 파일 조회 경로 (LocalFileController)
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final String basePath;
+    private final long presignedTtlSeconds;
+    private final byte[] signingKey;
+    private final Clock clock;
+
+    public LocalFileStorage(@Value("${storage.local.base-path:${user.home}/.jammit/uploads}") String basePath,
+                            @Value("${storage.presigned.ttl-seconds:300}") long presignedTtlSeconds,
+                            @Value("${storage.local.signing-secret:}") String signingSecret) {
+        this(basePath, presignedTtlSeconds, signingSecret, Clock.systemUTC());
+    }
+
+    LocalFileStorage(String basePath, long presignedTtlSeconds, String signingSecret, Clock clock) {
+        this.basePath = basePath;
+        this.presignedTtlSeconds = presignedTtlSeconds;
+        this.clock = clock;
+        if (signingSecret == null || signingSecret.isBlank()) {
+            // 설정이 없으면 기동할 때마다 새 키 사용 (재시작 전에 발급한 URL 은 무효)
+            this.signingKey = new byte[32];
+            new SecureRandom().nextBytes(this.signingKey);
+        } else {
+            this.signingKey = signingSecret.getBytes(StandardCharsets.UTF_8);
+        }
+    }
 
     @Override
     public String save(MultipartFile file, String subFolder) {
@@ -37,10 +86,172 @@ public class LocalFileStorage implements FileStorage {
             throw new RuntimeException("퍼알 저장 실패", e);
         }
 
-        String urlPath = "/static/" +
+        String urlPath = FILE_PATH + "/" +
                 (subFolder != null && !subFolder.isBlank() ? subFolder + "/" : "") +
                 newFilename;
 
         return urlPath;
     }
+
+    @Override
+    public String store(String key, String contentType, InputStream content, long contentLength, String cacheControl) {
+        Path target = resolve(key);
+        try {
+            Files.createDirectories(target.getParent());
+            Files.copy(content, target, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new RuntimeException("파일 저장 실패", e);
+        }
+        return FILE_PATH + "/" + key;
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+        } catch (IOException e) {
+            throw new RuntimeException("파일 삭제 실패", e);
+        }
+    }
+
+    /**
+     * S3 presigned URL 과 같은 방식으로, HMAC 서명이 붙은 로컬 업로드 URL 을 발급한다.
+     * 서명 대상: key, Content-Type, Content-Length, 만료 시각
+     */
+    @Override
+    public PresignedUploadResponse createPresignedUpload(String subFolder, String contentType, long contentLength) {
+        UploadPolicy.validate(contentType, contentLength);
+        String key = subFolder + "/" + UUID.randomUUID() + "." + UploadPolicy.extensionOf(contentType);
+        long expires = clock.instant().plusSeconds(presignedTtlSeconds).getEpochSecond();
+
+        String uploadUrl = UriComponentsBuilder.fromPath(UPLOAD_PATH)
+                .queryParam("key", key)
+                .queryParam("contentLength", contentLength)
+                .queryParam("expires", expires)
+                .queryParam("signature", sign(key, contentType, contentLength, expires))
+                .encode()
+                .toUriString();
+
+        return PresignedUploadResponse.builder()
+                .key(key)
+                .uploadUrl(uploadUrl)
+                .method("PUT")
+                .contentType(contentType)
+                .expiresAt(Instant.ofEpochSecond(expires))
+                .build();
+    }
+
+    /**
+     * 서명된 업로드 요청을 검증하고 본문을 저장한다. (LocalUploadController 에서 호출)
+     * 임시 파일에 끝까지 받은 뒤 크기가 서명과 일치할 때만 최종 경로로 옮긴다.
+     */
+    public void receiveUpload(String key, String contentType, long contentLength, long expires, String signature,
+                              InputStream body) {
+        if (clock.instant().getEpochSecond() > expires) {
+            throw new AlertException("업로드 URL 이 만료되었습니다.");
+        }
+        byte[] expected = sign(key, contentType, contentLength, expires).getBytes(StandardCharsets.US_ASCII);
+        if (signature == null || !MessageDigest.isEqual(expected, signature.getBytes(StandardCharsets.US_ASCII))) {
+            throw new AlertException("업로드 서명이 올바르지 않습니다.");
+        }
+
+        Path target = resolve(key);
+        Path temp = null;
+        try {
+            Files.createDirectories(target.getParent());
+            temp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+            long written = copy(body, temp, contentLength);
+            if (written != contentLength) {
+                throw new AlertException("업로드된 파일 크기가 요청과 다릅니다.");
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            temp = null;
+        } catch (IOException e) {
+            throw new RuntimeException("파일 저장 실패", e);
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    @Override
+    public String confirmUpload(String key) {
+        Path path = resolve(key);
+        try {
+            if (!Files.isRegularFile(path)) {
+                throw new AlertException("업로드된 파일을 찾을 수 없습니다.");
+            }
+            if (Files.size(path) > UploadPolicy.MAX_UPLOAD_SIZE) {
+                throw new AlertException("파일 크기는 5MB 이하여야 합니다.");
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("파일 확인 실패", e);
+        }
+        return FILE_PATH + "/" + key;
+    }
+
+    private long copy(InputStream in, Path temp, long limit) throws IOException {
+        byte[] buffer = new byte[8192];
+        long total = 0;
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                total += read;
+                if (total > limit) {
+                    throw new AlertException("업로드된 파일 크기가 요청과 다릅니다.");
+                }
+                out.write(buffer, 0, read);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 조회용 파일 경로
+     * 업로드 중인 임시 파일(.upload-*.tmp)처럼 '.' 으로 시작하는 경로는 노출하지 않는다.
+     * @return 파일이 없거나 조회할 수 없는 key 면 null
+     */
+    public Path resolveStoredFile(String key) {
+        if (key == null || key.isBlank() || key.startsWith(".") || key.contains("/.")) {
+            return null;
+        }
+        Path path;
+        try {
+            path = resolve(key);
+        } catch (AlertException | InvalidPathException e) {
+            return null;
+        }
+        return Files.isRegularFile(path) ? path : null;
+    }
+
+    private Path resolve(String key) {
+        Path base = Path.of(basePath).toAbsolutePath().normalize();
+        Path path = base.resolve(key).normalize();
+        if (!path.startsWith(base) || path.equals(base)) {
+            throw new AlertException("잘못된 업로드 key 입니다.");
+        }
+        return path;
+    }
+
+    private String sign(String key, String contentType, long contentLength, long expires) {
+        String canonical = "PUT\n" + key + "\n" + contentType + "\n" + contentLength + "\n" + expires;
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(new SecretKeySpec(signingKey, HMAC_ALGORITHM));
+            byte[] digest = mac.doFinal(canonical.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // 임시 파일 정리 실패는 무시
+        }
+    }
 }
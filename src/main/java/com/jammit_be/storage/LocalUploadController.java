@@ -0,0 +1,39 @@
+package com.jammit_be.storage;
+
+import com.jammit_be.common.dto.CommonResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+@Tag(name = "Storage", description = "로컬 저장소 직접 업로드 API (storage.type=local)")
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalUploadController {
+
+    private final LocalFileStorage localFileStorage;
+
+    @PutMapping(LocalFileStorage.UPLOAD_PATH)
+    @Operation(summary = "서명된 URL 로 파일 업로드", description = "업로드 URL 발급 API 가 돌려준 URL 로 파일 본문을 PUT 합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "업로드 성공"),
+                    @ApiResponse(responseCode = "400", description = "서명 오류, 만료 또는 크기 불일치")
+            }
+    )
+    public CommonResponse<Void> upload(@RequestParam String key,
+                                       @RequestParam long contentLength,
+                                       @RequestParam long expires,
+                                       @RequestParam String signature,
+                                       HttpServletRequest request) throws IOException {
+        localFileStorage.receiveUpload(key, request.getContentType(), contentLength, expires, signature, request.getInputStream());
+        return CommonResponse.ok();
+    }
+}
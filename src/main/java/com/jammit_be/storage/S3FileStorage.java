@@ -1,27 +1,44 @@
 package com.jammit_be.storage;
 
-import com.jammit_be.common.properties.S3Properties;
+import com.jammit_be.common.exception.AlertException;
+import com.jammit_be.common.exception.ServiceBusyException;
+import com.jammit_be.storage.dto.response.PresignedUploadResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
 import java.io.InputStream;
+import java.time.Duration;
 import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
 public class S3FileStorage implements FileStorage {
     private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
+    private final S3MultipartUploader multipartUploader;
     @Value("${spring.cloud.aws.s3.bucket}")
     private String bucket;
 
     @Value("${spring.cloud.aws.region.static}")
     private String region;
 
+    @Value("${storage.presigned.ttl-seconds:300}")
+    private long presignedTtlSeconds;
+
     /**
      * MultipartFile을 받아 S3에 저장하고, 접근 가능한 URL을 반환한다.
      * @param file 업로드할 파일 (ex: 프로필 이미지)
@@ -42,22 +59,84 @@ public class S3FileStorage implements FileStorage {
                     ? subFolder + "/" + uuid + "." + ext // ex: profile/uuid.png
                     : uuid + "." + ext;  // ex: uuid.png
 
-            // 3. S3 PutObject 요청 준비
-            InputStream inputStream = file.getInputStream(); // 파일의 입력 스트림
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(bucket) // 버킷 이름
-                    .key(key) // S3 경로+파일명
-                    .contentType(file.getContentType()) // 컨텐츠 타입 (image/png 등)
-                    .build();
+            // 3. S3 업로드 실행 후 파일 접근 URL 반환 (큰 파일은 멀티파트)
+            try (InputStream inputStream = file.getInputStream()) { // 파일의 입력 스트림
+                return store(key, file.getContentType(), inputStream, file.getSize(), null);
+            }
 
-            // 4. S3 업로드 실행
-            s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(inputStream, file.getSize()));
+        } catch (ServiceBusyException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException("S3 파일 업로드 실패", e);
+        }
+    }
 
-            // 5. S3 파일 접근 URL 생성 및 반환
+    @Override
+    public String store(String key, String contentType, InputStream content, long contentLength, String cacheControl) {
+        if (multipartUploader.isMultipart(contentLength)) {
+            // part 를 나눠 동시에 올리고, 실패하면 업로드 전체를 abort
+            multipartUploader.upload(bucket, key, contentType, cacheControl, content, contentLength);
+            return "https://" + bucket + ".s3." + region + ".amazonaws.com/" + key;
+        }
+        try {
+            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .contentType(contentType)
+                    .cacheControl(cacheControl)
+                    .build();
+            s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(content, contentLength));
             return "https://" + bucket + ".s3." + region + ".amazonaws.com/" + key;
-
         } catch (Exception e) {
             throw new RuntimeException("S3 파일 업로드 실패", e);
         }
     }
+
+    @Override
+    public void delete(String key) {
+        s3Client.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(key).build());
+    }
+
+    /**
+     * 클라이언트가 S3 에 직접 PUT 할 수 있는 presigned URL 을 발급한다.
+     * Content-Type 과 Content-Length 가 서명에 포함되므로 발급 시 요청한 파일만 올릴 수 있다.
+     */
+    @Override
+    public PresignedUploadResponse createPresignedUpload(String subFolder, String contentType, long contentLength) {
+        UploadPolicy.validate(contentType, contentLength);
+        String key = subFolder + "/" + UUID.randomUUID() + "." + UploadPolicy.extensionOf(contentType);
+
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .contentLength(contentLength)
+                .build();
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(PutObjectPresignRequest.builder()
+                .signatureDuration(Duration.ofSeconds(presignedTtlSeconds))
+                .putObjectRequest(putObjectRequest)
+                .build());
+
+        return PresignedUploadResponse.builder()
+                .key(key)
+                .uploadUrl(presigned.url().toString())
+                .method("PUT")
+                .contentType(contentType)
+                .expiresAt(presigned.expiration())
+                .build();
+    }
+
+    @Override
+    public String confirmUpload(String key) {
+        HeadObjectResponse head;
+        try {
+            head = s3Client.headObject(HeadObjectRequest.builder().bucket(bucket).key(key).build());
+        } catch (NoSuchKeyException e) {
+            throw new AlertException("업로드된 파일을 찾을 수 없습니다.");
+        }
+        if (head.contentLength() > UploadPolicy.MAX_UPLOAD_SIZE) {
+            throw new AlertException("파일 크기는 5MB 이하여야 합니다.");
+        }
+        return "https://" + bucket + ".s3." + region + ".amazonaws.com/" + key;
+    }
 }
@@ -0,0 +1,321 @@
+package com.jammit_be.storage;
+
+import com.jammit_be.common.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 큰 파일의 S3 멀티파트 업로드
+ * - 입력 스트림을 part 크기만큼 읽으면서 part 별 SHA-256 을 계산하고, 전용 풀에서 여러 part 를 동시에 올린다
+ * - part 버퍼는 모든 업로드가 함께 쓰는 풀에서 빌린다 (최대 buffer-pool-size x part-size 만큼만 메모리에 둔다)
+ * - 업로드 하나가 동시에 올리는 part 수는 max-in-flight-parts 로 제한한다
+ * - 실패하면 멀티파트 업로드를 abort 해서 S3 에 미완성 part 가 남지 않게 한다
+ * 서버 경유 업로드가 5MB 로 제한되어 있는 동안은 threshold(16MB) 에 닿지 않아 쓰이지 않는다 (application.yml 참고).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3MultipartUploader {
+
+    private static final String BUSY_MESSAGE = "파일 업로드 요청이 많습니다. 잠시 후 다시 시도해주세요.";
+
+    private final S3Client s3Client;
+    private final long threshold;
+    private final int partSize;
+    private final int maxInFlightParts;
+    private final int bufferPoolSize;
+    private final long bufferWaitMs;
+    // 업로드 사이에 재사용하는 part 버퍼 (처음 필요할 때 만들고, bufferPoolSize 개를 넘겨 만들지 않음)
+    private final BlockingQueue<byte[]> freeBuffers = new LinkedBlockingQueue<>();
+    private final AtomicInteger allocatedBuffers = new AtomicInteger();
+    private final ThreadPoolExecutor executor;
+    private final Timer partTimer;
+    private final DistributionSummary throughputSummary;
+    private final Counter abortedCounter;
+    private final Counter rejectedCounter;
+
+    public S3MultipartUploader(S3Client s3Client,
+                               @Value("${storage.s3.multipart.threshold:16777216}") long threshold,
+                               @Value("${storage.s3.multipart.part-size:8388608}") int partSize,
+                               @Value("${storage.s3.multipart.max-in-flight-parts:4}") int maxInFlightParts,
+                               @Value("${storage.s3.multipart.pool-size:8}") int poolSize,
+                               @Value("${storage.s3.multipart.queue-capacity:16}") int queueCapacity,
+                               @Value("${storage.s3.multipart.buffer-pool-size:8}") int bufferPoolSize,
+                               @Value("${storage.s3.multipart.buffer-wait-ms:10000}") long bufferWaitMs,
+                               MeterRegistry meterRegistry) {
+        this.s3Client = s3Client;
+        this.threshold = threshold;
+        this.partSize = partSize;
+        this.maxInFlightParts = maxInFlightParts;
+        this.bufferPoolSize = bufferPoolSize;
+        this.bufferWaitMs = bufferWaitMs;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "s3-part-upload-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.partTimer = Timer.builder("app.storage.s3.part")
+                .description("Latency of a single multipart upload part")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.throughputSummary = DistributionSummary.builder("app.storage.s3.throughput")
+                .description("Overall throughput of completed multipart uploads")
+                .baseUnit("bytes/s")
+                .register(meterRegistry);
+        this.abortedCounter = Counter.builder("app.storage.s3.aborted")
+                .description("Multipart uploads aborted after a failure")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("app.storage.s3.rejected")
+                .description("Part uploads rejected because the queue was full or no buffer became free")
+                .register(meterRegistry);
+        Gauge.builder("app.storage.s3.queue_depth", executor, e -> e.getQueue().size())
+                .description("Part uploads waiting in the queue")
+                .register(meterRegistry);
+        Gauge.builder("app.storage.s3.buffers_allocated", allocatedBuffers, AtomicInteger::get)
+                .description("Part buffers allocated in the shared pool")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이 크기 이상이면 멀티파트 업로드를 사용한다.
+     */
+    public boolean isMultipart(long contentLength) {
+        return contentLength >= threshold;
+    }
+
+    /**
+     * 모든 part 가 올라가고 업로드가 완료될 때까지 기다린다.
+     * @param contentLength 입력 스트림 전체 크기 (다르면 업로드를 취소)
+     */
+    public void upload(String bucket, String key, String contentType, String cacheControl,
+                       InputStream content, long contentLength) {
+        long start = System.nanoTime();
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .cacheControl(cacheControl)
+                .checksumAlgorithm(ChecksumAlgorithm.SHA256)
+                .build()).uploadId();
+
+        // 이 업로드의 동시 part 수 제한 (part 가 끝나면 허가와 버퍼를 함께 돌려줌)
+        Semaphore inFlight = new Semaphore(maxInFlightParts);
+        List<Future<CompletedPart>> parts = new ArrayList<>();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        try {
+            MessageDigest digest = sha256();
+            long total = 0;
+            int partNumber = 0;
+            while (true) {
+                inFlight.acquire();
+                byte[] buffer = acquireBuffer(inFlight);
+                boolean submitted = false;
+                try {
+                    if (failure.get() != null) {
+                        break; // 앞선 part 가 실패하면 나머지는 읽지 않음 (아래 get() 에서 예외)
+                    }
+                    int length = content.readNBytes(buffer, 0, partSize);
+                    if (length == 0) {
+                        break;
+                    }
+                    total += length;
+                    if (total > contentLength) {
+                        throw new IOException("업로드 크기가 요청과 다릅니다.");
+                    }
+                    digest.update(buffer, 0, length);
+                    String checksum = Base64.getEncoder().encodeToString(digest.digest());
+                    parts.add(submitPart(bucket, key, uploadId, ++partNumber, buffer, length, checksum, inFlight, failure));
+                    submitted = true;
+                    if (length < partSize) {
+                        break;
+                    }
+                } finally {
+                    if (!submitted) {
+                        releaseBuffer(buffer, inFlight);
+                    }
+                }
+            }
+            if (failure.get() == null && total != contentLength) {
+                throw new IOException("업로드 크기가 요청과 다릅니다.");
+            }
+
+            List<CompletedPart> completedParts = new ArrayList<>(parts.size());
+            for (Future<CompletedPart> part : parts) {
+                completedParts.add(part.get());
+            }
+            completedParts.sort(Comparator.comparing(CompletedPart::partNumber));
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+                    .build());
+
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+            throughputSummary.record(seconds > 0 ? contentLength / seconds : contentLength);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abort(bucket, key, uploadId, failure);
+            throw new IllegalStateException("S3 멀티파트 업로드 중단", e);
+        } catch (ExecutionException e) {
+            abort(bucket, key, uploadId, failure);
+            throw new RuntimeException("S3 멀티파트 업로드 실패", e.getCause());
+        } catch (ServiceBusyException e) {
+            abort(bucket, key, uploadId, failure);
+            throw e;
+        } catch (Exception e) {
+            abort(bucket, key, uploadId, failure);
+            throw new RuntimeException("S3 멀티파트 업로드 실패", e);
+        }
+    }
+
+    private Future<CompletedPart> submitPart(String bucket, String key, String uploadId, int partNumber,
+                                             byte[] buffer, int length, String checksum,
+                                             Semaphore inFlight, AtomicReference<Throwable> failure) {
+        try {
+            return executor.submit(() -> {
+                long partStart = System.nanoTime();
+                try {
+                    if (failure.get() != null) {
+                        throw new CancellationException("앞선 part 실패로 업로드 취소");
+                    }
+                    UploadPartResponse response = s3Client.uploadPart(UploadPartRequest.builder()
+                                    .bucket(bucket)
+                                    .key(key)
+                                    .uploadId(uploadId)
+                                    .partNumber(partNumber)
+                                    .contentLength((long) length)
+                                    .checksumSHA256(checksum) // S3 가 받은 내용과 비교해 다르면 거절
+                                    .build(),
+                            RequestBody.fromByteBuffer(ByteBuffer.wrap(buffer, 0, length)));
+                    return CompletedPart.builder()
+                            .partNumber(partNumber)
+                            .eTag(response.eTag())
+                            .checksumSHA256(checksum)
+                            .build();
+                } catch (RuntimeException e) {
+                    failure.compareAndSet(null, e);
+                    throw e;
+                } finally {
+                    partTimer.record(System.nanoTime() - partStart, TimeUnit.NANOSECONDS);
+                    releaseBuffer(buffer, inFlight);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new ServiceBusyException(BUSY_MESSAGE, e);
+        }
+    }
+
+    /**
+     * 공유 풀에서 part 버퍼를 빌린다. 풀이 다 차 있으면 다른 업로드가 버퍼를 돌려줄 때까지 buffer-wait-ms 만큼 기다린다.
+     * 실패하면 이미 얻은 동시 part 허가를 돌려준다.
+     */
+    private byte[] acquireBuffer(Semaphore inFlight) throws InterruptedException {
+        try {
+            byte[] buffer = freeBuffers.poll();
+            if (buffer != null) {
+                return buffer;
+            }
+            if (allocatedBuffers.getAndUpdate(n -> n < bufferPoolSize ? n + 1 : n) < bufferPoolSize) {
+                return new byte[partSize];
+            }
+            buffer = freeBuffers.poll(bufferWaitMs, TimeUnit.MILLISECONDS);
+            if (buffer == null) {
+                rejectedCounter.increment();
+                throw new ServiceBusyException(BUSY_MESSAGE);
+            }
+            return buffer;
+        } catch (InterruptedException | RuntimeException e) {
+            inFlight.release();
+            throw e;
+        }
+    }
+
+    private void releaseBuffer(byte[] buffer, Semaphore inFlight) {
+        freeBuffers.add(buffer);
+        inFlight.release();
+    }
+
+    int allocatedBufferCount() {
+        return allocatedBuffers.get();
+    }
+
+    private void abort(String bucket, String key, String uploadId, AtomicReference<Throwable> failure) {
+        // 대기 중인 part 는 cancel 하지 않고 실행되자마자 건너뛰게 한다 (cancel 하면 finally 가 돌지 않아 버퍼가 풀로 돌아오지 않음)
+        failure.compareAndSet(null, new CancellationException("멀티파트 업로드 abort"));
+        abortedCounter.increment();
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+        } catch (RuntimeException e) {
+            // 남은 part 는 버킷 수명 주기 규칙(AbortIncompleteMultipartUpload)으로 정리
+            log.warn("S3 멀티파트 업로드 abort 실패: key={}, uploadId={}", key, uploadId, e);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,46 @@
+package com.jammit_be.storage;
+
+import com.jammit_be.common.exception.AlertException;
+
+import java.util.Map;
+
+/**
+ * 직접 업로드(presigned) 허용 조건
+ * 서버를 거치지 않는 업로드이므로 발급 시점에 형식과 크기를 제한한다. (멀티파트 업로드 제한과 동일한 5MB)
+ */
+public final class UploadPolicy {
+
+    public static final long MAX_UPLOAD_SIZE = 5L * 1024 * 1024;
+
+    private static final Map<String, String> EXTENSIONS = Map.of(
+            "image/jpeg", "jpg",
+            "image/png", "png",
+            "image/gif", "gif",
+            "image/webp", "webp"
+    );
+
+    private UploadPolicy() {
+    }
+
+    public static void validate(String contentType, long contentLength) {
+        if (contentType == null || !EXTENSIONS.containsKey(contentType)) {
+            throw new AlertException("지원하지 않는 파일 형식입니다.");
+        }
+        if (contentLength <= 0 || contentLength > MAX_UPLOAD_SIZE) {
+            throw new AlertException("파일 크기는 5MB 이하여야 합니다.");
+        }
+    }
+
+    public static String extensionOf(String contentType) {
+        return EXTENSIONS.get(contentType);
+    }
+
+    /**
+     * 발급한 key 가 요청한 폴더 아래에 있는지 확인 (다른 사용자/모임의 key 로 확정하는 것을 방지)
+     */
+    public static void checkKey(String key, String folder) {
+        if (key == null || !key.startsWith(folder + "/") || key.contains("..")) {
+            throw new AlertException("잘못된 업로드 key 입니다.");
+        }
+    }
+}
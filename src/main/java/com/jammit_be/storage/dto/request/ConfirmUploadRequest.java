@@ -0,0 +1,21 @@
+package com.jammit_be.storage.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "직접 업로드 완료 확인 요청")
+public class ConfirmUploadRequest {
+
+    @NotBlank
+    @Schema(description = "업로드 URL 발급 시 받은 object key", example = "profile/1/uuid.png", required = true)
+    private String key;
+
+    @Schema(description = "원본 파일 이름", example = "증명사진.png")
+    private String orgFileName;
+}
@@ -0,0 +1,23 @@
+package com.jammit_be.storage.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "직접 업로드 URL 발급 요청")
+public class PresignedUploadRequest {
+
+    @NotBlank
+    @Schema(description = "업로드할 파일의 Content-Type", example = "image/png", required = true)
+    private String contentType;
+
+    @Positive
+    @Schema(description = "업로드할 파일 크기(byte)", example = "204800", required = true)
+    private long contentLength;
+}
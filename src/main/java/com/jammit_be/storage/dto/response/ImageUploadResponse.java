@@ -0,0 +1,24 @@
+package com.jammit_be.storage.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "이미지 업로드 결과 (크기별 변형 URL)")
+public class ImageUploadResponse {
+
+    @Schema(description = "긴 변 96px 이하 이미지 URL")
+    private String smallUrl;
+
+    @Schema(description = "긴 변 320px 이하 이미지 URL")
+    private String mediumUrl;
+
+    @Schema(description = "긴 변 1080px 이하 이미지 URL")
+    private String largeUrl;
+}
@@ -0,0 +1,32 @@
+package com.jammit_be.storage.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "직접 업로드 URL 발급 결과")
+public class PresignedUploadResponse {
+
+    @Schema(description = "업로드 완료 확인 시 전달할 object key", example = "profile/1/uuid.png")
+    private String key;
+
+    @Schema(description = "파일을 PUT 으로 업로드할 URL (Content-Type 헤더를 요청 값과 동일하게 보내야 함)")
+    private String uploadUrl;
+
+    @Schema(description = "업로드 HTTP 메서드", example = "PUT")
+    private String method;
+
+    @Schema(description = "업로드 시 보내야 하는 Content-Type", example = "image/png")
+    private String contentType;
+
+    @Schema(description = "업로드 URL 만료 시각")
+    private Instant expiresAt;
+}
@@ -0,0 +1,88 @@
+package com.jammit_be.storage.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내용 기반(SHA-256) 이미지 저장 정보
+ * 같은 내용의 업로드는 하나의 행/파일을 공유하고, ref_count 로 참조 수를 관리한다.
+ * ref_count 가 0 이 된 뒤 유예 시간이 지나면 GC 가 파일과 행을 삭제한다. (-1 은 삭제 진행 중)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "stored_image", indexes = {
+        @Index(name = "idx_stored_image_gc", columnList = "ref_count, released_at"),
+        @Index(name = "idx_stored_image_medium_url", columnList = "medium_url")
+})
+public class StoredImage implements Persistable<String> {
+
+    public static final int DELETING = -1;
+
+    @Id
+    @Column(length = 64)
+    private String hash; // 원본 업로드 내용의 SHA-256 (hex)
+    @Column(name = "key_prefix", nullable = false, length = 200)
+    private String keyPrefix;
+    @Column(nullable = false, length = 10)
+    private String extension;
+    @Column(name = "small_url", nullable = false, length = 500)
+    private String smallUrl;
+    @Column(name = "medium_url", nullable = false, length = 500)
+    private String mediumUrl;
+    @Column(name = "large_url", nullable = false, length = 500)
+    private String largeUrl;
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+    @Column(name = "released_at")
+    private LocalDateTime releasedAt; // 참조 수가 0 이 된 시각
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Transient
+    private boolean isNew;
+
+    public static StoredImage create(String hash, String keyPrefix, String extension,
+                                     String smallUrl, String mediumUrl, String largeUrl) {
+        StoredImage storedImage = new StoredImage();
+        storedImage.hash = hash;
+        storedImage.keyPrefix = keyPrefix;
+        storedImage.extension = extension;
+        storedImage.smallUrl = smallUrl;
+        storedImage.mediumUrl = mediumUrl;
+        storedImage.largeUrl = largeUrl;
+        storedImage.refCount = 1;
+        storedImage.createdAt = LocalDateTime.now();
+        storedImage.isNew = true;
+        return storedImage;
+    }
+
+    @Override
+    public String getId() {
+        return hash;
+    }
+
+    // 해시가 곧 PK 이므로 merge(select 후 update) 대신 항상 insert 하도록 새 엔티티 여부를 직접 관리
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
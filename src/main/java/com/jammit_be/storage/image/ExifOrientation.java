@@ -0,0 +1,97 @@
+package com.jammit_be.storage.image;
+
+import java.awt.geom.AffineTransform;
+
+/**
+ * JPEG EXIF 의 Orientation 값을 읽는다.
+ * 메타데이터를 제거하고 다시 인코딩하면 회전 정보가 사라지므로, 픽셀을 미리 회전시키기 위해 사용한다.
+ */
+final class ExifOrientation {
+
+    static final int NORMAL = 1;
+
+    private ExifOrientation() {
+    }
+
+    /**
+     * @param head JPEG 파일 앞부분 (APP1 세그먼트가 포함될 만큼)
+     * @return 1~8, 찾지 못하면 1
+     */
+    static int read(byte[] head, int length) {
+        int offset = 2; // SOI 다음
+        while (offset + 4 <= length) {
+            if ((head[offset] & 0xFF) != 0xFF) {
+                return NORMAL;
+            }
+            int marker = head[offset + 1] & 0xFF;
+            int segmentLength = readUnsignedShort(head, offset + 2, true);
+            if (marker == 0xDA || segmentLength < 2) { // 이미지 데이터 시작 (SOS)
+                return NORMAL;
+            }
+            if (marker == 0xE1 && offset + 10 <= length
+                    && head[offset + 4] == 'E' && head[offset + 5] == 'x' && head[offset + 6] == 'i' && head[offset + 7] == 'f') {
+                return readTiffOrientation(head, offset + 10, Math.min(length, offset + 2 + segmentLength));
+            }
+            offset += 2 + segmentLength;
+        }
+        return NORMAL;
+    }
+
+    private static int readTiffOrientation(byte[] data, int tiff, int end) {
+        if (tiff + 8 > end) {
+            return NORMAL;
+        }
+        boolean bigEndian = data[tiff] == 'M' && data[tiff + 1] == 'M';
+        int ifd = tiff + readInt(data, tiff + 4, bigEndian);
+        if (ifd + 2 > end || ifd < tiff) {
+            return NORMAL;
+        }
+        int entries = readUnsignedShort(data, ifd, bigEndian);
+        for (int i = 0; i < entries; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > end) {
+                return NORMAL;
+            }
+            if (readUnsignedShort(data, entry, bigEndian) == 0x0112) {
+                int value = readUnsignedShort(data, entry + 8, bigEndian);
+                return value >= 1 && value <= 8 ? value : NORMAL;
+            }
+        }
+        return NORMAL;
+    }
+
+    /**
+     * Orientation 을 바로 세우는 변환
+     * @return 변환 후 너비/높이가 바뀌는지는 swapsDimensions 로 확인
+     */
+    static AffineTransform transform(int orientation, int width, int height) {
+        AffineTransform t = new AffineTransform();
+        switch (orientation) {
+            case 2 -> { t.translate(width, 0); t.scale(-1, 1); }
+            case 3 -> { t.translate(width, height); t.rotate(Math.PI); }
+            case 4 -> { t.translate(0, height); t.scale(1, -1); }
+            case 5 -> { t.rotate(-Math.PI / 2); t.scale(-1, 1); }
+            case 6 -> { t.translate(height, 0); t.rotate(Math.PI / 2); }
+            case 7 -> { t.scale(-1, 1); t.translate(-height, 0); t.translate(0, width); t.rotate(-Math.PI / 2); }
+            case 8 -> { t.translate(0, width); t.rotate(-Math.PI / 2); }
+            default -> { }
+        }
+        return t;
+    }
+
+    static boolean swapsDimensions(int orientation) {
+        return orientation >= 5;
+    }
+
+    private static int readUnsignedShort(byte[] data, int offset, boolean bigEndian) {
+        int b0 = data[offset] & 0xFF;
+        int b1 = data[offset + 1] & 0xFF;
+        return bigEndian ? (b0 << 8) | b1 : (b1 << 8) | b0;
+    }
+
+    private static int readInt(byte[] data, int offset, boolean bigEndian) {
+        int high = readUnsignedShort(data, bigEndian ? offset : offset + 2, bigEndian);
+        int low = readUnsignedShort(data, bigEndian ? offset + 2 : offset, bigEndian);
+        return (high << 16) | low;
+    }
+}
@@ -0,0 +1,33 @@
+package com.jammit_be.storage.image;
+
+/**
+ * 매직 바이트로 판별하는 입력 이미지 형식 (확장자/Content-Type 은 신뢰하지 않음)
+ */
+public enum ImageFormat {
+    JPEG,
+    PNG,
+    GIF,
+    BMP;
+
+    /**
+     * 파일 앞부분으로 형식을 판별한다.
+     * @return 지원하지 않는 형식이면 null
+     */
+    public static ImageFormat detect(byte[] head, int length) {
+        if (length >= 3 && (head[0] & 0xFF) == 0xFF && (head[1] & 0xFF) == 0xD8 && (head[2] & 0xFF) == 0xFF) {
+            return JPEG;
+        }
+        if (length >= 8 && (head[0] & 0xFF) == 0x89 && head[1] == 'P' && head[2] == 'N' && head[3] == 'G'
+                && head[4] == 0x0D && head[5] == 0x0A && head[6] == 0x1A && head[7] == 0x0A) {
+            return PNG;
+        }
+        if (length >= 6 && head[0] == 'G' && head[1] == 'I' && head[2] == 'F' && head[3] == '8'
+                && (head[4] == '7' || head[4] == '9') && head[5] == 'a') {
+            return GIF;
+        }
+        if (length >= 2 && head[0] == 'B' && head[1] == 'M') {
+            return BMP;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,316 @@
+package com.jammit_be.storage.image;
+
+import com.jammit_be.common.exception.AlertException;
+import com.jammit_be.common.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드 이미지 정규화 및 크기별 변형 생성
+ * - 매직 바이트로 형식을 판별하고, 디코딩 전에 해상도를 확인해 과도한 이미지를 거절한다
+ * - 픽셀만 다시 인코딩하므로 EXIF/GPS 등 메타데이터는 모두 제거된다 (EXIF 회전은 픽셀에 반영)
+ * - 원본이 가장 큰 변형보다 훨씬 크면 서브샘플링으로 디코딩해 메모리 사용을 줄인다
+ * - 작업은 크기가 제한된 전용 풀에서 수행한다 (동시에 메모리에 올라가는 디코딩 이미지 수 제한)
+ */
+@Component
+public class ImageProcessor {
+
+    private static final int HEAD_SIZE = 64 * 1024; // 형식 판별과 EXIF 확인을 위해 미리 읽는 크기
+    private static final String BUSY_MESSAGE = "이미지 처리 요청이 많습니다. 잠시 후 다시 시도해주세요.";
+
+    /**
+     * 변형 하나가 인코딩될 때마다 호출된다. (저장 후 버퍼는 바로 버려진다)
+     */
+    @FunctionalInterface
+    public interface VariantSink {
+        void accept(ImageVariant variant, String contentType, String extension, byte[] data, int length) throws IOException;
+    }
+
+    private final long maxPixels;
+    private final int maxEncodedBytes;
+    private final float jpegQuality;
+    private final long timeoutMs;
+    private final ThreadPoolExecutor executor;
+    private final Counter rejectedCounter;
+    // 단계별 Timer 는 미리 등록해 이미지마다 builder/등록 조회를 하지 않음
+    private final Timer detectTimer;
+    private final Timer decodeTimer;
+    private final Timer resizeTimer;
+    private final Timer encodeTimer;
+    private final Timer storeTimer;
+
+    public ImageProcessor(@Value("${image.max-pixels:40000000}") long maxPixels,
+                          @Value("${image.max-encoded-bytes:2097152}") int maxEncodedBytes,
+                          @Value("${image.jpeg-quality:0.85}") float jpegQuality,
+                          @Value("${image.pool-size:2}") int poolSize,
+                          @Value("${image.queue-capacity:16}") int queueCapacity,
+                          @Value("${image.timeout-ms:10000}") long timeoutMs,
+                          MeterRegistry meterRegistry) {
+        this.maxPixels = maxPixels;
+        this.maxEncodedBytes = maxEncodedBytes;
+        this.jpegQuality = jpegQuality;
+        this.timeoutMs = timeoutMs;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-processor-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.rejectedCounter = Counter.builder("app.image.rejected")
+                .description("Image processing requests rejected because the queue was full")
+                .register(meterRegistry);
+        Gauge.builder("app.image.queue_depth", executor, e -> e.getQueue().size())
+                .description("Image processing jobs waiting in the queue")
+                .register(meterRegistry);
+        this.detectTimer = stageTimer("detect", meterRegistry);
+        this.decodeTimer = stageTimer("decode", meterRegistry);
+        this.resizeTimer = stageTimer("resize", meterRegistry);
+        this.encodeTimer = stageTimer("encode", meterRegistry);
+        this.storeTimer = stageTimer("store", meterRegistry);
+    }
+
+    /**
+     * 이미지를 디코딩해 모든 변형을 만들고 sink 로 넘긴다. 작업이 끝날 때까지 기다린다.
+     */
+    public void process(InputStream input, VariantSink sink) {
+        Future<?> future;
+        try {
+            future = executor.submit(() -> {
+                processNow(input, sink);
+                return null;
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new ServiceBusyException(BUSY_MESSAGE, e);
+        }
+
+        try {
+            future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ServiceBusyException(BUSY_MESSAGE, e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceBusyException(BUSY_MESSAGE, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("이미지 처리 실패", e.getCause());
+        }
+    }
+
+    void processNow(InputStream input, VariantSink sink) throws IOException {
+        BufferedInputStream in = new BufferedInputStream(input, HEAD_SIZE);
+
+        // 1. 형식 판별 (앞부분만 읽고 되돌림)
+        long start = System.nanoTime();
+        in.mark(HEAD_SIZE);
+        byte[] head = new byte[HEAD_SIZE];
+        int headLength = in.readNBytes(head, 0, HEAD_SIZE);
+        in.reset();
+        ImageFormat format = ImageFormat.detect(head, headLength);
+        if (format == null) {
+            throw new AlertException("지원하지 않는 이미지 형식입니다.");
+        }
+        int orientation = format == ImageFormat.JPEG ? ExifOrientation.read(head, headLength) : ExifOrientation.NORMAL;
+        record(detectTimer, start);
+
+        // 2. 디코딩 (해상도 확인 후 필요하면 서브샘플링)
+        start = System.nanoTime();
+        BufferedImage decoded = decode(in);
+        BufferedImage source = orient(decoded, orientation);
+        record(decodeTimer, start);
+
+        boolean hasAlpha = source.getColorModel().hasAlpha();
+        String contentType = hasAlpha ? "image/png" : "image/jpeg";
+        String extension = hasAlpha ? "png" : "jpg";
+
+        // 3. 큰 변형부터 만들고, 작은 변형은 직전 결과를 다시 줄여 만든다
+        BufferedImage current = source;
+        ExposedByteArrayOutputStream buffer = new ExposedByteArrayOutputStream(64 * 1024);
+        ImageVariant[] variants = ImageVariant.values();
+        for (int i = variants.length - 1; i >= 0; i--) {
+            ImageVariant variant = variants[i];
+
+            start = System.nanoTime();
+            current = resize(current, variant.getMaxSize(), hasAlpha);
+            record(resizeTimer, start);
+
+            start = System.nanoTime();
+            buffer.reset();
+            encode(current, hasAlpha, buffer);
+            record(encodeTimer, start);
+
+            start = System.nanoTime();
+            sink.accept(variant, contentType, extension, buffer.buffer(), buffer.size());
+            record(storeTimer, start);
+        }
+    }
+
+    private BufferedImage decode(InputStream in) throws IOException {
+        try (ImageInputStream stream = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(stream);
+            if (!readers.hasNext()) {
+                throw new AlertException("지원하지 않는 이미지 형식입니다.");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(stream, true, true); // 메타데이터는 읽지 않음
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    throw new AlertException("이미지 해상도가 너무 큽니다.");
+                }
+
+                // 가장 큰 변형의 2배 이상은 유지하면서 디코딩 크기를 줄임
+                int subsampling = Math.max(1, Math.max(width, height) / (ImageVariant.largestSize() * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                if (subsampling > 1) {
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                }
+                return reader.read(0, param);
+            } catch (IOException e) {
+                throw new AlertException("이미지를 읽을 수 없습니다.");
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private BufferedImage orient(BufferedImage image, int orientation) {
+        if (orientation == ExifOrientation.NORMAL) {
+            return image;
+        }
+        int width = image.getWidth();
+        int height = image.getHeight();
+        boolean swap = ExifOrientation.swapsDimensions(orientation);
+        BufferedImage oriented = new BufferedImage(swap ? height : width, swap ? width : height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = oriented.createGraphics();
+        try {
+            g.drawImage(image, ExifOrientation.transform(orientation, width, height), null);
+        } finally {
+            g.dispose();
+        }
+        return oriented;
+    }
+
+    /**
+     * 긴 변이 maxSize 이하가 되도록 줄인다. 절반씩 단계적으로 줄여 한 번에 크게 줄일 때의 계단 현상을 막는다.
+     */
+    private BufferedImage resize(BufferedImage image, int maxSize, boolean hasAlpha) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int longest = Math.max(width, height);
+        int type = hasAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        if (longest <= maxSize && image.getType() == type) {
+            return image; // 원본보다 크게 늘리지 않음
+        }
+
+        double scale = Math.min(1.0, (double) maxSize / longest);
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        BufferedImage current = image;
+        do {
+            int nextWidth = Math.max(targetWidth, current.getWidth() / 2);
+            int nextHeight = Math.max(targetHeight, current.getHeight() / 2);
+            BufferedImage next = new BufferedImage(nextWidth, nextHeight, type);
+            Graphics2D g = next.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.drawImage(current, 0, 0, nextWidth, nextHeight, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+        } while (current.getWidth() != targetWidth || current.getHeight() != targetHeight);
+        return current;
+    }
+
+    private void encode(BufferedImage image, boolean hasAlpha, ExposedByteArrayOutputStream out) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(hasAlpha ? "png" : "jpeg").next();
+        try (MemoryCacheImageOutputStream stream = new MemoryCacheImageOutputStream(out)) {
+            writer.setOutput(stream);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (!hasAlpha) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(jpegQuality);
+            }
+            writer.write(null, new IIOImage(image, null, null), param); // 메타데이터 없이 기록
+        } finally {
+            writer.dispose();
+        }
+        if (out.size() > maxEncodedBytes) {
+            throw new AlertException("이미지 변환 결과가 너무 큽니다.");
+        }
+    }
+
+    private static Timer stageTimer(String stage, MeterRegistry meterRegistry) {
+        return Timer.builder("app.image.stage")
+                .description("Image processing latency per stage")
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
+
+    private static void record(Timer timer, long startNanos) {
+        timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 내부 버퍼를 복사 없이 넘기기 위한 ByteArrayOutputStream (변형마다 재사용)
+     */
+    private static final class ExposedByteArrayOutputStream extends ByteArrayOutputStream {
+        private ExposedByteArrayOutputStream(int size) {
+            super(size);
+        }
+
+        private byte[] buffer() {
+            return buf;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
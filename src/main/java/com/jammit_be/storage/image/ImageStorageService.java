@@ -0,0 +1,210 @@
+package com.jammit_be.storage.image;
+
+import com.jammit_be.common.exception.AlertException;
+import com.jammit_be.storage.FileStorage;
+import com.jammit_be.storage.dto.response.ImageUploadResponse;
+import com.jammit_be.storage.entity.StoredImage;
+import com.jammit_be.storage.repository.StoredImageRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 업로드 이미지를 정규화하고 크기별 변형을 모두 저장한다.
+ * 원본은 저장하지 않는다. (메타데이터가 제거된 LARGE 변형이 원본을 대신함)
+ *
+ * 내용 기반 저장 모드(storage.content-addressed.enabled)에서는 업로드 스트림을 임시 파일에 쓰면서 SHA-256 을 계산하고,
+ * 같은 내용이 이미 저장되어 있으면 이미지 처리와 업로드를 건너뛰고 기존 변형을 참조한다. (stored_image.ref_count)
+ * 키가 내용으로 정해지므로 한 번 저장된 파일은 바뀌지 않아 immutable 캐시 헤더를 붙인다.
+ */
+@Slf4j
+@Service
+public class ImageStorageService {
+
+    public static final String CONTENT_ADDRESSED_PREFIX = "images/";
+    public static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    private final ImageProcessor imageProcessor;
+    private final FileStorage fileStorage;
+    private final StoredImageRepository storedImageRepository;
+    private final boolean contentAddressed;
+    private final Counter dedupHitCounter;
+
+    public ImageStorageService(ImageProcessor imageProcessor,
+                               FileStorage fileStorage,
+                               StoredImageRepository storedImageRepository,
+                               @Value("${storage.content-addressed.enabled:true}") boolean contentAddressed,
+                               MeterRegistry meterRegistry) {
+        this.imageProcessor = imageProcessor;
+        this.fileStorage = fileStorage;
+        this.storedImageRepository = storedImageRepository;
+        this.contentAddressed = contentAddressed;
+        this.dedupHitCounter = Counter.builder("app.storage.dedup_hit")
+                .description("Uploads that reused an existing image with identical content")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param file 업로드된 이미지
+     * @param subFolder 저장 폴더 (ex: "profile"), 내용 기반 저장 모드에서는 사용하지 않음
+     * @return 변형별 접근 URL
+     */
+    public ImageUploadResponse save(MultipartFile file, String subFolder) {
+        if (file == null || file.isEmpty()) {
+            throw new AlertException("파일을 첨부하지 않았습니다.");
+        }
+
+        if (contentAddressed) {
+            return saveContentAddressed(file);
+        }
+        String baseKey = (subFolder != null && !subFolder.isBlank() ? subFolder + "/" : "") + UUID.randomUUID();
+        try (InputStream input = file.getInputStream()) {
+            return storeVariants(input, baseKey, null, null);
+        } catch (IOException e) {
+            throw new AlertException("이미지를 읽을 수 없습니다.");
+        }
+    }
+
+    /**
+     * 내용 기반으로 저장되어 참조 수를 관리하는 이미지인지 확인
+     * 이런 URL 은 save 로 참조를 얻은 경우에만 엔티티에 저장할 수 있다. (직접 지정하면 release 가 다른 사용자의 참조를 줄임)
+     * @param url 이미지 URL (MEDIUM 변형)
+     */
+    public boolean isManaged(String url) {
+        return url != null && !url.isBlank() && storedImageRepository.existsByMediumUrl(url);
+    }
+
+    /**
+     * 이미지 참조 해제 (프로필 이미지/썸네일이 다른 이미지로 바뀔 때)
+     * 내용 기반으로 저장된 이미지가 아니면 아무것도 하지 않는다.
+     * 참조 수가 0 이 되면 유예 시간 뒤 {@link StoredImageCollector} 가 삭제한다.
+     * @param url 엔티티가 참조하던 이미지 URL (MEDIUM 변형)
+     */
+    @Transactional
+    public void release(String url) {
+        if (url == null || url.isBlank()) {
+            return;
+        }
+        if (storedImageRepository.release(url) > 0) {
+            storedImageRepository.markReleased(url, LocalDateTime.now());
+        }
+    }
+
+    private ImageUploadResponse saveContentAddressed(MultipartFile file) {
+        Path temp = null;
+        try {
+            temp = Files.createTempFile("jammit-image-", ".upload");
+            String hash = spoolAndHash(file, temp);
+
+            // 1. 이미 저장된 내용이면 참조만 추가
+            if (storedImageRepository.retain(hash) > 0) {
+                dedupHitCounter.increment();
+                return toResponse(storedImageRepository.findById(hash).orElseThrow());
+            }
+            // 2. 행은 있지만 GC 가 삭제 중이면, 파일이 지워질 수 있으므로 추적하지 않는 고유 키로 저장
+            if (storedImageRepository.existsById(hash)) {
+                try (InputStream input = Files.newInputStream(temp)) {
+                    return storeVariants(input, CONTENT_ADDRESSED_PREFIX + UUID.randomUUID(), null, null);
+                }
+            }
+
+            // 3. 새 내용: 변형을 저장한 뒤 행을 추가
+            String keyPrefix = CONTENT_ADDRESSED_PREFIX + hash.substring(0, 2) + "/" + hash;
+            String[] extension = new String[1];
+            ImageUploadResponse response;
+            try (InputStream input = Files.newInputStream(temp)) {
+                response = storeVariants(input, keyPrefix, IMMUTABLE_CACHE_CONTROL, extension);
+            }
+            try {
+                storedImageRepository.saveAndFlush(StoredImage.create(hash, keyPrefix, extension[0],
+                        response.getSmallUrl(), response.getMediumUrl(), response.getLargeUrl()));
+            } catch (DataIntegrityViolationException e) {
+                // 같은 내용이 동시에 업로드된 경우: 파일 내용이 같으므로 먼저 추가된 행을 참조
+                if (storedImageRepository.retain(hash) == 0) {
+                    log.warn("내용 기반 이미지 참조 실패: hash={}", hash);
+                }
+            }
+            return response;
+        } catch (IOException e) {
+            throw new AlertException("이미지를 읽을 수 없습니다.");
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    /**
+     * 업로드 스트림을 임시 파일에 쓰면서 SHA-256 을 계산한다. (전체를 메모리에 올리지 않음)
+     */
+    private String spoolAndHash(MultipartFile file, Path temp) throws IOException {
+        MessageDigest digest = sha256();
+        try (InputStream input = new DigestInputStream(file.getInputStream(), digest);
+             OutputStream output = Files.newOutputStream(temp)) {
+            input.transferTo(output);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private ImageUploadResponse storeVariants(InputStream input, String baseKey, String cacheControl, String[] extensionOut) {
+        Map<ImageVariant, String> urls = new EnumMap<>(ImageVariant.class);
+        imageProcessor.process(input, (variant, contentType, extension, data, length) -> {
+            String key = baseKey + "_" + variant.getMaxSize() + "." + extension;
+            urls.put(variant, fileStorage.store(key, contentType, new ByteArrayInputStream(data, 0, length), length, cacheControl));
+            if (extensionOut != null) {
+                extensionOut[0] = extension;
+            }
+        });
+
+        return ImageUploadResponse.builder()
+                .smallUrl(urls.get(ImageVariant.SMALL))
+                .mediumUrl(urls.get(ImageVariant.MEDIUM))
+                .largeUrl(urls.get(ImageVariant.LARGE))
+                .build();
+    }
+
+    private ImageUploadResponse toResponse(StoredImage storedImage) {
+        return ImageUploadResponse.builder()
+                .smallUrl(storedImage.getSmallUrl())
+                .mediumUrl(storedImage.getMediumUrl())
+                .largeUrl(storedImage.getLargeUrl())
+                .build();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", path, e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.jammit_be.storage.image;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 업로드 이미지마다 생성하는 크기별 변형 (긴 변 기준, 원본보다 크게 늘리지 않음)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariant {
+    SMALL(96),    // 목록 아바타
+    MEDIUM(320),  // 목록 썸네일, 프로필
+    LARGE(1080);  // 상세 화면
+
+    private final int maxSize;
+
+    public static int largestSize() {
+        return LARGE.maxSize;
+    }
+}
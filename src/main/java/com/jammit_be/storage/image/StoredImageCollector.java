@@ -0,0 +1,90 @@
+package com.jammit_be.storage.image;
+
+import com.jammit_be.storage.FileStorage;
+import com.jammit_be.storage.entity.StoredImage;
+import com.jammit_be.storage.repository.StoredImageRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 참조되지 않는 내용 기반 이미지 정리
+ * 참조 수가 0 이 된 뒤 유예 시간이 지난 이미지를 배치 단위로 삭제한다.
+ * 순서: 행을 삭제 중(-1)으로 표시 → 변형 파일 삭제 → 행 삭제
+ * 삭제 중인 행은 새 참조가 붙지 않으므로, 같은 내용이 업로드되어도 지워질 파일을 가리키지 않는다.
+ */
+@Slf4j
+@Component
+public class StoredImageCollector {
+
+    private final StoredImageRepository storedImageRepository;
+    private final FileStorage fileStorage;
+    private final Duration gracePeriod;
+    private final int batchSize;
+    private final Counter deletedCounter;
+
+    public StoredImageCollector(StoredImageRepository storedImageRepository,
+                                FileStorage fileStorage,
+                                @Value("${storage.content-addressed.gc-grace-hours:24}") long gracePeriodHours,
+                                @Value("${storage.content-addressed.gc-batch-size:100}") int batchSize,
+                                MeterRegistry meterRegistry) {
+        this.storedImageRepository = storedImageRepository;
+        this.fileStorage = fileStorage;
+        this.gracePeriod = Duration.ofHours(gracePeriodHours);
+        this.batchSize = batchSize;
+        this.deletedCounter = Counter.builder("app.storage.gc_deleted")
+                .description("Content-addressed images deleted by the garbage collector")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${storage.content-addressed.gc-interval-ms:3600000}")
+    public void collect() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(gracePeriod);
+        int deleted = 0;
+        List<StoredImage> garbage;
+        do {
+            garbage = storedImageRepository.findGarbage(cutoff, PageRequest.of(0, batchSize));
+            int deletedInBatch = 0;
+            for (StoredImage storedImage : garbage) {
+                if (delete(storedImage, cutoff)) {
+                    deletedInBatch++;
+                }
+            }
+            deleted += deletedInBatch;
+            // 파일 삭제에 실패한 행은 삭제 중 상태로 남아 다음 주기에 다시 시도
+            if (deletedInBatch == 0) {
+                break;
+            }
+        } while (garbage.size() == batchSize);
+
+        if (deleted > 0) {
+            log.info("미참조 이미지 {}건 삭제", deleted);
+        }
+    }
+
+    private boolean delete(StoredImage storedImage, LocalDateTime cutoff) {
+        // 다른 노드가 먼저 처리했거나, 그 사이 다시 참조된 경우
+        if (storedImageRepository.markDeleting(storedImage.getHash(), cutoff) == 0) {
+            return false;
+        }
+        try {
+            for (ImageVariant variant : ImageVariant.values()) {
+                fileStorage.delete(storedImage.getKeyPrefix() + "_" + variant.getMaxSize() + "." + storedImage.getExtension());
+            }
+        } catch (RuntimeException e) {
+            log.warn("이미지 파일 삭제 실패: hash={}", storedImage.getHash(), e);
+            return false;
+        }
+        storedImageRepository.deleteDeleting(storedImage.getHash());
+        deletedCounter.increment();
+        return true;
+    }
+}
@@ -0,0 +1,47 @@
+package com.jammit_be.storage.repository;
+
+import com.jammit_be.storage.entity.StoredImage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface StoredImageRepository extends JpaRepository<StoredImage, String> {
+
+    // 참조 추가 (삭제 진행 중인 행은 제외)
+    @Transactional
+    @Modifying
+    @Query("UPDATE StoredImage s SET s.refCount = s.refCount + 1, s.releasedAt = null WHERE s.hash = :hash AND s.refCount >= 0")
+    int retain(@Param("hash") String hash);
+
+    boolean existsByMediumUrl(String mediumUrl);
+
+    @Modifying
+    @Query("UPDATE StoredImage s SET s.refCount = s.refCount - 1 WHERE s.mediumUrl = :url AND s.refCount > 0")
+    int release(@Param("url") String url);
+
+    @Modifying
+    @Query("UPDATE StoredImage s SET s.releasedAt = :now WHERE s.mediumUrl = :url AND s.refCount = 0 AND s.releasedAt IS NULL")
+    int markReleased(@Param("url") String url, @Param("now") LocalDateTime now);
+
+    // 유예 시간이 지난 미참조 이미지와, 삭제 도중 멈춘 이미지
+    @Query("SELECT s FROM StoredImage s WHERE (s.refCount = 0 AND s.releasedAt < :cutoff) OR s.refCount = -1 ORDER BY s.releasedAt")
+    List<StoredImage> findGarbage(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE StoredImage s SET s.refCount = -1 WHERE s.hash = :hash AND ((s.refCount = 0 AND s.releasedAt < :cutoff) OR s.refCount = -1)")
+    int markDeleting(@Param("hash") String hash, @Param("cutoff") LocalDateTime cutoff);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM StoredImage s WHERE s.hash = :hash AND s.refCount = -1")
+    int deleteDeleting(@Param("hash") String hash);
+}
@@ -3,6 +3,10 @@ package com.jammit_be.user.controller;
 import com.jammit_be.auth.dto.response.EmailCheckResponse;
 import com.jammit_be.auth.util.AuthUtil;
 import com.jammit_be.common.dto.CommonResponse;
+import com.jammit_be.storage.dto.request.ConfirmUploadRequest;
+import com.jammit_be.storage.dto.request.PresignedUploadRequest;
+import com.jammit_be.storage.dto.response.ImageUploadResponse;
+import com.jammit_be.storage.dto.response.PresignedUploadResponse;
 import com.jammit_be.user.dto.request.UpdateImageRequest;
 import com.jammit_be.user.dto.request.UpdateUserRequest;
 import com.jammit_be.user.dto.request.CreateUserRequest;
@@ -91,17 +95,46 @@ public class UserController {
             summary = "프로필 이미지 업로드",
             description = "PK로 유저를 지정하고, 프로필 이미지를 파일로 업로드합니다. (multipart/form-data 형식)",
             responses = {
-                    @ApiResponse(responseCode = "200", description = "업로드 성공 (이미지 URL 반환)")
+                    @ApiResponse(responseCode = "200", description = "업로드 성공 (크기별 이미지 URL 반환, 프로필에는 320px 이미지 사용)"),
+                    @ApiResponse(responseCode = "400", description = "지원하지 않는 이미지 형식이거나 해상도가 너무 큼")
             }
     )
     @PostMapping(value = "/{userId}/profile-image", consumes = "multipart/form-data")
-    public CommonResponse<String> uploadProfileImage(
+    public CommonResponse<ImageUploadResponse> uploadProfileImage(
             @Parameter(description = "유저의 PK (숫자)", example = "1")
             @PathVariable Long userId,
             @Parameter(description = "업로드할 프로필 이미지 파일", required = true)
             @RequestPart("file") MultipartFile file) {
 
-        String result = userService.uploadProfileImage(userId, file);
+        ImageUploadResponse result = userService.uploadProfileImage(userId, file);
+        return new CommonResponse<ImageUploadResponse>().success(result);
+    }
+
+    @Operation(
+            summary = "프로필 이미지 업로드 URL 발급",
+            description = "로그인한 유저의 프로필 이미지를 저장소에 직접 PUT 할 수 있는 단기 URL 과 key 를 발급합니다. 업로드 후 확정 API 를 호출해야 반영됩니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "발급 성공"),
+                    @ApiResponse(responseCode = "400", description = "지원하지 않는 형식이거나 5MB 초과")
+            }
+    )
+    @PostMapping("/profile-image/presigned")
+    public CommonResponse<PresignedUploadResponse> issueProfileImageUpload(@Valid @RequestBody PresignedUploadRequest request) {
+        var response = userService.issueProfileImageUpload(AuthUtil.getPrincipal().getId(), request);
+        return new CommonResponse<PresignedUploadResponse>().success(response);
+    }
+
+    @Operation(
+            summary = "프로필 이미지 업로드 확정",
+            description = "직접 업로드한 파일의 key 를 받아 로그인한 유저의 프로필 이미지로 반영합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "반영 성공 (이미지 URL 반환)"),
+                    @ApiResponse(responseCode = "400", description = "잘못된 key 이거나 업로드된 파일이 없음")
+            }
+    )
+    @PutMapping("/profile-image/confirm")
+    public CommonResponse<String> confirmProfileImage(@Valid @RequestBody ConfirmUploadRequest request) {
+        String result = userService.confirmProfileImage(AuthUtil.getPrincipal().getId(), request);
         return new CommonResponse<String>().success(result);
     }
 }
@@ -1,14 +1,20 @@
 package com.jammit_be.user.entity;
 
+import com.jammit_be.common.cache.CacheRegions;
 import com.jammit_be.common.entity.BaseEntity;
+import com.jammit_be.common.entity.IdGenerators;
 import com.jammit_be.common.enums.BandSession;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PREFERRED_BAND_SESSION)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -16,7 +22,9 @@ import lombok.NoArgsConstructor;
 public class PreferredBandSession extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "preferred_band_session_id")
+    @TableGenerator(name = "preferred_band_session_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.PK_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "preferred_band_session", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
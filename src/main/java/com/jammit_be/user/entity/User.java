@@ -1,5 +1,10 @@
 package com.jammit_be.user.entity;
 
+import com.jammit_be.common.cache.CacheRegions;
+import com.jammit_be.common.entity.BandSessionMaskConverter;
+import com.jammit_be.common.entity.EnumMasks;
+import com.jammit_be.common.entity.GenreMaskConverter;
+import com.jammit_be.common.entity.IdGenerators;
 import com.jammit_be.common.enums.BandSession;
 import com.jammit_be.common.enums.Genre;
 import com.jammit_be.common.exception.AlertException;
@@ -10,6 +15,8 @@ import com.jammit_be.user.dto.request.UpdateUserRequest;
 import io.micrometer.common.util.StringUtils;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -25,6 +32,8 @@ import java.util.*;
 @Table(name = "user")
 @EntityListeners(AuditingEntityListener.class)
 @EqualsAndHashCode(of = "id")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.USER)
 @NamedEntityGraphs({
     @NamedEntityGraph(
         name = "User.withPreferences",
@@ -53,7 +62,9 @@ import java.util.*;
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "user_id")
+    @TableGenerator(name = "user_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.PK_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "user", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
     @Column(nullable = false, length = 30, unique = true)
     private String email;
@@ -77,13 +88,24 @@ public class User {
     private List<GatheringParticipant> participants = new ArrayList<>();
 
     // 내가 선택한 곡장르들
-    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL)
+    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.USER_PREFERRED_GENRES)
     private final Set<PreferredGenre> preferredGenres = new HashSet<>();
 
     // 내가 선택한 밴드 세션들
-    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL)
+    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.USER_BAND_SESSIONS)
     private Set<PreferredBandSession> userBandSessions = new HashSet<>();
 
+    // 선호 장르/세션 비트마스크 - 매칭 쿼리용 (순서는 preferredGenres, userBandSessions 의 priority 로 유지)
+    @Convert(converter = GenreMaskConverter.class)
+    @Column(name = "genre_mask") // NULL 은 이관 전 행 (EnumMaskBackfill 이 채움)
+    private EnumSet<Genre> genreMask = EnumSet.noneOf(Genre.class);
+
+    @Convert(converter = BandSessionMaskConverter.class)
+    @Column(name = "session_mask")
+    private EnumSet<BandSession> sessionMask = EnumSet.noneOf(BandSession.class);
+
     // 내가 작성한 리뷰들
     @OneToMany(mappedBy = "reviewer")
     private List<Review> writtenReviews = new ArrayList<>();
@@ -129,22 +151,66 @@ public class User {
         }
     }
 
-    public void updatePreferredGenres(List<Genre> genres) {
-        this.preferredGenres.clear();
-        if (genres != null && !genres.isEmpty()) {
-            for (int i = 0; i < genres.size(); i++) {
-                this.preferredGenres.add(PreferredGenre.create(this, genres.get(i), i));
+    /**
+     * 선호 장르를 장르 기준으로 병합합니다. 빠진 장르와 중복 행은 삭제(orphanRemoval), 새 장르만 추가, 순서가 바뀐 행만 수정합니다.
+     * @param genres 선호 순서대로 정렬된 장르 (null 또는 빈 목록이면 모두 삭제)
+     * @return 변경 여부
+     */
+    public boolean updatePreferredGenres(List<Genre> genres) {
+        Map<Genre, Integer> priorities = priorities(genres);
+        boolean changed = false;
+        Iterator<PreferredGenre> iterator = this.preferredGenres.iterator();
+        while (iterator.hasNext()) {
+            PreferredGenre preferred = iterator.next();
+            Integer priority = priorities.remove(preferred.getName());
+            if (priority == null) {
+                // 요청에 없는 값, 또는 이전 버전이 중복 저장한 행
+                iterator.remove();
+                changed = true;
+            } else if (!priority.equals(preferred.getPriority())) {
+                preferred.updatePriority(priority);
+                changed = true;
+            }
+        }
+        priorities.forEach((genre, priority) -> this.preferredGenres.add(PreferredGenre.create(this, genre, priority)));
+        this.genreMask = EnumMasks.copyOf(Genre.class, this.preferredGenres.stream().map(PreferredGenre::getName).toList());
+        return changed || !priorities.isEmpty();
+    }
+
+    /**
+     * 선호 밴드 세션을 세션 기준으로 병합합니다. (updatePreferredGenres 와 동일)
+     * @return 변경 여부
+     */
+    public boolean updatePreferredBandSessions(List<BandSession> bandSessions) {
+        Map<BandSession, Integer> priorities = priorities(bandSessions);
+        boolean changed = false;
+        Iterator<PreferredBandSession> iterator = this.userBandSessions.iterator();
+        while (iterator.hasNext()) {
+            PreferredBandSession preferred = iterator.next();
+            Integer priority = priorities.remove(preferred.getName());
+            if (priority == null) {
+                // 요청에 없는 값, 또는 이전 버전이 중복 저장한 행
+                iterator.remove();
+                changed = true;
+            } else if (!priority.equals(preferred.getPriority())) {
+                preferred.updatePriority(priority);
+                changed = true;
             }
         }
+        priorities.forEach((bandSession, priority) -> this.userBandSessions.add(PreferredBandSession.create(this, bandSession, priority)));
+        this.sessionMask = EnumMasks.copyOf(BandSession.class, this.userBandSessions.stream().map(PreferredBandSession::getName).toList());
+        return changed || !priorities.isEmpty();
     }
 
-    public void updatePreferredBandSessions(List<BandSession> bandSessions) {
-        this.userBandSessions.clear();;
-        if (bandSessions != null && !bandSessions.isEmpty()) {
-            for (int i = 0; i < bandSessions.size(); i++) {
-                this.userBandSessions.add(PreferredBandSession.create(this, bandSessions.get(i), i));
+    // 요청 순서를 우선순위로 (중복은 처음 것만)
+    private static <E extends Enum<E>> Map<E, Integer> priorities(List<E> values) {
+        Map<E, Integer> priorities = new LinkedHashMap<>();
+        if (values != null) {
+            for (E value : values) {
+                priorities.putIfAbsent(value, priorities.size());
             }
         }
+        return priorities;
     }
 
     // 프로필 이미지 변경
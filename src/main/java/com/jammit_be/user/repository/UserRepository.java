@@ -1,5 +1,6 @@
 package com.jammit_be.user.repository;
 
+import com.jammit_be.auth.entity.UserPrincipal;
 import com.jammit_be.user.entity.OauthPlatform;
 import com.jammit_be.user.entity.User;
 import org.springframework.data.jpa.repository.EntityGraph;
@@ -8,6 +9,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -24,18 +26,26 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @EntityGraph(value = "User.withPreferences")
     Optional<User> findUserById(Long userId);
 
+    // 인증용 최소 정보 조회 (선호 장르/세션 조인 없음)
+    @Query("SELECT new com.jammit_be.auth.entity.UserPrincipal(u.id, u.email, u.nickname) FROM User u WHERE u.email = :email")
+    Optional<UserPrincipal> findPrincipalByEmail(@Param("email") String email);
+
     boolean existsUserByEmail(String email);
 
     boolean existsUserByUsername(String username);
     
-    @Modifying
-    @Query("DELETE FROM PreferredGenre pg WHERE pg.user.id = :userId")
-    void deleteAllPreferredGenresByUserId(@Param("userId") Long userId);
-    
-    @Modifying
-    @Query("DELETE FROM PreferredBandSession pbs WHERE pbs.user.id = :userId")
-    void deleteAllPreferredBandSessionsByUserId(@Param("userId") Long userId);
-    
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.password = :password WHERE u.id = :userId")
+    int updatePassword(@Param("userId") Long userId, @Param("password") String password);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.orgFileName = :orgFileName, u.profileImagePath = :profileImagePath WHERE u.id = :userId")
+    int updateProfileImage(@Param("userId") Long userId,
+                           @Param("orgFileName") String orgFileName,
+                           @Param("profileImagePath") String profileImagePath);
+
     @Override
     @EntityGraph(value = "User.withPreferences")
     Optional<User> findById(Long id);
@@ -1,9 +1,17 @@
 package com.jammit_be.user.service;
 
 import com.jammit_be.auth.dto.response.EmailCheckResponse;
+import com.jammit_be.auth.util.UserPrincipalCache;
 import com.jammit_be.common.exception.AlertException;
+import com.jammit_be.gathering.dto.response.CreatedGatheringCountProjection;
 import com.jammit_be.gathering.repository.GatheringRepository;
 import com.jammit_be.storage.FileStorage;
+import com.jammit_be.storage.UploadPolicy;
+import com.jammit_be.storage.dto.request.ConfirmUploadRequest;
+import com.jammit_be.storage.dto.request.PresignedUploadRequest;
+import com.jammit_be.storage.dto.response.ImageUploadResponse;
+import com.jammit_be.storage.dto.response.PresignedUploadResponse;
+import com.jammit_be.storage.image.ImageStorageService;
 import com.jammit_be.user.dto.request.UpdateImageRequest;
 import com.jammit_be.user.dto.request.UpdateUserRequest;
 import com.jammit_be.user.dto.request.CreateUserRequest;
@@ -18,24 +26,26 @@ import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import java.time.LocalDateTime;
+import java.util.Objects;
 
 @Service
-@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+@Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final FileStorage fileStorage;
+    private final ImageStorageService imageStorageService;
     private final GatheringRepository gatheringRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
     public UserResponse getUserInfo(String email) {
         var user = userRepository.findUserByEmail(email)
                 .orElseThrow(() -> new AlertException("유저를 찾지 못하였습니다"));
         
-        // 유저가 작성한 모임 수와 완료된 모임 수 조회
-        long totalCreatedGatheringCount = gatheringRepository.countByCreatedBy(user);
-        long completedGatheringCount = gatheringRepository.countByCreatedByAndStatusCompleted(user);
+        // 유저가 작성한 모임 수와 완료된 모임 수 조회 (쿼리 한 번)
+        CreatedGatheringCountProjection gatheringCount = gatheringRepository.countCreatedGatherings(user);
         
         // UserResponse 생성
         UserResponse response = UserResponse.of(user);
@@ -51,8 +61,8 @@ public class UserService {
                 .updatedAt(response.getUpdatedAt())
                 .preferredGenres(response.getPreferredGenres())
                 .preferredBandSessions(response.getPreferredBandSessions())
-                .totalCreatedGatheringCount(totalCreatedGatheringCount)
-                .completedGatheringCount(completedGatheringCount)
+                .totalCreatedGatheringCount(gatheringCount.getTotalCount())
+                .completedGatheringCount(gatheringCount.getCompletedCount())
                 .build();
     }
 
@@ -101,6 +111,8 @@ public class UserService {
     public UserResponse updateUserInfo(String email, UpdateUserRequest updateUserRequest) {
         User user = userRepository.findUserByEmail(email)
                 .orElseThrow(() -> new AlertException("유저를 찾지 못하였습니다"));
+        // 이메일이 바뀔 수 있으므로 변경 전 이메일로 캐시 무효화 (커밋 후 다시 무효화됨)
+        userPrincipalCache.evict(email);
         
         // 기본 정보 업데이트
         if (updateUserRequest.getEmail() != null) {
@@ -113,24 +125,23 @@ public class UserService {
             user.setPassword(passwordEncoder.encode(updateUserRequest.getPassword()));
         }
         
-        // 기존 선호 장르와 밴드 세션을 DB에서 직접 삭제
-        userRepository.deleteAllPreferredGenresByUserId(user.getId());
-        userRepository.deleteAllPreferredBandSessionsByUserId(user.getId());
-        
-        // 새로운 선호 장르와 밴드 세션 추가
-        if (updateUserRequest.getPreferredGenres() != null && !updateUserRequest.getPreferredGenres().isEmpty()) {
-            user.updatePreferredGenres(updateUserRequest.getPreferredGenres());
+        // 선호 장르와 밴드 세션은 이미 조회한 목록과 비교해 바뀐 행만 INSERT/DELETE/UPDATE (flush 시 JDBC 배치)
+        // null 이면 변경하지 않고, 빈 목록이면 모두 삭제
+        boolean preferencesChanged = false;
+        if (updateUserRequest.getPreferredGenres() != null) {
+            preferencesChanged |= user.updatePreferredGenres(updateUserRequest.getPreferredGenres());
         }
-        
-        if (updateUserRequest.getPreferredBandSessions() != null && !updateUserRequest.getPreferredBandSessions().isEmpty()) {
-            user.updatePreferredBandSessions(updateUserRequest.getPreferredBandSessions());
+        if (updateUserRequest.getPreferredBandSessions() != null) {
+            preferencesChanged |= user.updatePreferredBandSessions(updateUserRequest.getPreferredBandSessions());
         }
         
-        user.setUpdatedAt(LocalDateTime.now());
+        // 선호 정보만 바뀐 경우에도 수정 시간 갱신 (기본 정보 변경은 Auditing 이 처리)
+        if (preferencesChanged) {
+            user.setUpdatedAt(LocalDateTime.now());
+        }
         
-        // 유저가 작성한 모임 수와 완료된 모임 수 조회
-        long totalCreatedGatheringCount = gatheringRepository.countByCreatedBy(user);
-        long completedGatheringCount = gatheringRepository.countByCreatedByAndStatusCompleted(user);
+        // 유저가 작성한 모임 수와 완료된 모임 수 조회 (쿼리 한 번)
+        CreatedGatheringCountProjection gatheringCount = gatheringRepository.countCreatedGatherings(user);
         
         return UserResponse.builder()
                 .id(user.getId())
@@ -146,8 +157,8 @@ public class UserService {
                 .preferredBandSessions(user.getUserBandSessions().stream()
                         .map(preferredBandSession -> preferredBandSession.getName())
                         .collect(java.util.stream.Collectors.toList()))
-                .totalCreatedGatheringCount(totalCreatedGatheringCount)
-                .completedGatheringCount(completedGatheringCount)
+                .totalCreatedGatheringCount(gatheringCount.getTotalCount())
+                .completedGatheringCount(gatheringCount.getCompletedCount())
                 .build();
     }
 
@@ -155,11 +166,20 @@ public class UserService {
     public UserResponse updateProfileImage(String email, UpdateImageRequest updateImageRequest) {
         User user = userRepository.findUserByEmail(email)
                 .orElseThrow(() -> new AlertException("유저를 찾지 못하였습니다"));
+        String previousImage = user.getProfileImagePath();
+        String newImage = updateImageRequest.getProfileImagePath();
+        // 업로드로 참조를 얻지 않은 내용 기반 이미지(다른 사용자의 이미지 등)는 지정할 수 없음 - 바꿀 때 참조 수가 잘못 줄어듦
+        if (!Objects.equals(previousImage, newImage) && imageStorageService.isManaged(newImage)) {
+            throw new AlertException("업로드한 이미지만 프로필 이미지로 지정할 수 있습니다.");
+        }
         user.updateProfileImage(updateImageRequest);
+        if (!Objects.equals(previousImage, user.getProfileImagePath())) {
+            imageStorageService.release(previousImage);
+        }
+        userPrincipalCache.evict(email);
         
-        // 유저가 작성한 모임 수와 완료된 모임 수 조회
-        long totalCreatedGatheringCount = gatheringRepository.countByCreatedBy(user);
-        long completedGatheringCount = gatheringRepository.countByCreatedByAndStatusCompleted(user);
+        // 유저가 작성한 모임 수와 완료된 모임 수 조회 (쿼리 한 번)
+        CreatedGatheringCountProjection gatheringCount = gatheringRepository.countCreatedGatherings(user);
         
         return UserResponse.builder()
                 .id(user.getId())
@@ -175,8 +195,8 @@ public class UserService {
                 .preferredBandSessions(user.getUserBandSessions().stream()
                         .map(preferredBandSession -> preferredBandSession.getName())
                         .collect(java.util.stream.Collectors.toList()))
-                .totalCreatedGatheringCount(totalCreatedGatheringCount)
-                .completedGatheringCount(completedGatheringCount)
+                .totalCreatedGatheringCount(gatheringCount.getTotalCount())
+                .completedGatheringCount(gatheringCount.getCompletedCount())
                 .build();
     }
 
@@ -184,17 +204,58 @@ public class UserService {
         return new EmailCheckResponse(userRepository.existsUserByEmail(email));
     }
 
-    public String uploadProfileImage(Long userId ,MultipartFile file) {
+    // 이미지 처리 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행 (조회/갱신은 리포지토리 트랜잭션)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ImageUploadResponse uploadProfileImage(Long userId ,MultipartFile file) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new AlertException("유저를 찾지 못하였습니다"));
-        
+        String previousImage = user.getProfileImagePath();
+
         if(file == null || file.isEmpty()) {
             throw new AlertException("파일을 첨부하지 않았습니다.");
         }
 
-        String url = fileStorage.save(file, "profile");
-        user.changeProfileImage(file.getOriginalFilename(), url);
+        // 원본 대신 정규화된 변형들을 저장하고, 프로필에는 목록/프로필 표시용 320px 변형을 사용
+        // (이미지 처리 동안 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 처리 후 갱신)
+        ImageUploadResponse images = imageStorageService.save(file, "profile");
+        userRepository.updateProfileImage(userId, file.getOriginalFilename(), images.getMediumUrl());
+        // 같은 이미지를 다시 올린 경우에도 참조가 하나 늘었으므로 이전 참조는 해제
+        imageStorageService.release(previousImage);
+        userPrincipalCache.evictByUserId(userId);
+
+        return images;
+    }
+
+    /**
+     * 프로필 이미지 직접 업로드 URL 발급 (파일은 서버를 거치지 않고 저장소로 업로드)
+     */
+    public PresignedUploadResponse issueProfileImageUpload(Long userId, PresignedUploadRequest request) {
+        return fileStorage.createPresignedUpload(profileFolder(userId), request.getContentType(), request.getContentLength());
+    }
+
+    /**
+     * 직접 업로드한 프로필 이미지를 유저에 반영
+     * @return 프로필 이미지 URL
+     */
+    @Transactional
+    public String confirmProfileImage(Long userId, ConfirmUploadRequest request) {
+        UploadPolicy.checkKey(request.getKey(), profileFolder(userId));
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new AlertException("유저를 찾지 못하였습니다"));
+
+        String url = fileStorage.confirmUpload(request.getKey());
+        String orgFileName = request.getOrgFileName() != null
+                ? request.getOrgFileName()
+                : request.getKey().substring(request.getKey().lastIndexOf('/') + 1);
+        String previousImage = user.getProfileImagePath();
+        user.changeProfileImage(orgFileName, url);
+        imageStorageService.release(previousImage);
+        userPrincipalCache.evictByUserId(userId);
 
         return url;
     }
+
+    private String profileFolder(Long userId) {
+        return "profile/" + userId;
+    }
 }
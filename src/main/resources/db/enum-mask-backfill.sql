@@ -0,0 +1,20 @@
+-- 장르/세션 비트마스크 컬럼(genre_mask, session_mask) 채우기 (EnumMasks)
+-- 비트 위치는 enum 선언 순서이므로 FIELD() 목록은 Genre, BandSession 선언 순서와 같아야 한다.
+-- 마스크가 NULL 인 행(컬럼 추가 전에 저장된 행)만 자식 테이블에서 계산한다.
+-- EnumMaskBackfill 이 NULL 인 행이 있을 때만 실행한다. (EnumMasksTest 가 FIELD() 목록과 enum 상수를 비교)
+UPDATE gathering g SET g.genre_mask = (
+    SELECT COALESCE(BIT_OR(1 << (FIELD(gg.genre_name, 'ROCK', 'METAL', 'POP', 'BALLAD', 'INDIE', 'ALTERNATIVE', 'JAZZ', 'PUNK', 'ACOUSTIC', 'FOLK', 'RNB') - 1)), 0)
+    FROM gathering_genres gg WHERE gg.gathering_id = g.id
+) WHERE g.genre_mask IS NULL;
+UPDATE gathering g SET g.session_mask = (
+    SELECT COALESCE(BIT_OR(1 << (FIELD(gs.band_session_name, 'VOCAL', 'ELECTRIC_GUITAR', 'DRUM', 'ACOUSTIC_GUITAR', 'BASS', 'STRING_INSTRUMENT', 'PERCUSSION', 'KEYBOARD') - 1)), 0)
+    FROM gathering_session gs WHERE gs.gathering_id = g.id
+) WHERE g.session_mask IS NULL;
+UPDATE `user` u SET u.genre_mask = (
+    SELECT COALESCE(BIT_OR(1 << (FIELD(pg.genre_name, 'ROCK', 'METAL', 'POP', 'BALLAD', 'INDIE', 'ALTERNATIVE', 'JAZZ', 'PUNK', 'ACOUSTIC', 'FOLK', 'RNB') - 1)), 0)
+    FROM preferred_genre pg WHERE pg.user_id = u.id
+) WHERE u.genre_mask IS NULL;
+UPDATE `user` u SET u.session_mask = (
+    SELECT COALESCE(BIT_OR(1 << (FIELD(pbs.band_session_name, 'VOCAL', 'ELECTRIC_GUITAR', 'DRUM', 'ACOUSTIC_GUITAR', 'BASS', 'STRING_INSTRUMENT', 'PERCUSSION', 'KEYBOARD') - 1)), 0)
+    FROM preferred_band_session pbs WHERE pbs.user_id = u.id
+) WHERE u.session_mask IS NULL;
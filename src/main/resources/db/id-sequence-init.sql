@@ -0,0 +1,26 @@
+-- IDENTITY -> TABLE(id_sequence) PK 생성 전환 (IdGenerators)
+-- 기존 테이블의 다음 PK 를 id_sequence 에 맞춘다 (매 시작 시 실행).
+-- ddl-auto 가 스키마 생성 때 초기값 행을 먼저 넣으므로 INSERT IGNORE 로는 건너뛰게 된다.
+-- 이미 있는 행은 기존 값과 MAX(id) + 1 중 큰 값으로 올리기만 한다 (실행 중인 서버가 받아 간 블록은 그대로 유효).
+-- pooled-lo: next_val 은 다음에 할당할 블록의 시작 값
+INSERT INTO id_sequence (sequence_name, next_val)
+SELECT 'user', m.start_val FROM (SELECT COALESCE(MAX(id), 0) + 1 AS start_val FROM `user`) m
+ON DUPLICATE KEY UPDATE next_val = GREATEST(id_sequence.next_val, m.start_val);
+INSERT INTO id_sequence (sequence_name, next_val)
+SELECT 'preferred_genre', m.start_val FROM (SELECT COALESCE(MAX(id), 0) + 1 AS start_val FROM preferred_genre) m
+ON DUPLICATE KEY UPDATE next_val = GREATEST(id_sequence.next_val, m.start_val);
+INSERT INTO id_sequence (sequence_name, next_val)
+SELECT 'preferred_band_session', m.start_val FROM (SELECT COALESCE(MAX(id), 0) + 1 AS start_val FROM preferred_band_session) m
+ON DUPLICATE KEY UPDATE next_val = GREATEST(id_sequence.next_val, m.start_val);
+INSERT INTO id_sequence (sequence_name, next_val)
+SELECT 'gathering', m.start_val FROM (SELECT COALESCE(MAX(id), 0) + 1 AS start_val FROM gathering) m
+ON DUPLICATE KEY UPDATE next_val = GREATEST(id_sequence.next_val, m.start_val);
+INSERT INTO id_sequence (sequence_name, next_val)
+SELECT 'gathering_session', m.start_val FROM (SELECT COALESCE(MAX(id), 0) + 1 AS start_val FROM gathering_session) m
+ON DUPLICATE KEY UPDATE next_val = GREATEST(id_sequence.next_val, m.start_val);
+INSERT INTO id_sequence (sequence_name, next_val)
+SELECT 'gathering_participant', m.start_val FROM (SELECT COALESCE(MAX(id), 0) + 1 AS start_val FROM gathering_participant) m
+ON DUPLICATE KEY UPDATE next_val = GREATEST(id_sequence.next_val, m.start_val);
+INSERT INTO id_sequence (sequence_name, next_val)
+SELECT 'review', m.start_val FROM (SELECT COALESCE(MAX(id), 0) + 1 AS start_val FROM review) m
+ON DUPLICATE KEY UPDATE next_val = GREATEST(id_sequence.next_val, m.start_val);
@@ -14,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -74,6 +75,32 @@ class AuthServiceTest {
         assertThat(response.getUser().getNickname()).isEqualTo("테스터");
     }
 
+    @Test
+    @DisplayName("정상 로그인 - 저장된 해시의 cost 가 다르면 재해싱")
+    void login_success_rehashWhenCostDiffers() {
+        // given - 낮은 cost 로 저장된 비밀번호
+        User legacyUser = User.builder()
+                .email("legacy@example.com")
+                .password(new BCryptPasswordEncoder(4).encode("password123!"))
+                .username("legacy")
+                .nickname("레거시")
+                .oauthPlatform(OauthPlatform.NONE)
+                .build();
+        userRepository.save(legacyUser);
+        assertThat(passwordEncoder.upgradeEncoding(legacyUser.getPassword())).isTrue();
+
+        // when
+        authService.login(LoginRequest.builder()
+                .email("legacy@example.com")
+                .password("password123!")
+                .build());
+
+        // then - 현재 cost 로 재해싱되어 저장되고 기존 비밀번호로 계속 로그인 가능
+        User rehashed = userRepository.findById(legacyUser.getId()).orElseThrow();
+        assertThat(passwordEncoder.upgradeEncoding(rehashed.getPassword())).isFalse();
+        assertThat(passwordEncoder.matches("password123!", rehashed.getPassword())).isTrue();
+    }
+
     @Test
     @DisplayName("로그인 실패 - 존재하지 않는 이메일")
     void login_fail_userNotFound() {
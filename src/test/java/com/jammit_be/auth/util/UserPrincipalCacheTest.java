@@ -0,0 +1,58 @@
+package com.jammit_be.auth.util;
+
+import com.jammit_be.auth.entity.UserPrincipal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("UserPrincipalCache 무효화 테스트")
+class UserPrincipalCacheTest {
+
+    private final UserPrincipalCache cache = new UserPrincipalCache(60_000, 100);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 중 다시 캐시된 이전 정보는 커밋 후 무효화")
+    void evict_againAfterCommit() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        cache.put("user@example.com", new UserPrincipal(1L, "user@example.com", "이전"));
+        cache.put("other@example.com", new UserPrincipal(2L, "other@example.com", "이전"));
+
+        // when - 무효화 후 커밋 전에 다른 요청이 이전 행을 다시 캐시
+        cache.evict("user@example.com");
+        cache.evictByUserId(2L);
+        cache.put("user@example.com", new UserPrincipal(1L, "user@example.com", "이전"));
+        cache.put("other@example.com", new UserPrincipal(2L, "other@example.com", "이전"));
+        assertThat(cache.get("user@example.com")).isNotNull();
+
+        TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+
+        // then
+        assertThat(cache.get("user@example.com")).isNull();
+        assertThat(cache.get("other@example.com")).isNull();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 바로 무효화")
+    void evict_withoutTransaction() {
+        // given
+        cache.put("user@example.com", new UserPrincipal(1L, "user@example.com", "닉네임"));
+
+        // when
+        cache.evict("user@example.com");
+
+        // then
+        assertThat(cache.get("user@example.com")).isNull();
+    }
+}
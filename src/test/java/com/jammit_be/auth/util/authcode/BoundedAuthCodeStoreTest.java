@@ -0,0 +1,107 @@
+package com.jammit_be.auth.util.authcode;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BoundedAuthCodeStore 단위 테스트")
+class BoundedAuthCodeStoreTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private BoundedAuthCodeStore store;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        store = new BoundedAuthCodeStore(2, 3, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("용량 초과 시 가장 먼저 만료될 인증번호부터 제거")
+    void saveCode_evictsSoonestExpiringWhenFull() {
+        // given
+        store.saveCode("a@example.com", "111111", 60);
+        store.saveCode("b@example.com", "222222", 180);
+
+        // when
+        store.saveCode("c@example.com", "333333", 180);
+
+        // then
+        assertThat(store.hasCode("a@example.com")).isFalse();
+        assertThat(store.hasCode("b@example.com")).isTrue();
+        assertThat(store.hasCode("c@example.com")).isTrue();
+        assertThat(meterRegistry.counter("app.auth_code.evicted").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("재발송 전 인증번호의 큐 항목은 정리/용량 제거 시 건너뛰고, 큐 크기는 제한됨")
+    void saveCode_resendSkipsStaleQueueEntries() {
+        // given - 먼저 만료되는 이전 인증번호를 새 인증번호로 교체
+        store.saveCode("a@example.com", "111111", 0);
+        store.saveCode("a@example.com", "999999", 180);
+        sleep(10);
+
+        // when
+        store.evictExpired();
+
+        // then - 이전 항목이 만료되어도 새 인증번호는 유지
+        assertThat(store.hasCode("a@example.com")).isTrue();
+        assertThat(meterRegistry.counter("app.auth_code.expired").count()).isZero();
+
+        // when - 재발송이 몰려도 큐가 계속 커지지 않음
+        for (int i = 0; i < 1000; i++) {
+            store.saveCode("b@example.com", String.valueOf(i), 180);
+        }
+
+        // then
+        assertThat(store.queueSize()).isLessThanOrEqualTo(64 + 1);
+        assertThat(store.verifyCode("b@example.com", "999")).isEqualTo(AuthCodeVerifyResult.SUCCESS);
+    }
+
+    @Test
+    @DisplayName("만료된 인증번호는 정리 시 제거")
+    void evictExpired_removesExpiredEntries() {
+        // given
+        store.saveCode("a@example.com", "111111", 0);
+        store.saveCode("b@example.com", "222222", 180);
+
+        // when
+        sleep(10);
+        store.evictExpired();
+
+        // then
+        assertThat(store.verifyCode("a@example.com", "111111")).isEqualTo(AuthCodeVerifyResult.NOT_FOUND);
+        assertThat(store.hasCode("b@example.com")).isTrue();
+        assertThat(meterRegistry.get("app.auth_code.live").gauge().value()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("app.auth_code.expired").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("검증 실패 횟수 초과 시 인증번호 폐기")
+    void verifyCode_tooManyAttempts() {
+        // given
+        store.saveCode("a@example.com", "111111", 180);
+
+        // when
+        AuthCodeVerifyResult first = store.verifyCode("a@example.com", "000000");
+        AuthCodeVerifyResult second = store.verifyCode("a@example.com", "000000");
+        AuthCodeVerifyResult third = store.verifyCode("a@example.com", "000000");
+
+        // then - 올바른 번호로도 더 이상 인증할 수 없음
+        assertThat(first).isEqualTo(AuthCodeVerifyResult.INVALID);
+        assertThat(second).isEqualTo(AuthCodeVerifyResult.INVALID);
+        assertThat(third).isEqualTo(AuthCodeVerifyResult.TOO_MANY_ATTEMPTS);
+        assertThat(store.verifyCode("a@example.com", "111111")).isEqualTo(AuthCodeVerifyResult.NOT_FOUND);
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
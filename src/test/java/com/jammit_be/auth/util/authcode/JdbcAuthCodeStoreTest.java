@@ -0,0 +1,145 @@
+package com.jammit_be.auth.util.authcode;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 DB 를 바라보는 두 개의 저장소 인스턴스로 여러 서버 환경을 흉내냅니다.
+ */
+@DisplayName("JdbcAuthCodeStore 다중 서버 테스트")
+class JdbcAuthCodeStoreTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private JdbcAuthCodeStore node1;
+    private JdbcAuthCodeStore node2;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:auth_code;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+                CREATE TABLE auth_code (
+                  email VARCHAR(100) PRIMARY KEY,
+                  code VARCHAR(10) NOT NULL,
+                  expire_at BIGINT NOT NULL,
+                  attempts INT NOT NULL
+                )
+                """);
+        jdbcTemplate.execute("CREATE INDEX idx_auth_code_expire_at ON auth_code (expire_at)");
+
+        node1 = new JdbcAuthCodeStore(jdbcTemplate, 3, 5000, 100, 2);
+        node2 = new JdbcAuthCodeStore(jdbcTemplate, 3, 5000, 100, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE auth_code");
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 발송한 인증번호도 검증 성공")
+    void verifyCode_onAnotherNode() {
+        // given
+        node1.saveCode("a@example.com", "123456", 180);
+
+        // when & then
+        assertThat(node2.hasCode("a@example.com")).isTrue();
+        assertThat(node2.verifyCode("a@example.com", "123456")).isEqualTo(AuthCodeVerifyResult.SUCCESS);
+        assertThat(node2.hasCode("a@example.com")).isFalse();
+    }
+
+    @Test
+    @DisplayName("동시에 검증해도 한 서버만 성공")
+    void verifyCode_onlyOneNodeSucceedsConcurrently() throws Exception {
+        // given
+        node1.saveCode("a@example.com", "123456", 180);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        List<Future<AuthCodeVerifyResult>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            JdbcAuthCodeStore node = i % 2 == 0 ? node1 : node2;
+            Callable<AuthCodeVerifyResult> task = () -> {
+                start.await();
+                return node.verifyCode("a@example.com", "123456");
+            };
+            futures.add(executor.submit(task));
+        }
+        start.countDown();
+
+        int successCount = 0;
+        for (Future<AuthCodeVerifyResult> future : futures) {
+            if (future.get() == AuthCodeVerifyResult.SUCCESS) {
+                successCount++;
+            }
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(successCount).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("검증 실패 횟수는 서버 간에 공유")
+    void verifyCode_attemptsSharedAcrossNodes() {
+        // given
+        node1.saveCode("a@example.com", "123456", 180);
+
+        // when & then
+        assertThat(node1.verifyCode("a@example.com", "000000")).isEqualTo(AuthCodeVerifyResult.INVALID);
+        assertThat(node2.verifyCode("a@example.com", "000000")).isEqualTo(AuthCodeVerifyResult.INVALID);
+        assertThat(node1.verifyCode("a@example.com", "000000")).isEqualTo(AuthCodeVerifyResult.TOO_MANY_ATTEMPTS);
+        assertThat(node2.verifyCode("a@example.com", "123456")).isEqualTo(AuthCodeVerifyResult.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("재발송 시 이전 인증번호와 실패 횟수 초기화")
+    void saveCode_overwritesPreviousCode() {
+        // given
+        node1.saveCode("a@example.com", "111111", 180);
+        node1.verifyCode("a@example.com", "000000");
+
+        // when
+        node2.saveCode("a@example.com", "222222", 180);
+
+        // then
+        assertThat(node1.verifyCode("a@example.com", "111111")).isEqualTo(AuthCodeVerifyResult.INVALID);
+        assertThat(node1.verifyCode("a@example.com", "222222")).isEqualTo(AuthCodeVerifyResult.SUCCESS);
+    }
+
+    @Test
+    @DisplayName("만료된 인증번호는 배치 단위로 모두 정리")
+    void purgeExpired_deletesInBatches() throws InterruptedException {
+        // given - 배치 크기(2)보다 많은 만료 데이터
+        for (int i = 0; i < 5; i++) {
+            node1.saveCode("expired" + i + "@example.com", "111111", 0);
+        }
+        node1.saveCode("live@example.com", "222222", 180);
+        Thread.sleep(10);
+
+        // when
+        node2.purgeExpired();
+
+        // then
+        Integer remaining = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM auth_code", Integer.class);
+        assertThat(remaining).isEqualTo(1);
+        assertThat(node2.verifyCode("expired0@example.com", "111111")).isEqualTo(AuthCodeVerifyResult.NOT_FOUND);
+        assertThat(node2.hasCode("live@example.com")).isTrue();
+    }
+}
@@ -0,0 +1,126 @@
+package com.jammit_be.auth.util.email;
+
+import com.jammit_be.auth.entity.EmailOutbox;
+import com.jammit_be.auth.entity.EmailOutboxStatus;
+import com.jammit_be.auth.repository.EmailOutboxRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@SpringBootTest
+@DisplayName("비동기 이메일 발송 테스트")
+class AsyncEmailSenderTest {
+
+    private static final FakeSmtpServer smtpServer = FakeSmtpServer.start();
+
+    @DynamicPropertySource
+    static void mailProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.mail.host", () -> "localhost");
+        registry.add("spring.mail.port", smtpServer::getPort);
+        registry.add("spring.mail.username", () -> "");
+        registry.add("spring.mail.password", () -> "");
+        registry.add("spring.mail.properties.mail.smtp.auth", () -> "false");
+        registry.add("spring.mail.properties.mail.smtp.from", () -> "noreply@jammit.com");
+        registry.add("email.async.workers", () -> 1);
+        registry.add("email.async.backoff-ms", () -> 50);
+        registry.add("email.async.poll-interval-ms", () -> 100);
+    }
+
+    @Autowired
+    private AsyncEmailSender asyncEmailSender;
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        smtpServer.reset();
+        emailOutboxRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        emailOutboxRepository.deleteAll();
+    }
+
+    @AfterAll
+    static void stopServer() throws IOException {
+        smtpServer.close();
+    }
+
+    @Test
+    @DisplayName("SMTP 응답을 기다리지 않고 반환하고, 발송 후 보관함에서 삭제")
+    void sendEmail_returnsBeforeDelivery() {
+        // given - 연결에 0.5초가 걸리는 SMTP 서버
+        smtpServer.setGreetingDelayMs(500);
+
+        // when
+        long start = System.nanoTime();
+        asyncEmailSender.sendEmail("user@example.com", "[JAMMIT] 이메일 인증번호 안내", "인증번호: <b>123456</b>");
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        // then
+        assertThat(elapsedMs).isLessThan(500);
+        await().atMost(Duration.ofSeconds(5)).until(() -> smtpServer.getMessages().size() == 1);
+        await().atMost(Duration.ofSeconds(5)).until(() -> emailOutboxRepository.count() == 0);
+        assertThat(smtpServer.getMessages().get(0)).contains("user@example.com");
+    }
+
+    @Test
+    @DisplayName("여러 메일을 하나의 SMTP 연결로 발송")
+    void sendEmail_reusesConnection() {
+        // when
+        for (int i = 0; i < 5; i++) {
+            asyncEmailSender.sendEmail("user" + i + "@example.com", "제목", "본문");
+        }
+
+        // then
+        await().atMost(Duration.ofSeconds(5)).until(() -> smtpServer.getMessages().size() == 5);
+        assertThat(smtpServer.getConnectionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("일시적인 발송 실패는 백오프 후 재시도")
+    void sendEmail_retriesWithBackoff() {
+        // given
+        smtpServer.rejectNext(2);
+        double retriesBefore = meterRegistry.counter("app.email.retry").count();
+
+        // when
+        asyncEmailSender.sendEmail("user@example.com", "제목", "본문");
+
+        // then
+        await().atMost(Duration.ofSeconds(10)).until(() -> smtpServer.getMessages().size() == 1);
+        await().atMost(Duration.ofSeconds(5)).until(() -> emailOutboxRepository.count() == 0);
+        assertThat(meterRegistry.counter("app.email.retry").count() - retriesBefore).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("재시작 전에 남아 있던 보관함 메일도 발송")
+    void pollOutbox_sendsPersistedMessages() {
+        // given - 대기열을 거치지 않고 보관함에만 저장된 메일
+        emailOutboxRepository.save(EmailOutbox.pending("user@example.com", "제목", "본문"));
+
+        // then
+        await().atMost(Duration.ofSeconds(5)).until(() -> smtpServer.getMessages().size() == 1);
+        List<EmailOutbox> remaining = emailOutboxRepository.findAll();
+        assertThat(remaining).noneMatch(outbox -> outbox.getStatus() == EmailOutboxStatus.PENDING);
+    }
+}
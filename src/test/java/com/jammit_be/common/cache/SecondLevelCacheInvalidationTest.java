@@ -0,0 +1,248 @@
+package com.jammit_be.common.cache;
+
+import com.jammit_be.auth.entity.CustomUserDetail;
+import com.jammit_be.common.enums.BandSession;
+import com.jammit_be.common.enums.Genre;
+import com.jammit_be.gathering.dto.request.GatheringSessionRequest;
+import com.jammit_be.gathering.dto.request.GatheringUpdateRequest;
+import com.jammit_be.gathering.dto.response.CreatedGatheringCountProjection;
+import com.jammit_be.gathering.entity.Gathering;
+import com.jammit_be.gathering.entity.GatheringSession;
+import com.jammit_be.gathering.repository.GatheringRepository;
+import com.jammit_be.gathering.service.GatheringService;
+import com.jammit_be.user.dto.request.UpdateUserRequest;
+import com.jammit_be.user.entity.PreferredBandSession;
+import com.jammit_be.user.entity.PreferredGenre;
+import com.jammit_be.user.entity.User;
+import com.jammit_be.user.repository.UserRepository;
+import com.jammit_be.user.service.UserService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 2차 캐시 / 쿼리 캐시가 수정 후 오래된 값을 돌려주지 않는지 확인
+ * 캐시는 트랜잭션이 끝나야 채워지므로 테스트 자체는 트랜잭션 없이 실행하고 데이터는 직접 정리한다.
+ */
+@SpringBootTest(classes = com.jammit_be.JammitBeApplication.class)
+@DisplayName("2차 캐시 무효화 테스트")
+class SecondLevelCacheInvalidationTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private GatheringService gatheringService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GatheringRepository gatheringRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private TransactionTemplate tx;
+    private Statistics statistics;
+    private User owner;
+    private Long gatheringId;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        String suffix = String.valueOf(System.nanoTime());
+        owner = tx.execute(status -> {
+            User user = User.builder()
+                    .email("cache" + suffix + "@test.com")
+                    .password("password123")
+                    .username("cache" + suffix)
+                    .nickname("캐시" + suffix)
+                    .build();
+            user.updatePreferredGenres(List.of(Genre.ROCK));
+            user.updatePreferredBandSessions(List.of(BandSession.DRUM));
+            return userRepository.save(user);
+        });
+        gatheringId = saveGathering(owner).getId();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        tx.executeWithoutResult(status -> {
+            User user = entityManager.find(User.class, owner.getId());
+            entityManager.createQuery("select g from Gathering g where g.createdBy = :user", Gathering.class)
+                    .setParameter("user", user)
+                    .getResultList()
+                    .forEach(gatheringRepository::delete);
+            userRepository.delete(user);
+        });
+    }
+
+    @Test
+    @DisplayName("updateUserInfo 이후 캐시된 유저/선호 장르/선호 세션 대신 바뀐 값을 읽음")
+    void updateUserInfo_evictsUserAndPreferences() {
+        // given - 두 번 읽어 캐시에서 꺼내지는지 확인
+        readUser(User::getUsername);
+        readUser(User::getUsername);
+        assertThat(hits(CacheRegions.USER)).isPositive();
+        readUser(this::genres);
+        readUser(this::genres);
+        assertThat(hits(CacheRegions.USER_PREFERRED_GENRES)).isPositive();
+
+        // when
+        userService.updateUserInfo(owner.getEmail(), UpdateUserRequest.builder()
+                .username("changed" + owner.getId())
+                .preferredGenres(List.of(Genre.JAZZ, Genre.BALLAD))
+                .preferredBandSessions(List.of(BandSession.BASS))
+                .build());
+
+        // then
+        assertThat(readUser(User::getUsername)).isEqualTo("changed" + owner.getId());
+        assertThat(readUser(this::genres)).containsExactlyInAnyOrder(Genre.JAZZ, Genre.BALLAD);
+        assertThat(readUser(user -> user.getUserBandSessions().stream()
+                .map(PreferredBandSession::getName)
+                .collect(Collectors.toSet()))).containsExactly(BandSession.BASS);
+    }
+
+    @Test
+    @DisplayName("updateGathering 이후 캐시된 장르/세션 컬렉션 대신 바뀐 값을 읽음")
+    void updateGathering_evictsCollections() {
+        // given
+        readGathering(gathering -> Set.copyOf(gathering.getGenres()));
+        readGathering(gathering -> Set.copyOf(gathering.getGenres()));
+        readGathering(this::sessions);
+        readGathering(this::sessions);
+        assertThat(hits(CacheRegions.GATHERING_GENRES)).isPositive();
+        assertThat(hits(CacheRegions.GATHERING_SESSIONS)).isPositive();
+
+        // when
+        setSecurityContext(owner);
+        gatheringService.updateGathering(gatheringId, GatheringUpdateRequest.builder()
+                .name("수정된 모임")
+                .thumbnail("thumbnail.jpg")
+                .place("합정 연습실")
+                .description("수정된 소개")
+                .gatheringDateTime(LocalDateTime.now().plusDays(8))
+                .recruitDeadline(LocalDateTime.now().plusDays(4))
+                .genres(Set.of(Genre.JAZZ))
+                .gatheringSessions(List.of(
+                        GatheringSessionRequest.builder().bandSession(BandSession.VOCAL).recruitCount(1).build(),
+                        GatheringSessionRequest.builder().bandSession(BandSession.DRUM).recruitCount(2).build()))
+                .build());
+
+        // then
+        assertThat(readGathering(Gathering::getName)).isEqualTo("수정된 모임");
+        assertThat(readGathering(gathering -> Set.copyOf(gathering.getGenres()))).containsExactly(Genre.JAZZ);
+        assertThat(readGathering(this::sessions)).containsExactlyInAnyOrder(BandSession.VOCAL, BandSession.DRUM);
+    }
+
+    @Test
+    @DisplayName("모임 수 쿼리는 캐시되고, 모임이 추가되면 다시 조회")
+    void countQueries_invalidatedByInsert() {
+        // given
+        assertThat(totalCount()).isEqualTo(1);
+        assertThat(totalCount()).isEqualTo(1);
+        assertThat(statistics.getQueryCacheHitCount()).isPositive();
+
+        // when
+        saveGathering(owner);
+
+        // then
+        CreatedGatheringCountProjection count = tx.execute(status -> gatheringRepository.countCreatedGatherings(owner));
+        assertThat(count.getTotalCount()).isEqualTo(2);
+        assertThat(count.getCompletedCount()).isZero();
+    }
+
+    private long totalCount() {
+        return tx.execute(status -> gatheringRepository.countCreatedGatherings(owner).getTotalCount());
+    }
+
+    private <T> T readUser(Function<User, T> reader) {
+        return tx.execute(status -> reader.apply(entityManager.find(User.class, owner.getId())));
+    }
+
+    private <T> T readGathering(Function<Gathering, T> reader) {
+        return tx.execute(status -> reader.apply(entityManager.find(Gathering.class, gatheringId)));
+    }
+
+    private Set<Genre> genres(User user) {
+        return user.getPreferredGenres().stream()
+                .map(PreferredGenre::getName)
+                .collect(Collectors.toSet());
+    }
+
+    private Set<BandSession> sessions(Gathering gathering) {
+        return gathering.getGatheringSessions().stream()
+                .map(GatheringSession::getName)
+                .collect(Collectors.toSet());
+    }
+
+    private long hits(String region) {
+        return statistics.getDomainDataRegionStatistics(region).getHitCount();
+    }
+
+    private Gathering saveGathering(User createdBy) {
+        return tx.execute(status -> {
+            List<GatheringSession> sessions = new ArrayList<>();
+            sessions.add(GatheringSession.create(BandSession.ACOUSTIC_GUITAR, 2));
+            return gatheringRepository.save(Gathering.create(
+                    "락밴드 합주",
+                    "thumbnail.jpg",
+                    "홍대 연습실",
+                    "함께 합주해요",
+                    LocalDateTime.now().plusDays(7),
+                    LocalDateTime.now().plusDays(3),
+                    Set.of(Genre.ROCK),
+                    sessions,
+                    entityManager.find(User.class, createdBy.getId())
+            ));
+        });
+    }
+
+    private void setSecurityContext(User user) {
+        CustomUserDetail userDetail = new CustomUserDetail(user);
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(
+                        userDetail,
+                        null,
+                        Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
+                );
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(authentication);
+        SecurityContextHolder.setContext(context);
+    }
+}
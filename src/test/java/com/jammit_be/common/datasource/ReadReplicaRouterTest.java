@@ -0,0 +1,136 @@
+package com.jammit_be.common.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("읽기/쓰기 DataSource 라우팅 테스트 (H2 두 개를 primary / replica 로 사용)")
+class ReadReplicaRouterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private JdbcDataSource replica;
+    private ReadReplicaRouter router;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        DataSource primary = database(ReadReplicaRouter.PRIMARY);
+        replica = database(ReadReplicaRouter.REPLICA);
+
+        meterRegistry = new SimpleMeterRegistry();
+        router = new ReadReplicaRouter(primary, replica, 60_000, 60_000, 1, meterRegistry);
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(router.writeDataSource());
+        dataSource.setReadOnlyDataSource(router.readDataSource());
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 replica, 나머지는 primary")
+    void readOnlyTransaction_goesToReplica() {
+        assertThat(readOnly.execute(status -> whichDatabase())).isEqualTo(ReadReplicaRouter.REPLICA);
+        assertThat(readWrite.execute(status -> whichDatabase())).isEqualTo(ReadReplicaRouter.PRIMARY);
+        assertThat(meterRegistry.get("app.db.route").tag("reason", "read_only").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("쓰기를 커밋한 사용자는 잠시 primary 에서 읽고, 다른 사용자는 replica 에서 읽음")
+    void afterWrite_sameUserReadsPrimary() {
+        // given
+        login("writer@jammit.com");
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("update marker set updated = updated + 1"));
+
+        // when
+        String writerRead = readOnly.execute(status -> whichDatabase());
+        login("other@jammit.com");
+        String otherRead = readOnly.execute(status -> whichDatabase());
+
+        // then
+        assertThat(writerRead).isEqualTo(ReadReplicaRouter.PRIMARY);
+        assertThat(otherRead).isEqualTo(ReadReplicaRouter.REPLICA);
+        assertThat(meterRegistry.get("app.db.route").tag("reason", "recent_write").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("롤백된 쓰기 트랜잭션은 read-your-writes 대상이 아님")
+    void rolledBackWrite_isNotTracked() {
+        // given
+        login("writer@jammit.com");
+        readWrite.executeWithoutResult(status -> {
+            jdbcTemplate.update("update marker set updated = updated + 1");
+            status.setRollbackOnly();
+        });
+
+        // when & then
+        assertThat(readOnly.execute(status -> whichDatabase())).isEqualTo(ReadReplicaRouter.REPLICA);
+    }
+
+    @Test
+    @DisplayName("replica 연결이 실패하면 primary 로 읽고, 상태 검사에서 복구되면 다시 replica 사용")
+    void replicaFailure_fallsBackToPrimary() {
+        // given - 닫힌 포트로 바꿔 연결 실패 유도
+        String url = replica.getURL();
+        replica.setURL("jdbc:h2:tcp://localhost:1/missing");
+
+        // when
+        String whileDown = readOnly.execute(status -> whichDatabase());
+        boolean healthyWhileDown = router.isReplicaHealthy();
+        replica.setURL(url);
+        router.checkReplica();
+
+        // then
+        assertThat(whileDown).isEqualTo(ReadReplicaRouter.PRIMARY);
+        assertThat(healthyWhileDown).isFalse();
+        assertThat(meterRegistry.get("app.db.route").tag("reason", "replica_error").counter().count()).isEqualTo(1);
+        assertThat(router.isReplicaHealthy()).isTrue();
+        assertThat(meterRegistry.get("app.db.replica.healthy").gauge().value()).isEqualTo(1);
+        assertThat(readOnly.execute(status -> whichDatabase())).isEqualTo(ReadReplicaRouter.REPLICA);
+    }
+
+    private String whichDatabase() {
+        return jdbcTemplate.queryForObject("select name from marker", String.class);
+    }
+
+    private static void login(String email) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(email, null, List.of()));
+    }
+
+    private static JdbcDataSource database(String name) throws SQLException {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        try (Connection connection = dataSource.getConnection()) {
+            connection.createStatement().execute("create table marker (name varchar(20), updated int)");
+            connection.createStatement().execute("insert into marker values ('" + name + "', 0)");
+        }
+        return dataSource;
+    }
+}
@@ -0,0 +1,115 @@
+package com.jammit_be.common.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 애플리케이션과 같은 구성(HibernateJpaVendorAdapter + JpaTransactionManager, open-in-view 없음)으로
+ * 한 요청 안의 여러 트랜잭션이 각각 라우팅되는지 확인
+ */
+@DisplayName("JPA 트랜잭션 단위 읽기/쓰기 라우팅 테스트")
+class ReadReplicaRoutingJpaTest {
+
+    private JdbcDataSource primary;
+    private JdbcDataSource replica;
+    private LocalContainerEntityManagerFactoryBean factoryBean;
+    private EntityManager entityManager;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        primary = database(ReadReplicaRouter.PRIMARY);
+        replica = database(ReadReplicaRouter.REPLICA);
+
+        ReadReplicaRouter router = new ReadReplicaRouter(primary, replica, 60_000, 60_000, 1, new SimpleMeterRegistry());
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(router.writeDataSource());
+        dataSource.setReadOnlyDataSource(router.readDataSource());
+
+        factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setPackagesToScan(ReadReplicaRoutingJpaTest.class.getPackageName());
+        factoryBean.setJpaPropertyMap(Map.of("hibernate.hbm2ddl.auto", "none"));
+        factoryBean.afterPropertiesSet();
+        EntityManagerFactory entityManagerFactory = factoryBean.getObject();
+
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        factoryBean.destroy();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션 뒤의 쓰기 트랜잭션은 primary 로 감")
+    void readOnlyThenWrite_writeGoesToPrimary() {
+        // when - 한 요청에서 조회 후 수정
+        String read = readOnly.execute(status -> whichDatabase());
+        String written = readWrite.execute(status -> {
+            entityManager.createNativeQuery("update marker set updated = updated + 1").executeUpdate();
+            return whichDatabase();
+        });
+
+        // then
+        assertThat(read).isEqualTo(ReadReplicaRouter.REPLICA);
+        assertThat(written).isEqualTo(ReadReplicaRouter.PRIMARY);
+        assertThat(updated(primary)).isEqualTo(1);
+        assertThat(updated(replica)).isZero();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖의 조회가 이후 읽기 전용 트랜잭션을 primary 에 고정하지 않음")
+    void readOutsideTransaction_doesNotPinRequest() {
+        // when
+        String outside = whichDatabase();
+        String read = readOnly.execute(status -> whichDatabase());
+
+        // then
+        assertThat(outside).isEqualTo(ReadReplicaRouter.PRIMARY);
+        assertThat(read).isEqualTo(ReadReplicaRouter.REPLICA);
+    }
+
+    private String whichDatabase() {
+        return (String) entityManager.createNativeQuery("select name from marker").getSingleResult();
+    }
+
+    private static int updated(JdbcDataSource dataSource) {
+        return new JdbcTemplate(dataSource).queryForObject("select updated from marker", Integer.class);
+    }
+
+    private static JdbcDataSource database(String name) throws SQLException {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        try (Connection connection = dataSource.getConnection()) {
+            connection.createStatement().execute("create table marker (name varchar(20), updated int)");
+            connection.createStatement().execute("insert into marker values ('" + name + "', 0)");
+        }
+        return dataSource;
+    }
+}
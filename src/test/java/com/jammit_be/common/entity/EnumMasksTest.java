@@ -0,0 +1,64 @@
+package com.jammit_be.common.entity;
+
+import com.jammit_be.common.enums.BandSession;
+import com.jammit_be.common.enums.Genre;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("EnumMasks 비트마스크 변환 테스트")
+class EnumMasksTest {
+
+    @Test
+    @DisplayName("비트 위치는 enum 선언 순서")
+    void toMask_usesOrdinal() {
+        assertThat(EnumMasks.toMask(List.of(Genre.ROCK))).isEqualTo(0b1);
+        assertThat(EnumMasks.toMask(List.of(Genre.POP, Genre.RNB))).isEqualTo(0b100_0000_0100);
+        assertThat(EnumMasks.toMask(EnumSet.allOf(Genre.class))).isEqualTo((1 << 11) - 1);
+        assertThat(EnumMasks.toMask(EnumSet.allOf(BandSession.class))).isEqualTo((1 << 8) - 1);
+    }
+
+    @Test
+    @DisplayName("마스크와 EnumSet 은 서로 변환해도 같음")
+    void fromMask_roundTrip() {
+        EnumSet<BandSession> sessions = EnumSet.of(BandSession.VOCAL, BandSession.DRUM, BandSession.KEYBOARD);
+
+        assertThat(EnumMasks.fromMask(BandSession.class, EnumMasks.toMask(sessions))).isEqualTo(sessions);
+        assertThat(new GenreMaskConverter().convertToEntityAttribute(0)).isEmpty();
+        assertThat(new GenreMaskConverter().convertToEntityAttribute(null)).isEmpty();
+        assertThat(new BandSessionMaskConverter().convertToDatabaseColumn(null)).isZero();
+    }
+
+    @Test
+    @DisplayName("이관 스크립트의 FIELD() 목록은 enum 선언 순서와 같음")
+    void backfillScript_matchesEnumOrder() throws IOException {
+        String script = new ClassPathResource("db/enum-mask-backfill.sql").getContentAsString(StandardCharsets.UTF_8);
+        Matcher matcher = Pattern.compile("FIELD\\(\\w+\\.(genre_name|band_session_name), ([^)]*)\\)").matcher(script);
+        List<String> genres = names(Genre.values());
+        List<String> sessions = names(BandSession.values());
+
+        int lists = 0;
+        while (matcher.find()) {
+            List<String> listed = Arrays.stream(matcher.group(2).split(","))
+                    .map(value -> value.trim().replace("'", ""))
+                    .toList();
+            assertThat(listed).isEqualTo(matcher.group(1).equals("genre_name") ? genres : sessions);
+            lists++;
+        }
+        assertThat(lists).isEqualTo(4);
+    }
+
+    private static List<String> names(Enum<?>[] values) {
+        return Arrays.stream(values).map(Enum::name).toList();
+    }
+}
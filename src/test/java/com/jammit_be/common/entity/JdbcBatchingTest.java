@@ -0,0 +1,234 @@
+package com.jammit_be.common.entity;
+
+import com.jammit_be.auth.entity.CustomUserDetail;
+import com.jammit_be.common.enums.BandSession;
+import com.jammit_be.common.enums.GatheringStatus;
+import com.jammit_be.common.enums.Genre;
+import com.jammit_be.common.monitor.RequestContext;
+import com.jammit_be.common.monitor.RequestContextHolder;
+import com.jammit_be.gathering.dto.request.GatheringCreateRequest;
+import com.jammit_be.gathering.dto.request.GatheringSessionRequest;
+import com.jammit_be.gathering.dto.response.GatheringCreateResponse;
+import com.jammit_be.gathering.entity.Gathering;
+import com.jammit_be.gathering.entity.GatheringSession;
+import com.jammit_be.gathering.repository.GatheringRepository;
+import com.jammit_be.gathering.scheduler.GatheringScheduler;
+import com.jammit_be.gathering.service.GatheringService;
+import com.jammit_be.review.entity.Review;
+import com.jammit_be.review.repository.ReviewRepository;
+import com.jammit_be.user.entity.User;
+import com.jammit_be.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테이블 PK 생성 + JDBC 배치로 여러 행 INSERT/UPDATE 가 SQL 한 번(배치 하나)으로 실행되는지 확인
+ * IDENTITY 일 때는 행마다 SQL 을 실행했다 (모임 생성: 모임 1 + 세션 N + 장르 M + 주최자 1).
+ * 작업별로 테이블당 실행된 SQL 수만 확인한다 (지연시간 차이는 DB 왕복 비용에 달려 있어 여기서 측정하지 않음).
+ */
+@SpringBootTest
+@Transactional
+@DisplayName("JDBC 배치 INSERT/UPDATE 테스트")
+class JdbcBatchingTest {
+
+    private static final int ROWS = 10;
+
+    @Autowired
+    private GatheringService gatheringService;
+
+    @Autowired
+    private GatheringScheduler gatheringScheduler;
+
+    @Autowired
+    private GatheringRepository gatheringRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private List<User> users;
+
+    @BeforeEach
+    void setUp() {
+        users = new ArrayList<>();
+        String suffix = String.valueOf(System.nanoTime());
+        for (int i = 0; i <= ROWS; i++) {
+            users.add(User.builder()
+                    .email("batch" + i + "_" + suffix + "@test.com")
+                    .password("password123")
+                    .username("batch" + i + "_" + suffix)
+                    .nickname("배치" + i + "_" + suffix)
+                    .build());
+        }
+        userRepository.saveAll(users);
+        entityManager.flush();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.clear();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("모임 생성 - 세션/장르 수와 관계없이 테이블마다 INSERT 한 번")
+    void createGathering_insertsOncePerTable() {
+        // given
+        setSecurityContext(users.get(0));
+        List<GatheringSessionRequest> sessions = new ArrayList<>();
+        for (BandSession bandSession : BandSession.values()) {
+            sessions.add(GatheringSessionRequest.builder().bandSession(bandSession).recruitCount(2).build());
+        }
+        GatheringCreateRequest request = GatheringCreateRequest.builder()
+                .name("배치 합주")
+                .thumbnail("thumbnail.jpg")
+                .place("홍대 연습실")
+                .description("함께 합주해요")
+                .gatheringDateTime(LocalDateTime.now().plusDays(7))
+                .recruitDateTime(LocalDateTime.now().plusDays(3))
+                .genres(Set.of(Genre.ROCK, Genre.JAZZ, Genre.POP))
+                .gatheringSessions(sessions)
+                .build();
+
+        // when
+        RequestContext ctx = startContext("POST /jammit/gatherings");
+        GatheringCreateResponse response = gatheringService.createGathering(request);
+        entityManager.flush();
+
+        // then - gathering, gathering_session, gathering_genres, gathering_participant
+        Map<String, Integer> inserts = statements(ctx, "insert");
+        assertThat(inserts).hasSize(4);
+        assertThat(inserts.values()).containsOnly(1);
+
+        entityManager.clear();
+        Gathering saved = gatheringRepository.findById(response.getId()).orElseThrow();
+        assertThat(saved.getGatheringSessions()).hasSize(sessions.size());
+        assertThat(saved.getGenres()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("일괄 리뷰 저장 - 리뷰 수와 관계없이 INSERT 한 번")
+    void bulkInsertReviews_insertsOnce() {
+        // given
+        User reviewer = users.get(0);
+        Gathering gathering = saveGathering(reviewer, LocalDateTime.now().minusDays(1));
+        List<Review> reviews = new ArrayList<>();
+        for (User reviewee : users.subList(1, users.size())) {
+            Review review = new Review();
+            review.setReviewer(reviewer);
+            review.setReviewee(reviewee);
+            review.setGathering(gathering);
+            review.setContent("좋은 합주였습니다!");
+            reviews.add(review);
+        }
+
+        // when
+        RequestContext ctx = startContext("POST /jammit/review/bulk");
+        reviewRepository.bulkInsert(reviews);
+
+        // then
+        assertThat(statements(ctx, "insert")).hasSize(1).containsValue(1);
+        assertThat(reviews).allMatch(review -> review.getId() != null && review.getCreatedAt() != null);
+        assertThat(reviewRepository.findAllByGatheringId(gathering.getId())).hasSize(ROWS);
+    }
+
+    @Test
+    @DisplayName("스케줄러 상태 변경 - 모임 수와 관계없이 UPDATE 한 번")
+    void completeGatherings_updatesOnce() {
+        // given - 전날 시작한 확정 모임
+        LocalDateTime yesterday = LocalDateTime.now().minusDays(1).withHour(12).withMinute(0).withSecond(0).withNano(0);
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            Gathering gathering = saveGathering(users.get(i), yesterday);
+            gathering.confirm();
+            ids.add(gathering.getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        RequestContext ctx = RequestContext.forJob("GatheringScheduler.completeGatherings");
+        ctx.enableStatementTracking();
+        RequestContextHolder.initContext(ctx);
+        gatheringScheduler.completeGatherings();
+        entityManager.flush();
+
+        // then
+        assertThat(statements(ctx, "update")).hasSize(1).containsValue(1);
+        entityManager.clear();
+        assertThat(gatheringRepository.findAllById(ids))
+                .allMatch(gathering -> gathering.getStatus() == GatheringStatus.COMPLETED);
+    }
+
+    private Gathering saveGathering(User owner, LocalDateTime gatheringDateTime) {
+        List<GatheringSession> sessions = new ArrayList<>();
+        sessions.add(GatheringSession.create(BandSession.DRUM, 1));
+        Gathering gathering = Gathering.create(
+                "배치 합주",
+                "thumbnail.jpg",
+                "홍대 연습실",
+                "함께 합주해요",
+                gatheringDateTime,
+                gatheringDateTime.minusDays(1),
+                Set.of(Genre.ROCK),
+                sessions,
+                owner
+        );
+        gatheringRepository.save(gathering);
+        entityManager.flush();
+        return gathering;
+    }
+
+    private RequestContext startContext(String endpoint) {
+        String[] parts = endpoint.split(" ");
+        RequestContext ctx = RequestContext.builder().httpMethod(parts[0]).bestMatchPath(parts[1]).build();
+        ctx.enableStatementTracking();
+        RequestContextHolder.initContext(ctx);
+        return ctx;
+    }
+
+    private static Map<String, Integer> statements(RequestContext ctx, String prefix) {
+        return ctx.getStatementCounts().entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith(prefix))
+                .filter(entry -> !entry.getKey().contains(IdGenerators.TABLE)) // PK 블록 할당은 제외
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    private void setSecurityContext(User user) {
+        CustomUserDetail userDetail = new CustomUserDetail(user);
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(
+                        userDetail,
+                        null,
+                        Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
+                );
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(authentication);
+        SecurityContextHolder.setContext(context);
+    }
+}
@@ -0,0 +1,150 @@
+package com.jammit_be.common.monitor;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("N+1 감지 및 SQL 실행 수 상한 테스트")
+class NPlusOneDetectorTest {
+
+    private static final String FIND_USER = "select u1_0.id,u1_0.nickname from users u1_0 where u1_0.id=?";
+
+    private SimpleMeterRegistry meterRegistry;
+    private NPlusOneDetector detector;
+    private StatementBudget statementBudget;
+    private QueryCountInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        detector = new NPlusOneDetector(true, 5, 2, meterRegistry);
+        statementBudget = new StatementBudget();
+        interceptor = new QueryCountInterceptor(meterRegistry, detector, statementBudget);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.clear();
+    }
+
+    @Test
+    @DisplayName("리터럴과 공백만 다른 SQL 은 같은 지문")
+    void fingerprint_normalizesLiteralsAndWhitespace() {
+        assertThat(SqlFingerprint.of("/* findById */ SELECT u1_0.id FROM users u1_0\n WHERE u1_0.id = 42"))
+                .isEqualTo(SqlFingerprint.of("select u1_0.id from users u1_0 where u1_0.id='abc'"))
+                .isEqualTo("select u1_0.id from users u1_0 where u1_0.id=?");
+        assertThat(SqlFingerprint.of("select * from t where id in (1, 2, 3)"))
+                .isEqualTo(SqlFingerprint.of("select * from t where id in (?,?)"));
+        assertThat(SqlFingerprint.cached("SELECT * FROM t WHERE id = 1"))
+                .isEqualTo(SqlFingerprint.cached("SELECT * FROM t WHERE id = 1"))
+                .isEqualTo(SqlFingerprint.of("select * from t where id=?"));
+    }
+
+    @Test
+    @DisplayName("같은 지문이 임계값 이상 반복되면 요청을 표시하고 목록에 기록")
+    void request_withRepeatedStatement_isFlagged() {
+        // when
+        runRequest("GET", "/jammit/reviews/received", 7, FIND_USER);
+
+        // then
+        List<NPlusOneDetector.Hotspot> hotspots = detector.getHotspots();
+        assertThat(hotspots).hasSize(1);
+        assertThat(hotspots.get(0).getEndpoint()).isEqualTo("GET /jammit/reviews/received");
+        assertThat(hotspots.get(0).getFingerprint()).isEqualTo(SqlFingerprint.of(FIND_USER));
+        assertThat(hotspots.get(0).getMaxRepeats()).isEqualTo(7);
+        assertThat(meterRegistry.get("app.query.n_plus_one").tag("path", "/jammit/reviews/received").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("app.query.repeated").counter().count()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("임계값 미만이면 표시하지 않음")
+    void request_belowThreshold_isNotFlagged() {
+        runRequest("GET", "/jammit/gatherings/{id}", 4, FIND_USER);
+
+        assertThat(detector.getHotspots()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("보관 목록이 가득 차면 발생 횟수가 가장 적은 항목을 밀어냄")
+    void hotspots_areBoundedToTopN() {
+        // given
+        runRequest("GET", "/a", 5, FIND_USER);
+        runRequest("GET", "/a", 5, FIND_USER);
+        runRequest("GET", "/b", 5, FIND_USER);
+
+        // when
+        runRequest("GET", "/c", 5, FIND_USER);
+
+        // then
+        assertThat(detector.getHotspots())
+                .extracting(NPlusOneDetector.Hotspot::getEndpoint)
+                .containsExactly("GET /a", "GET /c");
+        assertThat(detector.getHotspots().get(0).getOccurrences()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("테스트 모드에서 endpoint 상한을 넘기면 위반이 기록되고 verify 에서 실패")
+    void statementBudget_failOnExceed() {
+        // given
+        statementBudget.setEnabled(true);
+        statementBudget.setFailOnExceed(true);
+        statementBudget.setLimits(Map.of("GET /jammit/gatherings", 3));
+
+        // when - 응답은 이미 나간 뒤라 요청 자체는 실패시키지 않음
+        runRequest("GET", "/jammit/gatherings", 4, FIND_USER);
+        runRequest("GET", "/jammit/gatherings", 3, FIND_USER); // 상한 이내
+        runRequest("GET", "/jammit/other", 20, FIND_USER);     // 상한 미설정
+
+        // then
+        assertThatThrownBy(statementBudget::verify)
+                .isInstanceOf(StatementBudget.StatementBudgetExceededException.class)
+                .hasMessageContaining("GET /jammit/gatherings");
+        assertThat(statementBudget.drainViolations()).isEmpty();
+        statementBudget.verify();
+    }
+
+    @Test
+    @DisplayName("꺼내 가지 않은 위반 내역은 최근 것만 보관")
+    void statementBudget_keepsRecentViolations() {
+        // given
+        statementBudget.setEnabled(true);
+        statementBudget.setFailOnExceed(true);
+        statementBudget.setLimits(Map.of("GET /jammit/gatherings", 0));
+
+        // when
+        for (int i = 0; i < StatementBudget.MAX_VIOLATIONS + 10; i++) {
+            runRequest("GET", "/jammit/gatherings", 1, FIND_USER);
+        }
+
+        // then
+        assertThat(statementBudget.drainViolations()).hasSize(StatementBudget.MAX_VIOLATIONS);
+    }
+
+    private void runRequest(String method, String pattern, int repeats, String sql) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, pattern);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request, response, null);
+        try {
+            RequestContext ctx = RequestContextHolder.getContext();
+            for (int i = 0; i < repeats; i++) {
+                ctx.incrementQueryCount(sql.replace("?", String.valueOf(i)));
+            }
+        } finally {
+            interceptor.afterCompletion(request, response, null, null);
+        }
+    }
+}
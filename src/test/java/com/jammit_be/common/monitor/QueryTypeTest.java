@@ -0,0 +1,51 @@
+package com.jammit_be.common.monitor;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("QueryType 판별 테스트")
+class QueryTypeTest {
+
+    @Test
+    @DisplayName("대소문자와 앞쪽 공백에 관계없이 판별")
+    void from_ignoresCaseAndLeadingWhitespace() {
+        assertThat(QueryType.from("select * from users")).isEqualTo(QueryType.SELECT);
+        assertThat(QueryType.from("\n\t  INSERT INTO users")).isEqualTo(QueryType.INSERT);
+        assertThat(QueryType.from("Update users set")).isEqualTo(QueryType.UPDATE);
+        assertThat(QueryType.from("delete from users")).isEqualTo(QueryType.DELETE);
+    }
+
+    @Test
+    @DisplayName("앞쪽 주석과 괄호는 건너뜀")
+    void from_skipsCommentsAndParentheses() {
+        assertThat(QueryType.from("/* UserRepository.findById */ select u1_0.id from users u1_0")).isEqualTo(QueryType.SELECT);
+        assertThat(QueryType.from("-- batch\ninsert into review values (?)")).isEqualTo(QueryType.INSERT);
+        assertThat(QueryType.from("(select 1) union (select 2)")).isEqualTo(QueryType.SELECT);
+    }
+
+    @Test
+    @DisplayName("키워드로 시작하지 않거나 비어 있으면 UNKNOWN")
+    void from_unknown() {
+        assertThat(QueryType.from(null)).isEqualTo(QueryType.UNKNOWN);
+        assertThat(QueryType.from("   ")).isEqualTo(QueryType.UNKNOWN);
+        assertThat(QueryType.from("selected_at")).isEqualTo(QueryType.UNKNOWN);
+        assertThat(QueryType.from("with recent as (select 1) select * from recent")).isEqualTo(QueryType.UNKNOWN);
+        assertThat(QueryType.from("/* unterminated comment")).isEqualTo(QueryType.UNKNOWN);
+    }
+
+    @Test
+    @DisplayName("RequestContext 는 종류별로 누적")
+    void requestContext_countsByType() {
+        RequestContext context = RequestContext.builder().httpMethod("GET").bestMatchPath("/jammit/gatherings").build();
+
+        context.incrementQueryCount("select 1");
+        context.incrementQueryCount("select 2");
+        context.incrementQueryCount("update t set a = 1");
+
+        assertThat(context.getQueryCount(QueryType.SELECT)).isEqualTo(2);
+        assertThat(context.getQueryCount(QueryType.UPDATE)).isEqualTo(1);
+        assertThat(context.getQueryCount(QueryType.DELETE)).isZero();
+    }
+}
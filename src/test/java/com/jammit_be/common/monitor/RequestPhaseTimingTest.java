@@ -0,0 +1,114 @@
+package com.jammit_be.common.monitor;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("요청 구간별 시간 측정 테스트")
+class RequestPhaseTimingTest {
+
+    private static final String PATH = "/jammit/gatherings";
+
+    private SimpleMeterRegistry meterRegistry;
+    private QueryCountInterceptor interceptor;
+    private RequestTimingAdvice advice;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor = new QueryCountInterceptor(meterRegistry, new NPlusOneDetector(false, 10, 10, meterRegistry), new StatementBudget());
+        advice = new RequestTimingAdvice(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.clear();
+    }
+
+    @Test
+    @DisplayName("필터, 컨트롤러, DB, 매핑, 본문 쓰기 구간을 route 별 Timer 로 기록하고 Server-Timing 헤더를 추가")
+    void request_recordsPhases() throws IOException {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", PATH);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, PATH);
+        request.setAttribute(RequestTimingFilter.START_ATTR, System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(3));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        interceptor.preHandle(request, response, new Object());
+        RequestContext ctx = RequestContextHolder.getContext();
+        ctx.addDbTime(TimeUnit.MILLISECONDS.toNanos(2));
+        String mapped = RequestPhase.MAPPING.measure(() -> {
+            LockSupport.parkNanos(100_000);
+            return "dto";
+        });
+        ServletServerHttpResponse outputMessage = new ServletServerHttpResponse(response);
+        advice.beforeBodyWrite(mapped, null, MediaType.APPLICATION_JSON, null,
+                new ServletServerHttpRequest(request), outputMessage);
+        outputMessage.flush(); // 메시지 컨버터가 본문을 쓰면서 헤더 전송
+        LockSupport.parkNanos(100_000);
+        interceptor.postHandle(request, response, new Object(), null);
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        // then
+        for (RequestPhase phase : RequestPhase.TYPES) {
+            assertThat(meterRegistry.get("app.request.phase")
+                    .tag("path", PATH)
+                    .tag("http_method", "GET")
+                    .tag("phase", phase.getTag())
+                    .timer().count()).as(phase.name()).isEqualTo(1);
+        }
+        assertThat(meterRegistry.get("app.request.phase").tag("phase", "filter").timer().totalTime(TimeUnit.MILLISECONDS))
+                .isGreaterThanOrEqualTo(3);
+        assertThat(response.getHeader(RequestTimingAdvice.SERVER_TIMING_HEADER))
+                .startsWith("filter;dur=")
+                .contains("db;dur=2.000")
+                .contains("handler;dur=", "mapping;dur=")
+                .doesNotContain("response_write");
+    }
+
+    @Test
+    @DisplayName("본문이 없는 요청은 컨트롤러 구간을 요청 종료 시 마감")
+    void requestWithoutBody_closesHandlerPhase() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("DELETE", PATH);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, PATH);
+
+        // when
+        interceptor.preHandle(request, new MockHttpServletResponse(), new Object());
+        LockSupport.parkNanos(100_000);
+        interceptor.afterCompletion(request, new MockHttpServletResponse(), new Object(), null);
+
+        // then
+        assertThat(meterRegistry.get("app.request.phase").tag("phase", "handler").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("app.request.phase").tag("phase", "response_write").timer()).isNull();
+        assertThat(meterRegistry.find("app.request.phase").tag("phase", "filter").timer()).isNull();
+    }
+
+    @Test
+    @DisplayName("Server-Timing 은 밀리초 소수점 3자리")
+    void serverTiming_format() {
+        // given
+        RequestContext ctx = RequestContext.builder().httpMethod("GET").bestMatchPath(PATH).build();
+        ctx.addPhaseTime(RequestPhase.FILTER, 1_234_567);
+        ctx.addPhaseTime(RequestPhase.MAPPING, 45_000);
+
+        // when & then
+        assertThat(RequestTimingAdvice.serverTiming(ctx))
+                .isEqualTo("filter;dur=1.234, handler;dur=0.000, db;dur=0.000, mapping;dur=0.045");
+    }
+}
@@ -0,0 +1,42 @@
+package com.jammit_be.common.monitor;
+
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.support.AbstractTestExecutionListener;
+
+/**
+ * monitor.statement-budget.fail-on-exceed 가 켜진 테스트에서, 테스트 동안 SQL 실행 수 상한을 넘긴 요청이 있으면 테스트를 실패시킨다.
+ * 상한은 요청이 끝난 뒤 확인하므로(응답은 이미 나감) MockMvc 응답 상태가 아니라 여기서 확인한다.
+ * META-INF/spring.factories 로 모든 Spring 테스트에 등록된다.
+ */
+public class StatementBudgetTestExecutionListener extends AbstractTestExecutionListener {
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE;
+    }
+
+    @Override
+    public void beforeTestMethod(TestContext testContext) {
+        // 컨텍스트 시작이나 이전 테스트에서 남은 내역은 이 테스트의 위반이 아님
+        StatementBudget budget = statementBudget(testContext);
+        if (budget != null) {
+            budget.drainViolations();
+        }
+    }
+
+    @Override
+    public void afterTestMethod(TestContext testContext) {
+        StatementBudget budget = statementBudget(testContext);
+        if (budget != null) {
+            budget.verify();
+        }
+    }
+
+    private static StatementBudget statementBudget(TestContext testContext) {
+        if (!testContext.hasApplicationContext()) {
+            return null;
+        }
+        StatementBudget budget = testContext.getApplicationContext().getBeanProvider(StatementBudget.class).getIfAvailable();
+        return budget != null && budget.isEnabled() && budget.isFailOnExceed() ? budget : null;
+    }
+}
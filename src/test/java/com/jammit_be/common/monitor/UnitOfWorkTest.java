@@ -0,0 +1,133 @@
+package com.jammit_be.common.monitor;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.support.ScheduledTaskObservationContext;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HTTP 요청 밖 작업 단위 SQL 집계 테스트")
+class UnitOfWorkTest {
+
+    private static final String FIND_GATHERING = "select g1_0.id from gathering g1_0 where g1_0.id=?";
+
+    private SimpleMeterRegistry meterRegistry;
+    private UnitOfWork unitOfWork;
+    private UnitOfWorkTaskDecorator taskDecorator;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        unitOfWork = new UnitOfWork(meterRegistry, new NPlusOneDetector(true, 3, 10, meterRegistry));
+        taskDecorator = new UnitOfWorkTaskDecorator(unitOfWork);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.clear();
+    }
+
+    @Test
+    @DisplayName("작업 단위 안의 SQL 은 job 태그로 기록되고 끝나면 컨텍스트를 해제")
+    void run_recordsJobMetrics() {
+        // when
+        unitOfWork.run("GatheringScheduler.cancelIncompleteGatherings", () -> {
+            RequestContext ctx = RequestContextHolder.getContext();
+            assertThat(ctx.getJob()).isEqualTo("GatheringScheduler.cancelIncompleteGatherings");
+            for (int i = 0; i < 4; i++) {
+                ctx.incrementQueryCount(FIND_GATHERING);
+                ctx.addDbTime(1_000_000);
+            }
+            ctx.incrementQueryCount("update gathering set status=? where id=?");
+        });
+
+        // then
+        assertThat(RequestContextHolder.getContext()).isNull();
+        assertThat(meterRegistry.get("app.query.per_job")
+                .tag("job", "GatheringScheduler.cancelIncompleteGatherings")
+                .tag("query_type", "SELECT")
+                .summary().totalAmount()).isEqualTo(4);
+        assertThat(meterRegistry.get("app.query.per_job").tag("query_type", "UPDATE").summary().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("app.db.job_time").timer().totalTime(TimeUnit.MILLISECONDS)).isEqualTo(4);
+        assertThat(meterRegistry.get("app.query.n_plus_one").tag("http_method", RequestContext.JOB_METHOD)
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이미 컨텍스트가 있는 스레드에서는 바깥 컨텍스트에 집계")
+    void run_insideRequest_usesOuterContext() {
+        // given
+        RequestContext request = RequestContext.builder().httpMethod("GET").bestMatchPath("/jammit/gatherings").build();
+        RequestContextHolder.initContext(request);
+
+        // when
+        unitOfWork.run("nested", () -> RequestContextHolder.getContext().incrementQueryCount(FIND_GATHERING));
+
+        // then
+        assertThat(RequestContextHolder.getContext()).isSameAs(request);
+        assertThat(request.getQueryCount(QueryType.SELECT)).isEqualTo(1);
+        assertThat(meterRegistry.find("app.query.per_job").summary()).isNull();
+    }
+
+    @Test
+    @DisplayName("TaskDecorator 는 제출한 쪽 작업 이름을 다른 스레드로 전달")
+    void taskDecorator_propagatesJobName() throws Exception {
+        // given
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        AtomicReference<String> fromRequest = new AtomicReference<>();
+        AtomicReference<String> fromJob = new AtomicReference<>();
+
+        try {
+            // when
+            RequestContextHolder.initContext(RequestContext.builder().httpMethod("POST").bestMatchPath("/jammit/gatherings").build());
+            Runnable requestTask = taskDecorator.decorate(() -> fromRequest.set(RequestContextHolder.getContext().getJob()));
+            RequestContextHolder.clear();
+
+            Runnable jobTask = unitOfWork.call("StoredImageCollector.collect",
+                    () -> taskDecorator.decorate(() -> fromJob.set(RequestContextHolder.getContext().getJob())));
+
+            executor.submit(requestTask).get();
+            executor.submit(jobTask).get();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        assertThat(fromRequest.get()).isEqualTo("async:POST /jammit/gatherings");
+        assertThat(fromJob.get()).isEqualTo("StoredImageCollector.collect");
+    }
+
+    @Test
+    @DisplayName("TaskDecorator 가 먼저 연 async 컨텍스트 안에서도 스케줄 작업은 작업 이름으로 집계")
+    void scheduledJob_insideDecoratedTask_recordsJobName() throws Exception {
+        // given
+        ScheduledJobObservationHandler handler = new ScheduledJobObservationHandler(unitOfWork);
+        ScheduledTaskObservationContext context = new ScheduledTaskObservationContext(
+                new Object(), Object.class.getMethod("toString"));
+        AtomicReference<RequestContext> outer = new AtomicReference<>();
+
+        // when
+        taskDecorator.decorate(() -> {
+            outer.set(RequestContextHolder.getContext());
+            handler.onStart(context);
+            RequestContextHolder.getContext().incrementQueryCount(FIND_GATHERING);
+            handler.onStop(context);
+            assertThat(RequestContextHolder.getContext()).isSameAs(outer.get());
+        }).run();
+
+        // then
+        assertThat(outer.get().getJob()).isEqualTo(UnitOfWorkTaskDecorator.ASYNC_JOB);
+        assertThat(outer.get().getQueryCount(QueryType.SELECT)).isZero();
+        assertThat(meterRegistry.get("app.query.per_job").tag("job", "Object.toString")
+                .summary().totalAmount()).isEqualTo(1);
+        assertThat(RequestContextHolder.getContext()).isNull();
+    }
+}
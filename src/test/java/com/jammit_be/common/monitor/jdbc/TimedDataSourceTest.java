@@ -0,0 +1,163 @@
+package com.jammit_be.common.monitor.jdbc;
+
+import com.jammit_be.common.monitor.RequestContext;
+import com.jammit_be.common.monitor.RequestContextHolder;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SQL 실행 시간 측정 DataSource 테스트")
+class TimedDataSourceTest {
+
+    private static final String SELECT_BY_ID = "select id, name from member where id > ?";
+
+    private SimpleMeterRegistry meterRegistry;
+    private TimedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        try (Connection connection = h2.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("create table member (id bigint primary key, name varchar(20))");
+            statement.executeUpdate("insert into member values (1, 'a'), (2, 'b'), (3, 'c')");
+        }
+
+        // 임계값 0ms: 모든 SQL 을 느린 SQL 로 처리, 지문 meter 는 2개까지
+        meterRegistry = new SimpleMeterRegistry();
+        SqlTimingRecorder recorder = new SqlTimingRecorder(0, 1.0, 2, meterRegistry);
+        dataSource = new TimedDataSource(h2, () -> recorder);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.clear();
+    }
+
+    @Test
+    @DisplayName("조회 SQL 은 결과를 닫을 때 실행 + fetch 시간과 행 수를 기록")
+    void query_recordsExecuteAndFetch() throws SQLException {
+        // given
+        RequestContext ctx = RequestContext.builder().httpMethod("GET").bestMatchPath("/jammit/members").build();
+        RequestContextHolder.initContext(ctx);
+
+        // when
+        int rows = 0;
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(SELECT_BY_ID)) {
+            statement.setLong(1, 1);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    rows++;
+                }
+            }
+            assertThat(statement.getConnection()).isSameAs(connection);
+        }
+
+        // then
+        assertThat(rows).isEqualTo(2);
+        Timer timer = meterRegistry.get("app.db.statement").tag("query_type", "SELECT").timer();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(ctx.getDbStatementCount()).isEqualTo(1);
+        assertThat(ctx.getDbNanos()).isPositive();
+        assertThat(meterRegistry.get("app.db.slow_queries").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 형태의 SQL 은 하나의 지문 meter 에 모임")
+    void sameFingerprint_sharesTimer() throws SQLException {
+        // when
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.executeQuery("select name from member where id = 1").close();
+            statement.executeQuery("select name from member where id = 2").close();
+        }
+
+        // then
+        assertThat(meterRegistry.get("app.db.statement").timers()).hasSize(1);
+        assertThat(meterRegistry.get("app.db.statement").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("요청 밖(스케줄러 등) SQL 은 BACKGROUND 로 기록")
+    void withoutRequest_recordsBackgroundTime() throws SQLException {
+        // when
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("update member set name = ? where id < ?")) {
+            statement.setString(1, "z");
+            statement.setLong(2, 3);
+            assertThat(statement.executeUpdate()).isEqualTo(2);
+        }
+
+        // then
+        Timer background = meterRegistry.get("app.db.time").tag("path", SqlTimingRecorder.BACKGROUND_PATH).timer();
+        assertThat(background.count()).isEqualTo(1);
+        assertThat(meterRegistry.get("app.db.statement").tag("query_type", "UPDATE").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("execute() 결과를 getResultSet 으로 꺼낸 경우와 닫지 않은 결과도 기록")
+    void executeAndUnclosedResultSet_areRecorded() throws SQLException {
+        // when
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(SELECT_BY_ID)) {
+            statement.setLong(1, 0);
+            assertThat(statement.execute()).isTrue();
+            ResultSet resultSet = statement.getResultSet();
+            assertThat(resultSet.next()).isTrue();
+        }
+
+        // then
+        assertThat(meterRegistry.get("app.db.statement").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패한 SQL 도 기록하고 원래 예외를 그대로 던짐")
+    void failedStatement_rethrowsOriginalException() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            assertThatThrownBy(() -> statement.executeQuery("select * from missing_table"))
+                    .isInstanceOf(SQLException.class);
+        }
+        assertThat(meterRegistry.get("app.db.statement").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("지문 수가 상한을 넘으면 other 로 묶음")
+    void fingerprintOverflow_usesOther() throws SQLException {
+        // when - 상한 2개
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.executeQuery("select id from member").close();
+            statement.executeQuery("select name from member").close();
+            statement.executeQuery("select id, name from member").close();
+        }
+
+        // then
+        assertThat(meterRegistry.get("app.db.statement").tag("sql_id", "other").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("원본 DataSource 로 unwrap 가능")
+    void unwrap_returnsTarget() throws SQLException {
+        assertThat(dataSource.unwrap(JdbcDataSource.class)).isNotNull();
+        try (Connection connection = dataSource.getConnection()) {
+            assertThat(connection.isWrapperFor(org.h2.jdbc.JdbcConnection.class)).isTrue();
+        }
+    }
+}
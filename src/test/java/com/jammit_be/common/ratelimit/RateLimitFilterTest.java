@@ -0,0 +1,208 @@
+package com.jammit_be.common.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jammit_be.common.ratelimit.RateLimitPolicy.KeyType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RateLimitFilter 단위 테스트")
+class RateLimitFilterTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private SimpleMeterRegistry meterRegistry;
+    private TokenBucketRateLimiter rateLimiter;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimiter = new TokenBucketRateLimiter(4, 60_000, now::get);
+        // 로그인: IP 3회, 계정 2회 (분당 60개 = 초당 1개 충전) / 모임 목록: IP 2회
+        RateLimitPolicies policies = new RateLimitPolicies(true,
+                3, 60, 2, 60,
+                10, 10, 3, 1,
+                2, 60);
+        filter = new RateLimitFilter(rateLimiter, policies, new ObjectMapper(), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("버킷 용량을 넘으면 429 와 Retry-After 반환")
+    void rejectsWhenBucketEmpty() throws Exception {
+        // when
+        int first = get("/jammit/gatherings", "1.1.1.1").getStatus();
+        int second = get("/jammit/gatherings", "1.1.1.1").getStatus();
+        MockHttpServletResponse third = get("/jammit/gatherings", "1.1.1.1");
+
+        // then
+        assertThat(first).isEqualTo(200);
+        assertThat(second).isEqualTo(200);
+        assertThat(third.getStatus()).isEqualTo(429);
+        assertThat(Integer.parseInt(third.getHeader("Retry-After"))).isBetween(1, 2);
+        assertThat(third.getContentAsString(StandardCharsets.UTF_8)).contains("\"code\":429");
+        assertThat(meterRegistry.counter("app.rate_limit.throttled", "route", "gatherings", "key", "ip").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 토큰이 다시 채워짐")
+    void refillsOverTime() throws Exception {
+        // given
+        get("/jammit/gatherings", "1.1.1.1");
+        get("/jammit/gatherings", "1.1.1.1");
+        assertThat(get("/jammit/gatherings", "1.1.1.1").getStatus()).isEqualTo(429);
+
+        // when
+        now.addAndGet(1_000_000_000L);
+
+        // then
+        assertThat(get("/jammit/gatherings", "1.1.1.1").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("IP 별로 버킷이 분리됨")
+    void bucketsArePerIp() throws Exception {
+        // given
+        get("/jammit/gatherings", "1.1.1.1");
+        get("/jammit/gatherings", "1.1.1.1");
+
+        // when & then
+        assertThat(get("/jammit/gatherings", "1.1.1.1").getStatus()).isEqualTo(429);
+        assertThat(get("/jammit/gatherings", "2.2.2.2").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("로그인은 IP 가 달라도 같은 계정이면 제한하고, 본문은 컨트롤러에서 다시 읽을 수 있음")
+    void loginLimitedByLoginId() throws Exception {
+        // given
+        String body = "{\"email\":\"Test@Example.com\",\"password\":\"1234\"}";
+
+        // when
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        filter.doFilter(post("/jammit/auth/login", "1.1.1.1", body), first, chain);
+        int second = post("/jammit/auth/login", "2.2.2.2", body, new MockHttpServletResponse()).getStatus();
+        int third = post("/jammit/auth/login", "3.3.3.3", body, new MockHttpServletResponse()).getStatus();
+
+        // then
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(new String(chain.getRequest().getInputStream().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(body);
+        assertThat(second).isEqualTo(200);
+        assertThat(third).isEqualTo(429);
+        assertThat(meterRegistry.counter("app.rate_limit.throttled", "route", "login", "key", "login_id").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Content-Length 없는(chunked) 로그인 요청도 계정별로 제한")
+    void loginLimitedWithoutContentLength() throws Exception {
+        // given
+        String body = "{\"email\":\"test@example.com\",\"password\":\"1234\"}";
+
+        // when
+        int[] statuses = new int[3];
+        for (int i = 0; i < statuses.length; i++) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(chunked(post("/jammit/auth/login", (i + 1) + ".1.1.1", body)), response, new MockFilterChain());
+            statuses[i] = response.getStatus();
+        }
+
+        // then
+        assertThat(statuses).containsExactly(200, 200, 429);
+    }
+
+    @Test
+    @DisplayName("로그인 본문이 최대 크기를 넘으면 Content-Length 와 관계없이 413")
+    void rejectsOversizedLoginBody() throws Exception {
+        // given
+        String body = "{\"email\":\"test@example.com\",\"password\":\"" + "x".repeat(5000) + "\"}";
+
+        // when
+        MockHttpServletResponse withLength = new MockHttpServletResponse();
+        filter.doFilter(post("/jammit/auth/login", "1.1.1.1", body), withLength, new MockFilterChain());
+        MockHttpServletResponse withoutLength = new MockHttpServletResponse();
+        filter.doFilter(chunked(post("/jammit/auth/login", "1.1.1.1", body)), withoutLength, new MockFilterChain());
+
+        // then
+        assertThat(withLength.getStatus()).isEqualTo(413);
+        assertThat(withoutLength.getStatus()).isEqualTo(413);
+    }
+
+    @Test
+    @DisplayName("제한 대상이 아닌 경로는 통과")
+    void ignoresOtherRoutes() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            assertThat(get("/jammit/gatherings/1", "1.1.1.1").getStatus()).isEqualTo(200);
+        }
+        assertThat(rateLimiter.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("오래 사용하지 않은 키는 제거")
+    void evictsIdleKeys() throws Exception {
+        // given
+        get("/jammit/gatherings", "1.1.1.1");
+        get("/jammit/gatherings", "2.2.2.2");
+        now.addAndGet(30_000_000_000L);
+        get("/jammit/gatherings", "2.2.2.2");
+
+        // when
+        now.addAndGet(40_000_000_000L);
+        rateLimiter.evictIdle();
+
+        // then
+        assertThat(rateLimiter.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("토큰 버킷 정책의 이름은 경로와 키 종류로 구성")
+    void policyName() {
+        RateLimitPolicy policy = new RateLimitPolicy("login", "POST", "/jammit/auth/login", KeyType.LOGIN_ID, 5, 5);
+        assertThat(policy.getName()).isEqualTo("login:login_id");
+    }
+
+    private MockHttpServletResponse get(String path, String ip) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setRemoteAddr(ip);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private MockHttpServletRequest post(String path, String ip, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.setRemoteAddr(ip);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    // Transfer-Encoding: chunked 처럼 Content-Length 를 알 수 없는 요청
+    private static HttpServletRequest chunked(HttpServletRequest request) {
+        return new HttpServletRequestWrapper(request) {
+            @Override
+            public int getContentLength() {
+                return -1;
+            }
+
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+    }
+
+    private MockHttpServletResponse post(String path, String ip, String body, MockHttpServletResponse response) throws Exception {
+        filter.doFilter(post(path, ip, body), response, new MockFilterChain());
+        return response;
+    }
+}
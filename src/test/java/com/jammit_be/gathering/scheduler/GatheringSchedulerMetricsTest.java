@@ -0,0 +1,43 @@
+package com.jammit_be.gathering.scheduler;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 실제 스케줄러 스레드에서 실행된 @Scheduled 메서드의 SQL 이 작업 이름으로 집계되는지 확인
+ * cancelIncompleteGatherings 는 initialDelay = 0 이라 컨텍스트가 뜨자마자 한 번 실행된다.
+ */
+@SpringBootTest(classes = com.jammit_be.JammitBeApplication.class)
+@DisplayName("스케줄 작업 SQL 집계 통합 테스트")
+class GatheringSchedulerMetricsTest {
+
+    private static final String JOB = "GatheringScheduler.cancelIncompleteGatherings";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("스케줄 작업의 조회 쿼리가 app.query.per_job{job=클래스명.메서드명} 에 기록")
+    void scheduledJob_recordsPerJobQueries() {
+        // when
+        DistributionSummary selects = await().atMost(Duration.ofSeconds(30))
+                .until(() -> meterRegistry.find("app.query.per_job")
+                        .tag("job", JOB)
+                        .tag("query_type", "SELECT")
+                        .summary(), summary -> summary != null && summary.count() > 0);
+
+        // then
+        // 모집 마감 모임 조회는 실행마다 최소 한 번
+        assertThat(selects.totalAmount()).isGreaterThanOrEqualTo(selects.count());
+        assertThat(meterRegistry.find("app.db.job_time").tag("job", JOB).timer()).isNotNull();
+    }
+}
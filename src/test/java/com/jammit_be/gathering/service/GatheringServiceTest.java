@@ -4,6 +4,10 @@ import com.jammit_be.auth.entity.CustomUserDetail;
 import com.jammit_be.common.enums.BandSession;
 import com.jammit_be.common.enums.Genre;
 import com.jammit_be.common.enums.GatheringStatus;
+import com.jammit_be.common.exception.AlertException;
+import com.jammit_be.common.monitor.RequestContext;
+import com.jammit_be.common.monitor.RequestContextHolder;
+import com.jammit_be.gathering.dto.GatheringSummary;
 import com.jammit_be.gathering.dto.request.GatheringCreateRequest;
 import com.jammit_be.gathering.dto.request.GatheringSessionRequest;
 import com.jammit_be.gathering.dto.request.GatheringUpdateRequest;
@@ -19,6 +23,8 @@ import com.jammit_be.gathering.repository.GatheringRepository;
 import com.jammit_be.user.entity.OauthPlatform;
 import com.jammit_be.user.entity.User;
 import com.jammit_be.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -34,8 +40,10 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -57,6 +65,9 @@ class GatheringServiceTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private User testUser;
     private User otherUser;
     private Gathering testGathering;
@@ -105,6 +116,11 @@ class GatheringServiceTest {
         gatheringRepository.save(testGathering);
     }
 
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.clear();
+    }
+
     private void setAuthenticatedUser(User user) {
         SecurityContext context = SecurityContextHolder.createEmptyContext();
         CustomUserDetail userDetail = new CustomUserDetail(user);
@@ -199,6 +215,42 @@ class GatheringServiceTest {
         );
     }
 
+    @Test
+    @DisplayName("모임 목록 조회 - 장르/세션 비트마스크 필터, 세션 필터와 관계없이 모든 세션 조회")
+    void findGatherings_withMaskFilters() {
+        // given - 팝/드럼 모임 추가
+        Gathering popGathering = Gathering.create(
+                "팝 모임",
+                "thumbnail.jpg",
+                "서울시 마포구",
+                "팝 모임입니다",
+                LocalDateTime.now().plusDays(7),
+                LocalDateTime.now().plusDays(5),
+                Set.of(Genre.POP),
+                List.of(GatheringSession.create(BandSession.DRUM, 1)),
+                otherUser
+        );
+        gatheringRepository.save(popGathering);
+        Pageable pageable = PageRequest.of(0, 100);
+
+        // when
+        GatheringListResponse byGenre = gatheringService.findGatherings(List.of(Genre.JAZZ, Genre.METAL), null, pageable);
+        GatheringListResponse bySession = gatheringService.findGatherings(null, List.of(BandSession.ELECTRIC_GUITAR), pageable);
+        GatheringListResponse byDrum = gatheringService.findGatherings(List.of(Genre.POP), List.of(BandSession.DRUM), pageable);
+
+        // then
+        assertThat(byGenre.getGatherings()).extracting(GatheringSummary::getId)
+                .contains(testGathering.getId())
+                .doesNotContain(popGathering.getId());
+        assertThat(bySession.getGatherings())
+                .filteredOn(summary -> summary.getId().equals(testGathering.getId()))
+                .singleElement()
+                .satisfies(summary -> assertThat(summary.getSessions()).hasSize(2));
+        assertThat(byDrum.getGatherings()).extracting(GatheringSummary::getId)
+                .contains(popGathering.getId())
+                .doesNotContain(testGathering.getId());
+    }
+
     @Test
     @DisplayName("모임 상세 조회 성공")
     void getGatheringDetail_success() {
@@ -260,6 +312,158 @@ class GatheringServiceTest {
         assertThat(response.getSessions()).hasSize(1);
     }
 
+    @Test
+    @DisplayName("모임 수정 - 설명만 바뀌면 모임 UPDATE 한 번, 세션/장르 SQL 없음")
+    void updateGathering_descriptionOnly_touchesOnlyGatheringRow() {
+        // given - 보컬 1명 모집된 상태
+        testGathering.getSession(BandSession.VOCAL).incrementCurrentCount();
+        entityManager.flush();
+        entityManager.clear();
+        Map<BandSession, Long> sessionIds = sessionIds(testGathering.getId());
+
+        GatheringUpdateRequest request = GatheringUpdateRequest.builder()
+                .name(testGathering.getName())
+                .place(testGathering.getPlace())
+                .description("설명만 수정")
+                .thumbnail(testGathering.getThumbnail())
+                .gatheringDateTime(testGathering.getGatheringDateTime())
+                .recruitDeadline(testGathering.getRecruitDeadline())
+                .genres(Set.of(Genre.ROCK, Genre.JAZZ))
+                .gatheringSessions(List.of(
+                        GatheringSessionRequest.builder().bandSession(BandSession.VOCAL).recruitCount(2).build(),
+                        GatheringSessionRequest.builder().bandSession(BandSession.ELECTRIC_GUITAR).recruitCount(1).build()))
+                .build();
+
+        // when
+        RequestContext ctx = startStatementTracking();
+        gatheringService.updateGathering(testGathering.getId(), request);
+        entityManager.flush();
+
+        // then
+        assertThat(countStatements(ctx, "insert")).isZero();
+        assertThat(countStatements(ctx, "delete")).isZero();
+        assertThat(countStatements(ctx, "update gathering set")).isEqualTo(1);
+        assertThat(countStatements(ctx, "update gathering_session")).isZero();
+
+        entityManager.clear();
+        assertThat(sessionIds(testGathering.getId())).isEqualTo(sessionIds);
+        Gathering updated = gatheringRepository.findByIdWithSessions(testGathering.getId()).orElseThrow();
+        assertThat(updated.getDescription()).isEqualTo("설명만 수정");
+        assertThat(updated.getSession(BandSession.VOCAL).getCurrentCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("모임 수정 - 세션/장르는 바뀐 행만 추가/수정/삭제하고 모집 인원 유지")
+    void updateGathering_mergesSessionsAndGenres() {
+        // given
+        testGathering.getSession(BandSession.VOCAL).incrementCurrentCount();
+        entityManager.flush();
+        entityManager.clear();
+        Long vocalId = sessionIds(testGathering.getId()).get(BandSession.VOCAL);
+
+        GatheringUpdateRequest request = GatheringUpdateRequest.builder()
+                .name(testGathering.getName())
+                .place(testGathering.getPlace())
+                .description(testGathering.getDescription())
+                .thumbnail(testGathering.getThumbnail())
+                .gatheringDateTime(testGathering.getGatheringDateTime())
+                .recruitDeadline(testGathering.getRecruitDeadline())
+                .genres(Set.of(Genre.ROCK, Genre.POP))
+                .gatheringSessions(List.of(
+                        GatheringSessionRequest.builder().bandSession(BandSession.VOCAL).recruitCount(3).build(),
+                        GatheringSessionRequest.builder().bandSession(BandSession.DRUM).recruitCount(1).build()))
+                .build();
+
+        // when
+        RequestContext ctx = startStatementTracking();
+        gatheringService.updateGathering(testGathering.getId(), request);
+        entityManager.flush();
+
+        // then - 보컬 수정, 드럼 추가, 일렉 기타 삭제 / 팝 추가, 재즈 삭제
+        assertThat(countStatements(ctx, "update gathering_session")).isEqualTo(1);
+        assertThat(countStatements(ctx, "insert into gathering_session")).isEqualTo(1);
+        assertThat(countStatements(ctx, "delete from gathering_session")).isEqualTo(1);
+        assertThat(countStatements(ctx, "insert into gathering_genres")).isEqualTo(1);
+        assertThat(countStatements(ctx, "delete from gathering_genres")).isEqualTo(1);
+
+        entityManager.clear();
+        Gathering updated = gatheringRepository.findByIdWithSessions(testGathering.getId()).orElseThrow();
+        GatheringSession vocal = updated.getSession(BandSession.VOCAL);
+        assertThat(vocal.getId()).isEqualTo(vocalId);
+        assertThat(vocal.getRecruitCount()).isEqualTo(3);
+        assertThat(vocal.getCurrentCount()).isEqualTo(1);
+        assertThat(sessionIds(testGathering.getId())).containsOnlyKeys(BandSession.VOCAL, BandSession.DRUM);
+        assertThat(updated.getGenres()).containsExactlyInAnyOrder(Genre.ROCK, Genre.POP);
+    }
+
+    @Test
+    @DisplayName("모임 수정 - 빈 세션 목록/장르 집합은 모두 삭제, null 은 유지")
+    void updateGathering_emptyCollections_removeAll() {
+        // given
+        GatheringUpdateRequest clearSessions = GatheringUpdateRequest.builder()
+                .name(testGathering.getName())
+                .place(testGathering.getPlace())
+                .description(testGathering.getDescription())
+                .thumbnail(testGathering.getThumbnail())
+                .gatheringDateTime(testGathering.getGatheringDateTime())
+                .recruitDeadline(testGathering.getRecruitDeadline())
+                .genres(null)
+                .gatheringSessions(List.of())
+                .build();
+        GatheringUpdateRequest clearGenres = GatheringUpdateRequest.builder()
+                .name(testGathering.getName())
+                .place(testGathering.getPlace())
+                .description(testGathering.getDescription())
+                .thumbnail(testGathering.getThumbnail())
+                .gatheringDateTime(testGathering.getGatheringDateTime())
+                .recruitDeadline(testGathering.getRecruitDeadline())
+                .genres(Set.of())
+                .gatheringSessions(null)
+                .build();
+
+        // when - 세션만 비우고, 다음 요청에서 장르만 비움
+        gatheringService.updateGathering(testGathering.getId(), clearSessions);
+        entityManager.flush();
+        entityManager.clear();
+        Gathering afterSessions = gatheringRepository.findByIdWithSessions(testGathering.getId()).orElseThrow();
+        assertThat(afterSessions.getGatheringSessions()).isEmpty();
+        assertThat(afterSessions.getGenres()).containsExactlyInAnyOrder(Genre.ROCK, Genre.JAZZ);
+
+        gatheringService.updateGathering(testGathering.getId(), clearGenres);
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        Gathering updated = gatheringRepository.findByIdWithSessions(testGathering.getId()).orElseThrow();
+        assertThat(updated.getGatheringSessions()).isEmpty();
+        assertThat(updated.getGenres()).isEmpty();
+        assertThat(sessionIds(testGathering.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("모임 수정 실패 - 이미 모집된 인원이 있는 세션 삭제")
+    void updateGathering_removeSessionWithMembers_fails() {
+        // given
+        testGathering.getSession(BandSession.ELECTRIC_GUITAR).incrementCurrentCount();
+
+        GatheringUpdateRequest request = GatheringUpdateRequest.builder()
+                .name(testGathering.getName())
+                .place(testGathering.getPlace())
+                .description(testGathering.getDescription())
+                .thumbnail(testGathering.getThumbnail())
+                .gatheringDateTime(testGathering.getGatheringDateTime())
+                .recruitDeadline(testGathering.getRecruitDeadline())
+                .genres(Set.of(Genre.ROCK))
+                .gatheringSessions(List.of(
+                        GatheringSessionRequest.builder().bandSession(BandSession.VOCAL).recruitCount(2).build()))
+                .build();
+
+        // when & then
+        assertThatThrownBy(() -> gatheringService.updateGathering(testGathering.getId(), request))
+                .isInstanceOf(AlertException.class)
+                .hasMessage("이미 모집된 인원이 있는 세션은 삭제할 수 없습니다.");
+    }
+
     @Test
     @DisplayName("모임 수정 실패 - 주최자가 아닌 사용자가 수정 시도")
     void updateGathering_noPermission() {
@@ -345,4 +549,24 @@ class GatheringServiceTest {
         assertThat(responseExcludeCanceled.getGatherings())
                 .noneMatch(gathering -> gathering.getStatus() == GatheringStatus.CANCELED);
     }
+
+    private Map<BandSession, Long> sessionIds(Long gatheringId) {
+        return gatheringRepository.findByIdWithSessions(gatheringId).orElseThrow()
+                .getGatheringSessions().stream()
+                .collect(Collectors.toMap(GatheringSession::getName, GatheringSession::getId));
+    }
+
+    private RequestContext startStatementTracking() {
+        RequestContext ctx = RequestContext.builder().httpMethod("PUT").bestMatchPath("/jammit/gatherings/{id}").build();
+        ctx.enableStatementTracking();
+        RequestContextHolder.initContext(ctx);
+        return ctx;
+    }
+
+    private static int countStatements(RequestContext ctx, String prefix) {
+        return ctx.getStatementCounts().entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith(prefix))
+                .mapToInt(Map.Entry::getValue)
+                .sum();
+    }
 }
@@ -12,7 +12,9 @@ import com.jammit_be.gathering.entity.GatheringParticipant;
 import com.jammit_be.gathering.entity.GatheringSession;
 import com.jammit_be.gathering.repository.GatheringParticipantRepository;
 import com.jammit_be.gathering.repository.GatheringRepository;
+import com.jammit_be.review.dto.request.BulkCreateReviewRequest;
 import com.jammit_be.review.dto.request.CreateReviewRequest;
+import com.jammit_be.review.dto.response.BulkReviewResponse;
 import com.jammit_be.review.dto.response.ReviewResponse;
 import com.jammit_be.review.dto.response.ReviewStatisticsResponse;
 import com.jammit_be.review.dto.response.ReviewUserPageResponse;
@@ -26,6 +28,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContext;
@@ -135,6 +138,15 @@ class ReviewServiceTest {
         gatheringParticipantRepository.save(revieweeParticipant);
     }
 
+    private Review review(User from, User to) {
+        Review review = new Review();
+        review.setReviewer(from);
+        review.setReviewee(to);
+        review.setGathering(completedGathering);
+        review.setContent("좋은 합주였습니다!");
+        return review;
+    }
+
     private void setAuthenticatedUser(User user) {
         SecurityContext context = SecurityContextHolder.createEmptyContext();
         CustomUserDetail userDetail = new CustomUserDetail(user);
@@ -309,6 +321,115 @@ class ReviewServiceTest {
                 .hasMessage("이미 이 모임에서 해당 사용자에 대한 리뷰를 작성했습니다.");
     }
 
+    @Test
+    @DisplayName("저장 시 리뷰 유니크 제약 위반은 중복 리뷰 안내로 변환")
+    void translateDuplicate_uniqueConstraint() {
+        // given - 검증 이후 다른 요청이 같은 리뷰를 먼저 저장한 상황
+        reviewRepository.saveAndFlush(review(reviewer, reviewee));
+
+        // when & then
+        assertThatThrownBy(() -> reviewRepository.saveAndFlush(review(reviewer, reviewee)))
+                .isInstanceOf(DataIntegrityViolationException.class)
+                .satisfies(e -> assertThat(reviewService.translateDuplicate((DataIntegrityViolationException) e))
+                        .isInstanceOf(AlertException.class)
+                        .hasMessage("이미 이 모임에서 해당 사용자에 대한 리뷰를 작성했습니다."));
+    }
+
+    @Test
+    @DisplayName("저장 시 다른 무결성 위반(FK)은 그대로 던짐")
+    void translateDuplicate_foreignKey() {
+        // given - 없는 사용자를 대상으로 한 리뷰
+        User missing = userRepository.getReferenceById(Long.MAX_VALUE);
+
+        // when & then
+        assertThatThrownBy(() -> reviewRepository.saveAndFlush(review(reviewer, missing)))
+                .isInstanceOf(DataIntegrityViolationException.class)
+                .satisfies(e -> assertThat(reviewService.translateDuplicate((DataIntegrityViolationException) e))
+                        .isSameAs(e));
+    }
+
+    @Test
+    @DisplayName("일괄 리뷰 생성 - 대상자별 결과 반환")
+    void createReviews_resultsPerReviewee() {
+        // given - 정상 대상자, 자기 자신, 참여하지 않은 사용자(owner), 중복 대상자
+        BulkCreateReviewRequest request = BulkCreateReviewRequest.builder()
+                .gatheringId(completedGathering.getId())
+                .reviews(List.of(
+                        bulkItem(reviewee.getId(), "좋은 합주였습니다!"),
+                        bulkItem(reviewer.getId(), "자기 자신"),
+                        bulkItem(owner.getId(), "참여하지 않은 사용자"),
+                        bulkItem(reviewee.getId(), "중복 요청")
+                ))
+                .build();
+
+        // when
+        BulkReviewResponse response = reviewService.createReviews(request);
+
+        // then
+        assertThat(response.getCreatedCount()).isEqualTo(1);
+        assertThat(response.getResults())
+                .extracting(BulkReviewResponse.ReviewResult::getStatus)
+                .containsExactly(
+                        BulkReviewResponse.ResultStatus.CREATED,
+                        BulkReviewResponse.ResultStatus.SELF_REVIEW,
+                        BulkReviewResponse.ResultStatus.NOT_PARTICIPANT,
+                        BulkReviewResponse.ResultStatus.DUPLICATED_REQUEST
+                );
+
+        // DB 확인
+        List<Review> saved = reviewRepository.findAllByGatheringId(completedGathering.getId());
+        assertThat(saved).hasSize(1);
+        assertThat(saved.get(0).getContent()).isEqualTo("좋은 합주였습니다!");
+        assertThat(saved.get(0).isPracticeHelped()).isTrue();
+    }
+
+    @Test
+    @DisplayName("일괄 리뷰 생성 - 이미 작성한 대상자는 건너뜀")
+    void createReviews_alreadyReviewed() {
+        // given - 단건 리뷰를 먼저 작성
+        reviewService.createReview(CreateReviewRequest.builder()
+                .revieweeId(reviewee.getId())
+                .gatheringId(completedGathering.getId())
+                .content("첫 번째 리뷰")
+                .isPracticeHelped(true)
+                .isGoodWithMusic(true)
+                .isGoodWithOthers(true)
+                .isSharesPracticeResources(false)
+                .isManagingWell(false)
+                .isHelpful(true)
+                .isGoodLearner(true)
+                .isKeepingPromises(true)
+                .build());
+
+        BulkCreateReviewRequest request = BulkCreateReviewRequest.builder()
+                .gatheringId(completedGathering.getId())
+                .reviews(List.of(bulkItem(reviewee.getId(), "두 번째 리뷰")))
+                .build();
+
+        // when
+        BulkReviewResponse response = reviewService.createReviews(request);
+
+        // then
+        assertThat(response.getCreatedCount()).isZero();
+        assertThat(response.getResults().get(0).getStatus())
+                .isEqualTo(BulkReviewResponse.ResultStatus.ALREADY_REVIEWED);
+    }
+
+    private BulkCreateReviewRequest.ReviewItem bulkItem(Long revieweeId, String content) {
+        return BulkCreateReviewRequest.ReviewItem.builder()
+                .revieweeId(revieweeId)
+                .content(content)
+                .isPracticeHelped(true)
+                .isGoodWithMusic(false)
+                .isGoodWithOthers(true)
+                .isSharesPracticeResources(false)
+                .isManagingWell(false)
+                .isHelpful(true)
+                .isGoodLearner(false)
+                .isKeepingPromises(true)
+                .build();
+    }
+
     @Test
     @DisplayName("리뷰 삭제 성공")
     void deleteReview_success() {
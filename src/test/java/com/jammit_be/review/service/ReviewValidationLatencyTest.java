@@ -0,0 +1,155 @@
+package com.jammit_be.review.service;
+
+import com.jammit_be.common.enums.BandSession;
+import com.jammit_be.common.enums.GatheringStatus;
+import com.jammit_be.common.enums.Genre;
+import com.jammit_be.common.monitor.RequestContext;
+import com.jammit_be.common.monitor.RequestContextHolder;
+import com.jammit_be.gathering.entity.Gathering;
+import com.jammit_be.gathering.entity.GatheringParticipant;
+import com.jammit_be.gathering.entity.GatheringSession;
+import com.jammit_be.gathering.repository.GatheringParticipantRepository;
+import com.jammit_be.gathering.repository.GatheringRepository;
+import com.jammit_be.review.dto.response.ReviewValidationProjection;
+import com.jammit_be.review.repository.ReviewRepository;
+import com.jammit_be.user.entity.OauthPlatform;
+import com.jammit_be.user.entity.User;
+import com.jammit_be.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리뷰 생성 검증 쿼리 비교
+ * 기존 순차 검증(최대 5회 조회)과 단일 검증 쿼리의 결과와 실행된 SQL 수를 비교합니다.
+ * (지연시간은 DB 왕복 횟수에 비례하므로 실행 환경에 따라 흔들리는 시간 대신 SQL 수로 확인)
+ */
+@SpringBootTest
+@Transactional
+@DisplayName("리뷰 생성 검증 쿼리 비교")
+class ReviewValidationLatencyTest {
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GatheringRepository gatheringRepository;
+
+    @Autowired
+    private GatheringParticipantRepository gatheringParticipantRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User reviewer;
+    private User reviewee;
+    private Gathering gathering;
+
+    @BeforeEach
+    void setUp() {
+        reviewer = userRepository.save(User.builder()
+                .email("latency-reviewer@example.com")
+                .password("password123!")
+                .username("reviewer")
+                .nickname("리뷰어")
+                .oauthPlatform(OauthPlatform.NONE)
+                .build());
+        reviewee = userRepository.save(User.builder()
+                .email("latency-reviewee@example.com")
+                .password("password123!")
+                .username("reviewee")
+                .nickname("리뷰이")
+                .oauthPlatform(OauthPlatform.NONE)
+                .build());
+
+        gathering = Gathering.create(
+                "완료된 모임",
+                "thumbnail.jpg",
+                "서울시 강남구",
+                "완료된 모임입니다",
+                LocalDateTime.now().minusDays(1),
+                LocalDateTime.now().minusDays(3),
+                Set.of(Genre.ROCK),
+                List.of(GatheringSession.create(BandSession.VOCAL, 2)),
+                reviewer
+        );
+        gathering.confirm();
+        gathering.complete();
+        gatheringRepository.save(gathering);
+
+        for (User user : List.of(reviewer, reviewee)) {
+            GatheringParticipant participant = GatheringParticipant.pending(user, gathering, BandSession.VOCAL, "참여");
+            participant.approve();
+            participant.complete();
+            gatheringParticipantRepository.save(participant);
+        }
+        entityManager.flush();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.clear();
+    }
+
+    @Test
+    @DisplayName("단일 검증 쿼리는 기존 순차 검증과 결과가 같고 SQL 한 번으로 끝남")
+    void compareValidationQueries() {
+        // 기존 방식: 대상자, 모임, 참여 완료 2회, 중복 리뷰를 순차 조회
+        BooleanSupplier sequential = () -> {
+            entityManager.clear();
+            User target = userRepository.findById(reviewee.getId()).orElseThrow();
+            Gathering g = gatheringRepository.findById(gathering.getId()).orElseThrow();
+            return g.getStatus() == GatheringStatus.COMPLETED
+                    && gatheringParticipantRepository.isParticipationCompleted(reviewer, g)
+                    && gatheringParticipantRepository.isParticipationCompleted(target, g)
+                    && reviewRepository.findByReviewerIdAndRevieweeIdAndGatheringId(
+                            reviewer.getId(), target.getId(), g.getId()).isEmpty();
+        };
+
+        // 변경 방식: 한 번의 쿼리로 모든 검증 정보 조회
+        BooleanSupplier single = () -> {
+            entityManager.clear();
+            ReviewValidationProjection v = reviewRepository.findReviewValidation(
+                    reviewer.getId(), reviewee.getId(), gathering.getId()).orElseThrow();
+            return v.isRevieweeExists()
+                    && v.getGatheringStatus() == GatheringStatus.COMPLETED
+                    && v.isReviewerCompleted()
+                    && v.isRevieweeCompleted()
+                    && !v.isAlreadyReviewed();
+        };
+
+        // 두 방식의 검증 결과가 같아야 함
+        assertThat(single.getAsBoolean()).isEqualTo(sequential.getAsBoolean()).isTrue();
+
+        // 단일 쿼리는 한 번, 순차 검증은 그보다 많이 (대상자/모임은 2차 캐시에 있으면 조회하지 않음)
+        int singleCount = countStatements(single);
+        assertThat(singleCount).isEqualTo(1);
+        assertThat(countStatements(sequential)).isGreaterThan(singleCount);
+    }
+
+    private int countStatements(BooleanSupplier validation) {
+        RequestContext ctx = RequestContext.forJob("review-validation");
+        RequestContextHolder.initContext(ctx);
+        try {
+            validation.getAsBoolean();
+        } finally {
+            RequestContextHolder.clear();
+        }
+        return ctx.getTotalQueryCount();
+    }
+}
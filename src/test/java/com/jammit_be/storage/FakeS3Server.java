@@ -0,0 +1,296 @@
+package com.jammit_be.storage;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 테스트용 최소 S3 호환 서버 (path-style, 인증 검사 없음)
+ * PutObject, CreateMultipartUpload, UploadPart, CompleteMultipartUpload, AbortMultipartUpload 만 지원한다.
+ * UploadPart 의 x-amz-checksum-sha256 이 본문과 다르면 실제 S3 처럼 BadDigest(400)로 거절한다.
+ */
+class FakeS3Server implements AutoCloseable {
+
+    private static final Pattern PART_NUMBER = Pattern.compile("<PartNumber>(\\d+)</PartNumber>");
+
+    private final HttpServer server;
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private final Map<String, Map<Integer, byte[]>> uploads = new ConcurrentHashMap<>();
+    private final Set<String> abortedUploads = ConcurrentHashMap.newKeySet();
+    private final Map<Integer, String> partChecksums = new ConcurrentHashMap<>();
+    private final AtomicInteger concurrentParts = new AtomicInteger();
+    private final AtomicInteger maxConcurrentParts = new AtomicInteger();
+    private volatile int failPartNumber = -1;
+    private volatile long partDelayMs;
+
+    private FakeS3Server() throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        this.server.setExecutor(Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "fake-s3");
+            thread.setDaemon(true);
+            return thread;
+        }));
+        this.server.createContext("/", this::handle);
+        this.server.start();
+    }
+
+    static FakeS3Server start() {
+        try {
+            return new FakeS3Server();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    URI getEndpoint() {
+        return URI.create("http://localhost:" + server.getAddress().getPort());
+    }
+
+    byte[] getObject(String bucket, String key) {
+        return objects.get(bucket + "/" + key);
+    }
+
+    Set<String> getAbortedUploads() {
+        return abortedUploads;
+    }
+
+    int getPendingUploadCount() {
+        return uploads.size();
+    }
+
+    Map<Integer, String> getPartChecksums() {
+        return partChecksums;
+    }
+
+    int getMaxConcurrentParts() {
+        return maxConcurrentParts.get();
+    }
+
+    // 해당 part 업로드를 계속 500 으로 실패시킴 (SDK 재시도 포함)
+    void failPart(int partNumber) {
+        this.failPartNumber = partNumber;
+    }
+
+    // part 업로드 응답 지연 (동시 업로드 확인용)
+    void setPartDelayMs(long partDelayMs) {
+        this.partDelayMs = partDelayMs;
+    }
+
+    void reset() {
+        objects.clear();
+        uploads.clear();
+        abortedUploads.clear();
+        partChecksums.clear();
+        maxConcurrentParts.set(0);
+        failPartNumber = -1;
+        partDelayMs = 0;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String objectPath = exchange.getRequestURI().getPath().substring(1); // bucket/key
+            Map<String, String> query = query(exchange.getRequestURI().getRawQuery());
+            String method = exchange.getRequestMethod();
+
+            if (method.equals("POST") && query.containsKey("uploads")) {
+                String uploadId = UUID.randomUUID().toString();
+                uploads.put(uploadId, new ConcurrentHashMap<>());
+                respond(exchange, 200, "<InitiateMultipartUploadResult xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\">"
+                        + "<Bucket>" + bucketOf(objectPath) + "</Bucket><Key>" + keyOf(objectPath) + "</Key>"
+                        + "<UploadId>" + uploadId + "</UploadId></InitiateMultipartUploadResult>");
+            } else if (method.equals("PUT") && query.containsKey("partNumber")) {
+                uploadPart(exchange, query);
+            } else if (method.equals("POST") && query.containsKey("uploadId")) {
+                completeUpload(exchange, objectPath, query.get("uploadId"));
+            } else if (method.equals("DELETE") && query.containsKey("uploadId")) {
+                uploads.remove(query.get("uploadId"));
+                abortedUploads.add(query.get("uploadId"));
+                exchange.sendResponseHeaders(204, -1);
+            } else if (method.equals("PUT")) {
+                byte[] body = readBody(exchange);
+                objects.put(objectPath, body);
+                exchange.getResponseHeaders().add("ETag", "\"" + md5Hex(body) + "\"");
+                respond(exchange, 200, "");
+            } else {
+                respond(exchange, 405, "");
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void uploadPart(HttpExchange exchange, Map<String, String> query) throws IOException {
+        int partNumber = Integer.parseInt(query.get("partNumber"));
+        Map<Integer, byte[]> parts = uploads.get(query.get("uploadId"));
+        byte[] body = readBody(exchange);
+        if (parts == null) {
+            respond(exchange, 404, error("NoSuchUpload"));
+            return;
+        }
+        if (partNumber == failPartNumber) {
+            respond(exchange, 500, error("InternalError"));
+            return;
+        }
+
+        int current = concurrentParts.incrementAndGet();
+        maxConcurrentParts.accumulateAndGet(current, Math::max);
+        try {
+            if (partDelayMs > 0) {
+                Thread.sleep(partDelayMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            concurrentParts.decrementAndGet();
+        }
+
+        String checksum = exchange.getRequestHeaders().getFirst("x-amz-checksum-sha256");
+        if (checksum == null || !checksum.equals(Base64.getEncoder().encodeToString(sha256(body)))) {
+            respond(exchange, 400, error("BadDigest"));
+            return;
+        }
+        partChecksums.put(partNumber, checksum);
+        parts.put(partNumber, body);
+        exchange.getResponseHeaders().add("ETag", "\"" + md5Hex(body) + "\"");
+        exchange.getResponseHeaders().add("x-amz-checksum-sha256", checksum);
+        respond(exchange, 200, "");
+    }
+
+    private void completeUpload(HttpExchange exchange, String objectPath, String uploadId) throws IOException {
+        Map<Integer, byte[]> parts = uploads.remove(uploadId);
+        String body = new String(readBody(exchange), StandardCharsets.UTF_8);
+        if (parts == null) {
+            respond(exchange, 404, error("NoSuchUpload"));
+            return;
+        }
+        Map<Integer, byte[]> ordered = new TreeMap<>();
+        Matcher matcher = PART_NUMBER.matcher(body);
+        while (matcher.find()) {
+            int partNumber = Integer.parseInt(matcher.group(1));
+            if (!parts.containsKey(partNumber)) {
+                respond(exchange, 400, error("InvalidPart"));
+                return;
+            }
+            ordered.put(partNumber, parts.get(partNumber));
+        }
+        ByteArrayOutputStream object = new ByteArrayOutputStream();
+        for (byte[] part : ordered.values()) {
+            object.write(part);
+        }
+        objects.put(objectPath, object.toByteArray());
+        respond(exchange, 200, "<CompleteMultipartUploadResult xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\">"
+                + "<Bucket>" + bucketOf(objectPath) + "</Bucket><Key>" + keyOf(objectPath) + "</Key>"
+                + "<ETag>\"" + md5Hex(object.toByteArray()) + "-" + ordered.size() + "\"</ETag>"
+                + "</CompleteMultipartUploadResult>");
+    }
+
+    /**
+     * SDK 가 http 엔드포인트로 보내는 aws-chunked 본문(서명 청크)도 원래 내용으로 복원한다.
+     */
+    private static byte[] readBody(HttpExchange exchange) throws IOException {
+        byte[] raw = exchange.getRequestBody().readAllBytes();
+        String contentSha = exchange.getRequestHeaders().getFirst("x-amz-content-sha256");
+        if (contentSha == null || !contentSha.startsWith("STREAMING-")) {
+            return raw;
+        }
+        ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+        int position = 0;
+        while (position < raw.length) {
+            int lineEnd = indexOfCrlf(raw, position);
+            String header = new String(raw, position, lineEnd - position, StandardCharsets.US_ASCII);
+            int size = Integer.parseInt(header.split(";")[0].trim(), 16);
+            position = lineEnd + 2;
+            if (size == 0) {
+                break;
+            }
+            decoded.write(raw, position, size);
+            position += size + 2;
+        }
+        return decoded.toByteArray();
+    }
+
+    private static int indexOfCrlf(byte[] data, int from) {
+        for (int i = from; i < data.length - 1; i++) {
+            if (data[i] == '\r' && data[i + 1] == '\n') {
+                return i;
+            }
+        }
+        return data.length;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        if (!body.isEmpty()) {
+            exchange.getResponseHeaders().add("Content-Type", "application/xml");
+        }
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static String error(String code) {
+        return "<Error><Code>" + code + "</Code><Message>" + code + "</Message></Error>";
+    }
+
+    private static Map<String, String> query(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            query.put(eq < 0 ? pair : pair.substring(0, eq), eq < 0 ? "" : pair.substring(eq + 1));
+        }
+        return query;
+    }
+
+    private static String bucketOf(String objectPath) {
+        return objectPath.substring(0, objectPath.indexOf('/'));
+    }
+
+    private static String keyOf(String objectPath) {
+        return objectPath.substring(objectPath.indexOf('/') + 1);
+    }
+
+    private static String md5Hex(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] sha256(byte[] data) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(data);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
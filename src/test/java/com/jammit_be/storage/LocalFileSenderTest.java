@@ -0,0 +1,158 @@
+package com.jammit_be.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LocalFileSender 단위 테스트")
+class LocalFileSenderTest {
+
+    private static final byte[] CONTENT = "0123456789abcdefghij".getBytes(StandardCharsets.US_ASCII);
+
+    @TempDir
+    Path dir;
+
+    private Path file;
+    private LocalFileSender sender;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = Files.write(dir.resolve("a.png"), CONTENT);
+        sender = new LocalFileSender(16);
+    }
+
+    @Test
+    @DisplayName("전체 파일과 검증 헤더 응답")
+    void send_fullContent() throws IOException {
+        // when
+        MockHttpServletResponse response = send("profile/a.png", new MockHttpServletRequest("GET", "/"));
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsByteArray()).isEqualTo(CONTENT);
+        assertThat(response.getContentType()).isEqualTo("image/png");
+        assertThat(response.getHeader(HttpHeaders.ETAG)).startsWith("\"");
+        assertThat(response.getHeader(HttpHeaders.LAST_MODIFIED)).isNotNull();
+        assertThat(response.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("no-cache");
+    }
+
+    @Test
+    @DisplayName("내용 기반 key 는 immutable 캐시")
+    void send_contentAddressedKey_isImmutable() throws IOException {
+        // when
+        MockHttpServletResponse response = send("images/ab/abcd_320.png", new MockHttpServletRequest("GET", "/"));
+
+        // then
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).contains("immutable").contains("max-age=31536000");
+    }
+
+    @Test
+    @DisplayName("ETag 또는 수정 시각이 같으면 304")
+    void send_conditional_notModified() throws IOException {
+        // given
+        MockHttpServletResponse first = send("profile/a.png", new MockHttpServletRequest("GET", "/"));
+
+        // when
+        MockHttpServletRequest byEtag = new MockHttpServletRequest("GET", "/");
+        byEtag.addHeader(HttpHeaders.IF_NONE_MATCH, "\"other\", W/" + first.getHeader(HttpHeaders.ETAG));
+        MockHttpServletResponse etagResponse = send("profile/a.png", byEtag);
+
+        MockHttpServletRequest byDate = new MockHttpServletRequest("GET", "/");
+        byDate.addHeader(HttpHeaders.IF_MODIFIED_SINCE, first.getHeader(HttpHeaders.LAST_MODIFIED));
+        MockHttpServletResponse dateResponse = send("profile/a.png", byDate);
+
+        // then
+        assertThat(etagResponse.getStatus()).isEqualTo(304);
+        assertThat(etagResponse.getContentAsByteArray()).isEmpty();
+        assertThat(dateResponse.getStatus()).isEqualTo(304);
+    }
+
+    @Test
+    @DisplayName("Range 요청은 206 과 해당 구간만 응답")
+    void send_range() throws IOException {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader(HttpHeaders.RANGE, "bytes=5-9");
+        MockHttpServletRequest suffix = new MockHttpServletRequest("GET", "/");
+        suffix.addHeader(HttpHeaders.RANGE, "bytes=-3");
+
+        // when
+        MockHttpServletResponse response = send("profile/a.png", request);
+        MockHttpServletResponse suffixResponse = send("profile/a.png", suffix);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 5-9/20");
+        assertThat(response.getContentAsString()).isEqualTo("56789");
+        assertThat(suffixResponse.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 17-19/20");
+        assertThat(suffixResponse.getContentAsString()).isEqualTo("hij");
+    }
+
+    @Test
+    @DisplayName("파일 크기를 벗어난 Range 는 416")
+    void send_unsatisfiableRange() throws IOException {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader(HttpHeaders.RANGE, "bytes=20-");
+
+        // when
+        MockHttpServletResponse response = send("profile/a.png", request);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */20");
+    }
+
+    @Test
+    @DisplayName("If-Range 가 현재 ETag 와 다르면 전체 파일 응답")
+    void send_ifRangeMismatch_returnsFullContent() throws IOException {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-1");
+        request.addHeader(HttpHeaders.IF_RANGE, "\"stale\"");
+
+        // when
+        MockHttpServletResponse response = send("profile/a.png", request);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsByteArray()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    @DisplayName("커넥터가 sendfile 을 지원하면 본문을 쓰지 않고 전송을 위임")
+    void send_sendfileSupported_delegatesToConnector() throws IOException {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.setAttribute(LocalFileSender.SENDFILE_SUPPORTED_ATTR, Boolean.TRUE);
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-");
+
+        // when
+        MockHttpServletResponse response = send("profile/a.png", request);
+
+        // then
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(response.getContentLengthLong()).isEqualTo(18);
+        assertThat(request.getAttribute(LocalFileSender.SENDFILE_FILENAME_ATTR)).isEqualTo(file.toAbsolutePath().toString());
+        assertThat(request.getAttribute(LocalFileSender.SENDFILE_START_ATTR)).isEqualTo(2L);
+        assertThat(request.getAttribute(LocalFileSender.SENDFILE_END_ATTR)).isEqualTo(20L);
+    }
+
+    private MockHttpServletResponse send(String key, MockHttpServletRequest request) throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        sender.send(key, file, request, response);
+        return response;
+    }
+}
@@ -0,0 +1,143 @@
+package com.jammit_be.storage;
+
+import com.jammit_be.common.exception.AlertException;
+import com.jammit_be.storage.dto.response.PresignedUploadResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LocalFileStorage 직접 업로드 테스트")
+class LocalFileStorageTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+    private static final byte[] IMAGE = new byte[]{(byte) 0x89, 'P', 'N', 'G', 1, 2, 3, 4};
+
+    @TempDir
+    Path baseDir;
+
+    private LocalFileStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = storageAt(NOW);
+    }
+
+    @Test
+    @DisplayName("발급받은 URL 로 업로드 후 확정하면 접근 경로 반환")
+    void presignUploadConfirm() throws Exception {
+        // given
+        PresignedUploadResponse presigned = storage.createPresignedUpload("profile/1", "image/png", IMAGE.length);
+
+        // when
+        upload(storage, presigned, "image/png", IMAGE);
+        String url = storage.confirmUpload(presigned.getKey());
+
+        // then
+        assertThat(presigned.getKey()).startsWith("profile/1/").endsWith(".png");
+        assertThat(url).isEqualTo("/static/" + presigned.getKey());
+        assertThat(Files.readAllBytes(baseDir.resolve(presigned.getKey()))).isEqualTo(IMAGE);
+    }
+
+    @Test
+    @DisplayName("서명과 다른 Content-Type 으로 업로드하면 거절")
+    void rejectsTamperedContentType() {
+        PresignedUploadResponse presigned = storage.createPresignedUpload("profile/1", "image/png", IMAGE.length);
+
+        assertThatThrownBy(() -> upload(storage, presigned, "image/gif", IMAGE))
+                .isInstanceOf(AlertException.class)
+                .hasMessage("업로드 서명이 올바르지 않습니다.");
+    }
+
+    @Test
+    @DisplayName("만료된 URL 로 업로드하면 거절")
+    void rejectsExpiredUrl() {
+        PresignedUploadResponse presigned = storage.createPresignedUpload("profile/1", "image/png", IMAGE.length);
+        LocalFileStorage later = storageAt(NOW.plusSeconds(301));
+
+        assertThatThrownBy(() -> upload(later, presigned, "image/png", IMAGE))
+                .isInstanceOf(AlertException.class)
+                .hasMessage("업로드 URL 이 만료되었습니다.");
+    }
+
+    @Test
+    @DisplayName("서명된 크기보다 큰 본문은 저장하지 않음")
+    void rejectsOversizedBody() {
+        PresignedUploadResponse presigned = storage.createPresignedUpload("profile/1", "image/png", 4);
+
+        assertThatThrownBy(() -> upload(storage, presigned, "image/png", IMAGE))
+                .isInstanceOf(AlertException.class);
+        assertThat(Files.exists(baseDir.resolve(presigned.getKey()))).isFalse();
+    }
+
+    @Test
+    @DisplayName("업로드하지 않은 key 는 확정할 수 없음")
+    void confirmRequiresUploadedFile() {
+        PresignedUploadResponse presigned = storage.createPresignedUpload("profile/1", "image/png", IMAGE.length);
+
+        assertThatThrownBy(() -> storage.confirmUpload(presigned.getKey()))
+                .isInstanceOf(AlertException.class)
+                .hasMessage("업로드된 파일을 찾을 수 없습니다.");
+    }
+
+    @Test
+    @DisplayName("이미지가 아니거나 5MB 를 넘으면 발급하지 않음")
+    void rejectsInvalidRequest() {
+        assertThatThrownBy(() -> storage.createPresignedUpload("profile/1", "application/pdf", 100))
+                .isInstanceOf(AlertException.class);
+        assertThatThrownBy(() -> storage.createPresignedUpload("profile/1", "image/png", UploadPolicy.MAX_UPLOAD_SIZE + 1))
+                .isInstanceOf(AlertException.class);
+    }
+
+    @Test
+    @DisplayName("다른 폴더의 key 로는 확정할 수 없음")
+    void checkKeyRejectsOtherFolder() {
+        assertThatThrownBy(() -> UploadPolicy.checkKey("profile/2/a.png", "profile/1"))
+                .isInstanceOf(AlertException.class);
+        assertThatThrownBy(() -> UploadPolicy.checkKey("profile/1/../2/a.png", "profile/1"))
+                .isInstanceOf(AlertException.class);
+    }
+
+    @Test
+    @DisplayName("조회 경로는 저장 폴더 밖이나 숨김 파일을 가리킬 수 없음")
+    void resolveStoredFileRejectsOutsideAndHiddenPaths() throws Exception {
+        // given
+        Files.createDirectories(baseDir.resolve("profile/1"));
+        Files.write(baseDir.resolve("profile/1/a.png"), IMAGE);
+        Files.write(baseDir.resolve("profile/1/.upload-1.tmp"), IMAGE);
+
+        // then
+        assertThat(storage.resolveStoredFile("profile/1/a.png")).isEqualTo(baseDir.resolve("profile/1/a.png").toAbsolutePath().normalize());
+        assertThat(storage.resolveStoredFile("profile/1/.upload-1.tmp")).isNull();
+        assertThat(storage.resolveStoredFile("../outside.png")).isNull();
+        assertThat(storage.resolveStoredFile("profile/1/missing.png")).isNull();
+        assertThat(storage.resolveStoredFile("profile/1")).isNull();
+    }
+
+    private LocalFileStorage storageAt(Instant instant) {
+        return new LocalFileStorage(baseDir.toString(), 300, "test-secret", Clock.fixed(instant, ZoneOffset.UTC));
+    }
+
+    private void upload(LocalFileStorage target, PresignedUploadResponse presigned, String contentType, byte[] body) {
+        UriComponents uri = UriComponentsBuilder.fromUriString(presigned.getUploadUrl()).build();
+        target.receiveUpload(
+                uri.getQueryParams().getFirst("key"),
+                contentType,
+                Long.parseLong(uri.getQueryParams().getFirst("contentLength")),
+                Long.parseLong(uri.getQueryParams().getFirst("expires")),
+                uri.getQueryParams().getFirst("signature"),
+                new ByteArrayInputStream(body));
+    }
+}
@@ -0,0 +1,158 @@
+package com.jammit_be.storage;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.io.ByteArrayInputStream;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("S3 멀티파트 업로드 테스트")
+class S3MultipartUploaderTest {
+
+    private static final String BUCKET = "jammit-test";
+    private static final int PART_SIZE = 64 * 1024;
+    private static final FakeS3Server s3Server = FakeS3Server.start();
+
+    private S3Client s3Client;
+    private SimpleMeterRegistry meterRegistry;
+    private S3MultipartUploader uploader;
+
+    @BeforeEach
+    void setUp() {
+        s3Server.reset();
+        s3Client = S3Client.builder()
+                .endpointOverride(s3Server.getEndpoint())
+                .forcePathStyle(true)
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("test", "test")))
+                .build();
+        meterRegistry = new SimpleMeterRegistry();
+        uploader = new S3MultipartUploader(s3Client, PART_SIZE * 2L, PART_SIZE, 3, 4, 16, 4, 10_000, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        uploader.shutdown();
+        s3Client.close();
+    }
+
+    @AfterAll
+    static void stopServer() {
+        s3Server.close();
+    }
+
+    @Test
+    @DisplayName("part 로 나눠 동시에 올리고, 합친 결과는 원본과 같음")
+    void upload_splitsIntoParts() {
+        // given - part 5개 + 마지막 자투리
+        byte[] content = random(PART_SIZE * 5 + 1234);
+        s3Server.setPartDelayMs(100);
+
+        // when
+        uploader.upload(BUCKET, "video/a.mp4", "video/mp4", null, new ByteArrayInputStream(content), content.length);
+
+        // then
+        assertThat(s3Server.getObject(BUCKET, "video/a.mp4")).isEqualTo(content);
+        assertThat(s3Server.getPartChecksums()).hasSize(6);
+        assertThat(s3Server.getMaxConcurrentParts()).isBetween(2, 3);
+        assertThat(s3Server.getPendingUploadCount()).isZero();
+        assertThat(meterRegistry.get("app.storage.s3.part").timer().count()).isEqualTo(6);
+        assertThat(meterRegistry.get("app.storage.s3.throughput").summary().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("크기가 part 크기의 배수여도 빈 part 를 올리지 않음")
+    void upload_exactMultipleOfPartSize() {
+        // given
+        byte[] content = random(PART_SIZE * 2);
+
+        // when
+        uploader.upload(BUCKET, "a.bin", "application/octet-stream", null, new ByteArrayInputStream(content), content.length);
+
+        // then
+        assertThat(s3Server.getObject(BUCKET, "a.bin")).isEqualTo(content);
+        assertThat(s3Server.getPartChecksums()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("동시에 진행되는 업로드가 part 버퍼 풀을 함께 쓰고, 풀 크기를 넘겨 만들지 않음")
+    void upload_sharesBufferPool() {
+        // given - 업로드 하나당 최대 3개, 풀은 4개
+        byte[] first = random(PART_SIZE * 6);
+        byte[] second = random(PART_SIZE * 6 + 1);
+        s3Server.setPartDelayMs(50);
+
+        // when
+        CompletableFuture<Void> other = CompletableFuture.runAsync(() -> uploader.upload(BUCKET, "first.bin",
+                "application/octet-stream", null, new ByteArrayInputStream(first), first.length));
+        uploader.upload(BUCKET, "second.bin", "application/octet-stream", null,
+                new ByteArrayInputStream(second), second.length);
+        other.join();
+        uploader.upload(BUCKET, "third.bin", "application/octet-stream", null,
+                new ByteArrayInputStream(first), first.length);
+
+        // then - 세 번째 업로드는 새 버퍼 없이 앞에서 만든 버퍼를 재사용
+        assertThat(s3Server.getObject(BUCKET, "first.bin")).isEqualTo(first);
+        assertThat(s3Server.getObject(BUCKET, "second.bin")).isEqualTo(second);
+        assertThat(s3Server.getObject(BUCKET, "third.bin")).isEqualTo(first);
+        assertThat(uploader.allocatedBufferCount()).isBetween(1, 4);
+        assertThat(meterRegistry.get("app.storage.s3.buffers_allocated").gauge().value())
+                .isEqualTo(uploader.allocatedBufferCount());
+    }
+
+    @Test
+    @DisplayName("part 업로드가 실패하면 멀티파트 업로드를 abort")
+    void upload_partFailure_abortsUpload() {
+        // given
+        byte[] content = random(PART_SIZE * 4);
+        s3Server.failPart(2);
+
+        // when & then
+        assertThatThrownBy(() -> uploader.upload(BUCKET, "b.bin", "application/octet-stream", null,
+                new ByteArrayInputStream(content), content.length))
+                .isInstanceOf(RuntimeException.class);
+        assertThat(s3Server.getObject(BUCKET, "b.bin")).isNull();
+        assertThat(s3Server.getAbortedUploads()).hasSize(1);
+        assertThat(s3Server.getPendingUploadCount()).isZero();
+        assertThat(meterRegistry.get("app.storage.s3.aborted").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("입력 크기가 요청과 다르면 abort")
+    void upload_lengthMismatch_abortsUpload() {
+        // given
+        byte[] content = random(PART_SIZE * 3);
+
+        // when & then
+        assertThatThrownBy(() -> uploader.upload(BUCKET, "c.bin", "application/octet-stream", null,
+                new ByteArrayInputStream(content), content.length + 10))
+                .isInstanceOf(RuntimeException.class);
+        assertThat(s3Server.getObject(BUCKET, "c.bin")).isNull();
+        assertThat(s3Server.getAbortedUploads()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("임계값 미만은 멀티파트를 사용하지 않음")
+    void isMultipart() {
+        assertThat(uploader.isMultipart(PART_SIZE * 2L - 1)).isFalse();
+        assertThat(uploader.isMultipart(PART_SIZE * 2L)).isTrue();
+    }
+
+    private static byte[] random(int size) {
+        byte[] content = new byte[size];
+        new Random(size).nextBytes(content);
+        return content;
+    }
+}
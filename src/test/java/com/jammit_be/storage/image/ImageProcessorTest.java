@@ -0,0 +1,157 @@
+package com.jammit_be.storage.image;
+
+import com.jammit_be.common.exception.AlertException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ImageProcessor 단위 테스트")
+class ImageProcessorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ImageProcessor imageProcessor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        imageProcessor = new ImageProcessor(40_000_000L, 2_097_152, 0.85f, 2, 4, 10_000, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        imageProcessor.shutdown();
+    }
+
+    @Test
+    @DisplayName("긴 변 기준으로 크기별 JPEG 변형 생성")
+    void createsVariants() throws IOException {
+        // given
+        byte[] jpeg = encode(new BufferedImage(2000, 1000, BufferedImage.TYPE_INT_RGB), "jpg");
+
+        // when
+        Map<ImageVariant, BufferedImage> variants = process(jpeg, "image/jpeg");
+
+        // then
+        assertThat(variants.get(ImageVariant.LARGE).getWidth()).isEqualTo(1080);
+        assertThat(variants.get(ImageVariant.LARGE).getHeight()).isEqualTo(540);
+        assertThat(variants.get(ImageVariant.MEDIUM).getWidth()).isEqualTo(320);
+        assertThat(variants.get(ImageVariant.SMALL).getWidth()).isEqualTo(96);
+        assertThat(meterRegistry.get("app.image.stage").tag("stage", "decode").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("app.image.stage").tag("stage", "encode").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("EXIF 회전 정보는 픽셀에 반영하고 메타데이터는 제거")
+    void appliesExifOrientationAndStripsMetadata() throws IOException {
+        // given - Orientation=6 (시계 방향 90도 회전) EXIF 를 가진 가로 이미지
+        byte[] jpeg = withExifOrientation6(encode(new BufferedImage(2000, 1000, BufferedImage.TYPE_INT_RGB), "jpg"));
+        Map<ImageVariant, byte[]> encoded = new EnumMap<>(ImageVariant.class);
+
+        // when
+        imageProcessor.process(new ByteArrayInputStream(jpeg), (variant, contentType, extension, data, length) -> {
+            byte[] copy = new byte[length];
+            System.arraycopy(data, 0, copy, 0, length);
+            encoded.put(variant, copy);
+        });
+
+        // then
+        BufferedImage large = ImageIO.read(new ByteArrayInputStream(encoded.get(ImageVariant.LARGE)));
+        assertThat(large.getWidth()).isEqualTo(540);
+        assertThat(large.getHeight()).isEqualTo(1080);
+        assertThat(containsExif(encoded.get(ImageVariant.LARGE))).isFalse();
+    }
+
+    @Test
+    @DisplayName("투명도가 있는 이미지는 PNG 로 저장하고 원본보다 크게 늘리지 않음")
+    void keepsAlphaAndDoesNotUpscale() throws IOException {
+        // given
+        byte[] png = encode(new BufferedImage(50, 80, BufferedImage.TYPE_INT_ARGB), "png");
+
+        // when
+        Map<ImageVariant, BufferedImage> variants = process(png, "image/png");
+
+        // then
+        assertThat(variants.get(ImageVariant.SMALL).getWidth()).isEqualTo(50);
+        assertThat(variants.get(ImageVariant.SMALL).getHeight()).isEqualTo(80);
+    }
+
+    @Test
+    @DisplayName("확장자와 관계없이 이미지가 아닌 내용은 거절")
+    void rejectsNonImage() {
+        assertThatThrownBy(() -> imageProcessor.process(new ByteArrayInputStream("not an image".getBytes()), (v, c, e, d, l) -> {
+        }))
+                .isInstanceOf(AlertException.class)
+                .hasMessage("지원하지 않는 이미지 형식입니다.");
+    }
+
+    @Test
+    @DisplayName("해상도 제한을 넘는 이미지는 디코딩 전에 거절")
+    void rejectsTooManyPixels() throws IOException {
+        // given
+        ImageProcessor strict = new ImageProcessor(1_000_000L, 2_097_152, 0.85f, 1, 1, 10_000, meterRegistry);
+        byte[] jpeg = encode(new BufferedImage(2000, 1000, BufferedImage.TYPE_INT_RGB), "jpg");
+
+        // when & then
+        try {
+            assertThatThrownBy(() -> strict.process(new ByteArrayInputStream(jpeg), (v, c, e, d, l) -> {
+            }))
+                    .isInstanceOf(AlertException.class)
+                    .hasMessage("이미지 해상도가 너무 큽니다.");
+        } finally {
+            strict.shutdown();
+        }
+    }
+
+    private Map<ImageVariant, BufferedImage> process(byte[] image, String expectedContentType) {
+        Map<ImageVariant, BufferedImage> variants = new EnumMap<>(ImageVariant.class);
+        imageProcessor.process(new ByteArrayInputStream(image), (variant, contentType, extension, data, length) -> {
+            assertThat(contentType).isEqualTo(expectedContentType);
+            variants.put(variant, ImageIO.read(new ByteArrayInputStream(data, 0, length)));
+        });
+        return variants;
+    }
+
+    private byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return out.toByteArray();
+    }
+
+    // SOI 바로 뒤에 Orientation=6 인 APP1(Exif) 세그먼트 삽입
+    private byte[] withExifOrientation6(byte[] jpeg) {
+        byte[] tiff = {'M', 'M', 0, 42, 0, 0, 0, 8, 0, 1, 0x01, 0x12, 0, 3, 0, 0, 0, 1, 0, 6, 0, 0, 0, 0, 0, 0};
+        int length = 2 + 6 + tiff.length;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(jpeg, 0, 2);
+        out.write(0xFF);
+        out.write(0xE1);
+        out.write(length >> 8);
+        out.write(length & 0xFF);
+        out.writeBytes(new byte[]{'E', 'x', 'i', 'f', 0, 0});
+        out.writeBytes(tiff);
+        out.write(jpeg, 2, jpeg.length - 2);
+        return out.toByteArray();
+    }
+
+    private boolean containsExif(byte[] jpeg) {
+        for (int i = 0; i + 3 < jpeg.length; i++) {
+            if (jpeg[i] == 'E' && jpeg[i + 1] == 'x' && jpeg[i + 2] == 'i' && jpeg[i + 3] == 'f') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
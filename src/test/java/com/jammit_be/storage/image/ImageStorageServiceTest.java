@@ -0,0 +1,139 @@
+package com.jammit_be.storage.image;
+
+import com.jammit_be.storage.dto.response.ImageUploadResponse;
+import com.jammit_be.storage.entity.StoredImage;
+import com.jammit_be.storage.repository.StoredImageRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("내용 기반 이미지 저장 테스트")
+class ImageStorageServiceTest {
+
+    @TempDir
+    static Path storageDir;
+
+    @DynamicPropertySource
+    static void storageProperties(DynamicPropertyRegistry registry) {
+        registry.add("storage.type", () -> "local");
+        registry.add("storage.local.base-path", () -> storageDir.toString());
+        registry.add("storage.content-addressed.enabled", () -> true);
+        registry.add("storage.content-addressed.gc-grace-hours", () -> 0);
+    }
+
+    @Autowired
+    private ImageStorageService imageStorageService;
+
+    @Autowired
+    private StoredImageCollector storedImageCollector;
+
+    @Autowired
+    private StoredImageRepository storedImageRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        storedImageRepository.deleteAll();
+        try (var files = Files.walk(storageDir)) {
+            for (Path path : files.filter(Files::isRegularFile).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("같은 이미지를 다시 올리면 기존 파일을 재사용하고 참조 수만 증가")
+    void save_sameContent_reusesStoredImage() throws IOException {
+        // given
+        byte[] png = image(Color.RED);
+        double hitsBefore = meterRegistry.get("app.storage.dedup_hit").counter().count();
+
+        // when
+        ImageUploadResponse first = imageStorageService.save(file("a.png", png), "profile");
+        ImageUploadResponse second = imageStorageService.save(file("b.png", png), "profile");
+
+        // then
+        assertThat(second.getMediumUrl()).isEqualTo(first.getMediumUrl());
+        assertThat(second.getSmallUrl()).isEqualTo(first.getSmallUrl());
+        assertThat(meterRegistry.get("app.storage.dedup_hit").counter().count()).isEqualTo(hitsBefore + 1);
+
+        List<StoredImage> stored = storedImageRepository.findAll();
+        assertThat(stored).hasSize(1);
+        assertThat(stored.get(0).getRefCount()).isEqualTo(2);
+        assertThat(stored.get(0).getKeyPrefix()).startsWith(ImageStorageService.CONTENT_ADDRESSED_PREFIX);
+        try (var files = Files.walk(storageDir)) {
+            assertThat(files.filter(Files::isRegularFile).count()).isEqualTo(ImageVariant.values().length);
+        }
+    }
+
+    @Test
+    @DisplayName("내용이 다르면 별도로 저장")
+    void save_differentContent_storesSeparately() throws IOException {
+        // when
+        ImageUploadResponse red = imageStorageService.save(file("red.png", image(Color.RED)), "profile");
+        ImageUploadResponse blue = imageStorageService.save(file("blue.png", image(Color.BLUE)), "profile");
+
+        // then
+        assertThat(red.getMediumUrl()).isNotEqualTo(blue.getMediumUrl());
+        assertThat(storedImageRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("참조가 모두 해제된 이미지만 GC 가 파일과 함께 삭제")
+    void collect_deletesOnlyUnreferencedImages() throws IOException {
+        // given
+        ImageUploadResponse kept = imageStorageService.save(file("kept.png", image(Color.GREEN)), "profile");
+        ImageUploadResponse released = imageStorageService.save(file("released.png", image(Color.BLACK)), "profile");
+        imageStorageService.release(released.getMediumUrl());
+        imageStorageService.release(released.getMediumUrl()); // 참조 수는 0 아래로 내려가지 않음
+        imageStorageService.release("https://example.com/unknown.jpg"); // 추적하지 않는 URL 은 무시
+
+        // when
+        storedImageCollector.collect();
+
+        // then
+        List<StoredImage> stored = storedImageRepository.findAll();
+        assertThat(stored).hasSize(1);
+        assertThat(stored.get(0).getMediumUrl()).isEqualTo(kept.getMediumUrl());
+        try (var files = Files.walk(storageDir)) {
+            assertThat(files.filter(Files::isRegularFile).count()).isEqualTo(ImageVariant.values().length);
+        }
+    }
+
+    private static MockMultipartFile file(String name, byte[] content) {
+        return new MockMultipartFile("file", name, "image/png", content);
+    }
+
+    private static byte[] image(Color color) throws IOException {
+        BufferedImage image = new BufferedImage(400, 300, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(color);
+        graphics.fillRect(0, 0, 400, 300);
+        graphics.dispose();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", output);
+        return output.toByteArray();
+    }
+}
@@ -1,18 +1,28 @@
 package com.jammit_be.user.service;
 
+import com.jammit_be.auth.entity.UserPrincipal;
+import com.jammit_be.auth.util.UserPrincipalCache;
 import com.jammit_be.common.enums.BandSession;
 import com.jammit_be.common.enums.Genre;
 import com.jammit_be.common.exception.AlertException;
+import com.jammit_be.common.monitor.RequestContext;
+import com.jammit_be.common.monitor.RequestContextHolder;
 import com.jammit_be.gathering.entity.Gathering;
 import com.jammit_be.gathering.entity.GatheringSession;
 import com.jammit_be.gathering.repository.GatheringRepository;
+import com.jammit_be.storage.entity.StoredImage;
+import com.jammit_be.storage.repository.StoredImageRepository;
 import com.jammit_be.user.dto.request.CreateUserRequest;
 import com.jammit_be.user.dto.request.UpdateImageRequest;
 import com.jammit_be.user.dto.request.UpdateUserRequest;
 import com.jammit_be.user.dto.response.UserResponse;
 import com.jammit_be.user.entity.OauthPlatform;
 import com.jammit_be.user.entity.User;
+import com.jammit_be.user.entity.PreferredBandSession;
+import com.jammit_be.user.entity.PreferredGenre;
 import com.jammit_be.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -23,7 +33,10 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -45,6 +58,15 @@ class UserServiceTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private UserPrincipalCache userPrincipalCache;
+
+    @Autowired
+    private StoredImageRepository storedImageRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
     private User testUser;
 
     @BeforeEach
@@ -65,6 +87,11 @@ class UserServiceTest {
         userRepository.save(testUser);
     }
 
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.clear();
+    }
+
     @Test
     @DisplayName("회원가입 성공 - 새로운 사용자 등록")
     void registerUser_success() {
@@ -247,6 +274,28 @@ class UserServiceTest {
         assertThat(updatedUser.getProfileImagePath()).isEqualTo("https://example.com/new-profile.jpg");
     }
 
+    @Test
+    @DisplayName("프로필 이미지 업데이트 실패 - 업로드하지 않은 내용 기반 이미지는 지정할 수 없음")
+    void updateProfileImage_rejectsForeignStoredImage() {
+        // given - 다른 사용자가 업로드한 이미지
+        String hash = "a".repeat(64);
+        String mediumUrl = "https://cdn.example.com/images/aa/" + hash + "_320.jpg";
+        storedImageRepository.saveAndFlush(StoredImage.create(hash, "images/aa/" + hash, "jpg",
+                "https://cdn.example.com/images/aa/" + hash + "_160.jpg", mediumUrl,
+                "https://cdn.example.com/images/aa/" + hash + "_1280.jpg"));
+        UpdateImageRequest request = UpdateImageRequest.builder()
+                .orgFileName("profile.jpg")
+                .profileImagePath(mediumUrl)
+                .build();
+
+        // when & then
+        assertThatThrownBy(() -> userService.updateProfileImage(testUser.getEmail(), request))
+                .isInstanceOf(AlertException.class)
+                .hasMessage("업로드한 이미지만 프로필 이미지로 지정할 수 있습니다.");
+        entityManager.clear();
+        assertThat(storedImageRepository.findById(hash).orElseThrow().getRefCount()).isEqualTo(1);
+    }
+
     @Test
     @DisplayName("프로필 이미지 업데이트 실패 - 존재하지 않는 사용자")
     void updateProfileImage_userNotFound() {
@@ -357,4 +406,162 @@ class UserServiceTest {
         assertThat(response.getTotalCreatedGatheringCount()).isEqualTo(2L);
         assertThat(response.getCompletedGatheringCount()).isEqualTo(1L);
     }
+
+    @Test
+    @DisplayName("회원정보 수정 시 인증 사용자 캐시 무효화")
+    void updateUserInfo_evictsPrincipalCache() {
+        // given
+        userPrincipalCache.put(testUser.getEmail(), UserPrincipal.from(testUser));
+        UpdateUserRequest request = UpdateUserRequest.builder()
+                .email("changed@example.com")
+                .build();
+
+        // when
+        userService.updateUserInfo(testUser.getEmail(), request);
+
+        // then - 변경 전 이메일로 캐시된 정보가 남아있지 않아야 함
+        assertThat(userPrincipalCache.get("test@example.com")).isNull();
+    }
+
+    @Test
+    @DisplayName("사용자 정보 수정 - 선호 장르/세션이 그대로면 선호 테이블에 SQL 을 실행하지 않음")
+    void updateUserInfo_unchangedPreferences_noPreferenceStatements() {
+        // given
+        entityManager.flush();
+        entityManager.clear();
+        UpdateUserRequest request = UpdateUserRequest.builder()
+                .preferredGenres(List.of(Genre.ROCK, Genre.JAZZ))
+                .preferredBandSessions(List.of(BandSession.VOCAL, BandSession.ELECTRIC_GUITAR))
+                .build();
+
+        // when
+        RequestContext ctx = startStatementTracking();
+        UserResponse response = userService.updateUserInfo(testUser.getEmail(), request);
+        entityManager.flush();
+
+        // then
+        assertThat(countStatements(ctx, sql -> sql.startsWith("insert"))).isZero();
+        assertThat(countStatements(ctx, sql -> sql.startsWith("delete"))).isZero();
+        assertThat(countStatements(ctx, sql -> sql.startsWith("update"))).isZero();
+        assertThat(response.getPreferredGenres()).containsExactlyInAnyOrder(Genre.ROCK, Genre.JAZZ);
+        assertThat(response.getPreferredBandSessions()).containsExactlyInAnyOrder(BandSession.VOCAL, BandSession.ELECTRIC_GUITAR);
+    }
+
+    @Test
+    @DisplayName("사용자 정보 수정 - 바뀐 선호 장르만 추가/삭제하고 순서가 바뀐 행만 수정")
+    void updateUserInfo_changedPreferences_onlyDeltas() {
+        // given - [ROCK, JAZZ] -> [JAZZ, POP]
+        entityManager.flush();
+        entityManager.clear();
+        UpdateUserRequest request = UpdateUserRequest.builder()
+                .preferredGenres(List.of(Genre.JAZZ, Genre.POP))
+                .preferredBandSessions(List.of(BandSession.VOCAL, BandSession.ELECTRIC_GUITAR))
+                .build();
+
+        // when
+        RequestContext ctx = startStatementTracking();
+        userService.updateUserInfo(testUser.getEmail(), request);
+        entityManager.flush();
+
+        // then - 록 삭제, 팝 추가, 재즈 우선순위 수정 / 밴드 세션은 그대로
+        assertThat(countStatements(ctx, sql -> sql.startsWith("delete from preferred_genre"))).isEqualTo(1);
+        assertThat(countStatements(ctx, sql -> sql.startsWith("insert into preferred_genre"))).isEqualTo(1);
+        assertThat(countStatements(ctx, sql -> sql.startsWith("update preferred_genre"))).isEqualTo(1);
+        assertThat(countStatements(ctx, sql -> sql.contains("preferred_band_session") && !sql.startsWith("select"))).isZero();
+
+        entityManager.clear();
+        User updatedUser = userRepository.findById(testUser.getId()).orElseThrow();
+        Map<Genre, Integer> priorities = updatedUser.getPreferredGenres().stream()
+                .collect(Collectors.toMap(PreferredGenre::getName, PreferredGenre::getPriority));
+        assertThat(priorities).containsExactlyInAnyOrderEntriesOf(Map.of(Genre.JAZZ, 0, Genre.POP, 1));
+        assertThat(updatedUser.getGenreMask()).containsExactlyInAnyOrder(Genre.JAZZ, Genre.POP);
+        assertThat(updatedUser.getSessionMask()).containsExactlyInAnyOrder(BandSession.VOCAL, BandSession.ELECTRIC_GUITAR);
+    }
+
+    @Test
+    @DisplayName("사용자 정보 수정 - 이전 버전이 중복 저장한 선호 장르 행은 하나만 남김")
+    void updateUserInfo_duplicatedLegacyRows() {
+        // given - 같은 장르/세션이 두 번 저장된 기존 사용자
+        testUser.getPreferredGenres().add(PreferredGenre.create(testUser, Genre.ROCK, 2));
+        testUser.getUserBandSessions().add(PreferredBandSession.create(testUser, BandSession.VOCAL, 2));
+        userRepository.save(testUser);
+        entityManager.flush();
+        entityManager.clear();
+        UpdateUserRequest request = UpdateUserRequest.builder()
+                .preferredGenres(List.of(Genre.ROCK, Genre.JAZZ))
+                .preferredBandSessions(List.of(BandSession.VOCAL, BandSession.ELECTRIC_GUITAR))
+                .build();
+
+        // when
+        UserResponse response = userService.updateUserInfo(testUser.getEmail(), request);
+        entityManager.flush();
+
+        // then
+        assertThat(response.getPreferredGenres()).containsExactlyInAnyOrder(Genre.ROCK, Genre.JAZZ);
+        assertThat(response.getPreferredBandSessions()).containsExactlyInAnyOrder(BandSession.VOCAL, BandSession.ELECTRIC_GUITAR);
+        entityManager.clear();
+        User updatedUser = userRepository.findById(testUser.getId()).orElseThrow();
+        assertThat(updatedUser.getPreferredGenres()).hasSize(2);
+        assertThat(updatedUser.getUserBandSessions()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("사용자 정보 수정 - 선호 장르/세션을 보내지 않으면 유지")
+    void updateUserInfo_nullPreferences_keepsPreferences() {
+        // given
+        UpdateUserRequest request = UpdateUserRequest.builder()
+                .username("renamed")
+                .build();
+
+        // when
+        UserResponse response = userService.updateUserInfo(testUser.getEmail(), request);
+
+        // then
+        assertThat(response.getPreferredGenres()).containsExactlyInAnyOrder(Genre.ROCK, Genre.JAZZ);
+        assertThat(response.getPreferredBandSessions()).containsExactlyInAnyOrder(BandSession.VOCAL, BandSession.ELECTRIC_GUITAR);
+    }
+
+    @Test
+    @DisplayName("사용자 정보 조회 - 전체/완료 모임 수를 쿼리 한 번으로 조회")
+    void getUserInfo_countsGatheringsInOneQuery() {
+        // given
+        Gathering gathering = Gathering.create(
+                "테스트 모임",
+                "thumbnail.jpg",
+                "서울시 강남구",
+                "테스트 모임입니다",
+                LocalDateTime.now().plusDays(7),
+                LocalDateTime.now().plusDays(5),
+                Set.of(Genre.ROCK),
+                List.of(GatheringSession.create(BandSession.VOCAL, 2)),
+                testUser
+        );
+        gathering.confirm();
+        gathering.complete();
+        gatheringRepository.save(gathering);
+        entityManager.flush();
+
+        // when
+        RequestContext ctx = startStatementTracking();
+        UserResponse response = userService.getUserInfo(testUser.getEmail());
+
+        // then
+        assertThat(countStatements(ctx, sql -> sql.startsWith("select") && sql.contains("from gathering "))).isEqualTo(1);
+        assertThat(response.getTotalCreatedGatheringCount()).isEqualTo(1L);
+        assertThat(response.getCompletedGatheringCount()).isEqualTo(1L);
+    }
+
+    private RequestContext startStatementTracking() {
+        RequestContext ctx = RequestContext.builder().httpMethod("PUT").bestMatchPath("/jammit/user").build();
+        ctx.enableStatementTracking();
+        RequestContextHolder.initContext(ctx);
+        return ctx;
+    }
+
+    private static int countStatements(RequestContext ctx, Predicate<String> filter) {
+        return ctx.getStatementCounts().entrySet().stream()
+                .filter(entry -> filter.test(entry.getKey()))
+                .mapToInt(Map.Entry::getValue)
+                .sum();
+    }
 }